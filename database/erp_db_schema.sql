@@ -41,6 +41,7 @@ CREATE TABLE IF NOT EXISTS sections (
     instructor_id INT,
     section_code VARCHAR(10) NOT NULL,
     day_time VARCHAR(100),
+    day_mask TINYINT UNSIGNED NOT NULL DEFAULT 0,
     room VARCHAR(50),
     capacity INT NOT NULL,
     enrolled_count INT DEFAULT 0,
@@ -81,6 +82,27 @@ CREATE TABLE IF NOT EXISTS grades (
     FOREIGN KEY (enrollment_id) REFERENCES enrollments(enrollment_id) ON DELETE CASCADE
 );
 
+CREATE TABLE IF NOT EXISTS final_grades (
+    enrollment_id INT PRIMARY KEY,
+    weighted_score DECIMAL(9,4) NOT NULL DEFAULT 0,
+    total_weightage DECIMAL(6,2) NOT NULL DEFAULT 0,
+    final_percentage DECIMAL(5,2),
+    letter_grade VARCHAR(5),
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (enrollment_id) REFERENCES enrollments(enrollment_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS waitlist (
+    waitlist_id INT PRIMARY KEY AUTO_INCREMENT,
+    student_id INT NOT NULL,
+    section_id INT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (student_id) REFERENCES students(student_id) ON DELETE CASCADE,
+    FOREIGN KEY (section_id) REFERENCES sections(section_id) ON DELETE CASCADE,
+    UNIQUE KEY unique_waitlist (student_id, section_id)
+);
+
 CREATE TABLE IF NOT EXISTS settings (
     setting_key VARCHAR(100) PRIMARY KEY,
     setting_value TEXT NOT NULL,
@@ -88,17 +110,64 @@ CREATE TABLE IF NOT EXISTS settings (
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
 
+CREATE TABLE IF NOT EXISTS change_log (
+    change_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    table_name VARCHAR(64) NOT NULL,
+    key_value VARCHAR(255) NOT NULL,
+    changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    KEY idx_change_log_table (table_name, changed_at),
+    KEY idx_change_log_changed (changed_at)
+);
+
 CREATE INDEX idx_student_user ON students(user_id);
 CREATE INDEX idx_instructor_user ON instructors(user_id);
 CREATE INDEX idx_course_code ON courses(code);
 CREATE INDEX idx_section_course ON sections(course_id);
 CREATE INDEX idx_section_instructor ON sections(instructor_id);
 CREATE INDEX idx_section_semester ON sections(semester, year);
+CREATE INDEX idx_section_catalog ON sections(year DESC, semester, course_id, section_id);
 CREATE INDEX idx_enrollment_student ON enrollments(student_id);
 CREATE INDEX idx_enrollment_section ON enrollments(section_id);
 CREATE INDEX idx_enrollment_status ON enrollments(status);
 CREATE INDEX idx_grade_enrollment ON grades(enrollment_id);
+CREATE INDEX idx_waitlist_section ON waitlist(section_id, waitlist_id);
 
 INSERT INTO settings (setting_key, setting_value, description)
 VALUES ('maintenance_mode', 'false', 'System maintenance mode flag')
 ON DUPLICATE KEY UPDATE setting_key=setting_key;
+
+DROP TRIGGER IF EXISTS trg_students_change_log;
+CREATE TRIGGER trg_students_change_log AFTER DELETE ON students
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('students', OLD.student_id);
+
+DROP TRIGGER IF EXISTS trg_instructors_change_log;
+CREATE TRIGGER trg_instructors_change_log AFTER DELETE ON instructors
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('instructors', OLD.instructor_id);
+
+DROP TRIGGER IF EXISTS trg_courses_change_log;
+CREATE TRIGGER trg_courses_change_log AFTER DELETE ON courses
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('courses', OLD.course_id);
+
+DROP TRIGGER IF EXISTS trg_sections_change_log;
+CREATE TRIGGER trg_sections_change_log AFTER DELETE ON sections
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('sections', OLD.section_id);
+
+DROP TRIGGER IF EXISTS trg_enrollments_change_log;
+CREATE TRIGGER trg_enrollments_change_log AFTER DELETE ON enrollments
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('enrollments', OLD.enrollment_id);
+
+DROP TRIGGER IF EXISTS trg_grades_change_log;
+CREATE TRIGGER trg_grades_change_log AFTER DELETE ON grades
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('grades', OLD.grade_id);
+
+DROP TRIGGER IF EXISTS trg_final_grades_change_log;
+CREATE TRIGGER trg_final_grades_change_log AFTER DELETE ON final_grades
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('final_grades', OLD.enrollment_id);
+
+DROP TRIGGER IF EXISTS trg_waitlist_change_log;
+CREATE TRIGGER trg_waitlist_change_log AFTER DELETE ON waitlist
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('waitlist', OLD.waitlist_id);
+
+DROP TRIGGER IF EXISTS trg_settings_change_log;
+CREATE TRIGGER trg_settings_change_log AFTER DELETE ON settings
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('settings', OLD.setting_key);
@@ -51,3 +51,36 @@ INSERT INTO grades (enrollment_id, component, score, max_score, weightage) VALUE
 INSERT INTO grades (enrollment_id, component, score, max_score, weightage) VALUES
 (4, 'Quiz', 19.0, 20.0, 20.0),
 (4, 'Midterm', 28.0, 30.0, 30.0);
+
+INSERT INTO final_grades (enrollment_id, weighted_score, total_weightage, final_percentage, letter_grade)
+SELECT t.enrollment_id,
+       t.weighted_units / 10000,
+       t.weightage_units / 100,
+       CASE WHEN t.weightage_units = 0 THEN NULL ELSE t.percentage_units / 100 END,
+       CASE WHEN t.weightage_units = 0 THEN NULL
+            WHEN t.percentage_units >= 9500 THEN 'A+'
+            WHEN t.percentage_units >= 9000 THEN 'A'
+            WHEN t.percentage_units >= 8500 THEN 'A-'
+            WHEN t.percentage_units >= 8000 THEN 'B+'
+            WHEN t.percentage_units >= 7500 THEN 'B'
+            WHEN t.percentage_units >= 7000 THEN 'B-'
+            WHEN t.percentage_units >= 6500 THEN 'C+'
+            WHEN t.percentage_units >= 6000 THEN 'C'
+            WHEN t.percentage_units >= 5500 THEN 'C-'
+            WHEN t.percentage_units >= 5000 THEN 'D'
+            ELSE 'F' END
+FROM (
+    SELECT u.enrollment_id, u.weighted_units, u.weightage_units,
+           (2 * u.weighted_units + 100) DIV 200 AS percentage_units
+    FROM (
+        SELECT g.enrollment_id,
+               SUM(CASE WHEN g.score IS NOT NULL AND g.max_score > 0 AND g.weightage IS NOT NULL
+                        THEN (2 * ((2 * g.score * 1000000 + g.max_score * 100) DIV (2 * g.max_score * 100)) * 100
+                              * (g.weightage * 100) + 10000) DIV 20000
+                        ELSE 0 END) AS weighted_units,
+               SUM(CASE WHEN g.score IS NOT NULL AND g.max_score > 0 AND g.weightage IS NOT NULL THEN g.weightage * 100 ELSE 0 END) AS weightage_units
+        FROM grades g
+        GROUP BY g.enrollment_id
+    ) u
+) t
+WHERE NOT EXISTS (SELECT 1 FROM final_grades fg WHERE fg.enrollment_id = t.enrollment_id);
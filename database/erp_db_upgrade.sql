@@ -0,0 +1,104 @@
+USE erp_db;
+
+ALTER TABLE sections ADD COLUMN day_mask TINYINT UNSIGNED NOT NULL DEFAULT 0 AFTER day_time;
+CREATE INDEX idx_section_catalog ON sections(year DESC, semester, course_id, section_id);
+
+CREATE TABLE IF NOT EXISTS waitlist (
+    waitlist_id INT PRIMARY KEY AUTO_INCREMENT,
+    student_id INT NOT NULL,
+    section_id INT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (student_id) REFERENCES students(student_id) ON DELETE CASCADE,
+    FOREIGN KEY (section_id) REFERENCES sections(section_id) ON DELETE CASCADE,
+    UNIQUE KEY unique_waitlist (student_id, section_id),
+    KEY idx_waitlist_section (section_id, waitlist_id)
+);
+
+CREATE TABLE IF NOT EXISTS final_grades (
+    enrollment_id INT PRIMARY KEY,
+    weighted_score DECIMAL(9,4) NOT NULL DEFAULT 0,
+    total_weightage DECIMAL(6,2) NOT NULL DEFAULT 0,
+    final_percentage DECIMAL(5,2),
+    letter_grade VARCHAR(5),
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (enrollment_id) REFERENCES enrollments(enrollment_id) ON DELETE CASCADE
+);
+
+INSERT INTO final_grades (enrollment_id, weighted_score, total_weightage, final_percentage, letter_grade)
+SELECT t.enrollment_id,
+       t.weighted_units / 10000,
+       t.weightage_units / 100,
+       CASE WHEN t.weightage_units = 0 THEN NULL ELSE t.percentage_units / 100 END,
+       CASE WHEN t.weightage_units = 0 THEN NULL
+            WHEN t.percentage_units >= 9500 THEN 'A+'
+            WHEN t.percentage_units >= 9000 THEN 'A'
+            WHEN t.percentage_units >= 8500 THEN 'A-'
+            WHEN t.percentage_units >= 8000 THEN 'B+'
+            WHEN t.percentage_units >= 7500 THEN 'B'
+            WHEN t.percentage_units >= 7000 THEN 'B-'
+            WHEN t.percentage_units >= 6500 THEN 'C+'
+            WHEN t.percentage_units >= 6000 THEN 'C'
+            WHEN t.percentage_units >= 5500 THEN 'C-'
+            WHEN t.percentage_units >= 5000 THEN 'D'
+            ELSE 'F' END
+FROM (
+    SELECT u.enrollment_id, u.weighted_units, u.weightage_units,
+           (2 * u.weighted_units + 100) DIV 200 AS percentage_units
+    FROM (
+        SELECT g.enrollment_id,
+               SUM(CASE WHEN g.score IS NOT NULL AND g.max_score > 0 AND g.weightage IS NOT NULL
+                        THEN (2 * ((2 * g.score * 1000000 + g.max_score * 100) DIV (2 * g.max_score * 100)) * 100
+                              * (g.weightage * 100) + 10000) DIV 20000
+                        ELSE 0 END) AS weighted_units,
+               SUM(CASE WHEN g.score IS NOT NULL AND g.max_score > 0 AND g.weightage IS NOT NULL THEN g.weightage * 100 ELSE 0 END) AS weightage_units
+        FROM grades g
+        GROUP BY g.enrollment_id
+    ) u
+) t
+WHERE NOT EXISTS (SELECT 1 FROM final_grades fg WHERE fg.enrollment_id = t.enrollment_id);
+
+CREATE TABLE IF NOT EXISTS change_log (
+    change_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    table_name VARCHAR(64) NOT NULL,
+    key_value VARCHAR(255) NOT NULL,
+    changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    KEY idx_change_log_table (table_name, changed_at),
+    KEY idx_change_log_changed (changed_at)
+);
+
+DROP TRIGGER IF EXISTS trg_students_change_log;
+CREATE TRIGGER trg_students_change_log AFTER DELETE ON students
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('students', OLD.student_id);
+
+DROP TRIGGER IF EXISTS trg_instructors_change_log;
+CREATE TRIGGER trg_instructors_change_log AFTER DELETE ON instructors
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('instructors', OLD.instructor_id);
+
+DROP TRIGGER IF EXISTS trg_courses_change_log;
+CREATE TRIGGER trg_courses_change_log AFTER DELETE ON courses
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('courses', OLD.course_id);
+
+DROP TRIGGER IF EXISTS trg_sections_change_log;
+CREATE TRIGGER trg_sections_change_log AFTER DELETE ON sections
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('sections', OLD.section_id);
+
+DROP TRIGGER IF EXISTS trg_enrollments_change_log;
+CREATE TRIGGER trg_enrollments_change_log AFTER DELETE ON enrollments
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('enrollments', OLD.enrollment_id);
+
+DROP TRIGGER IF EXISTS trg_grades_change_log;
+CREATE TRIGGER trg_grades_change_log AFTER DELETE ON grades
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('grades', OLD.grade_id);
+
+DROP TRIGGER IF EXISTS trg_final_grades_change_log;
+CREATE TRIGGER trg_final_grades_change_log AFTER DELETE ON final_grades
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('final_grades', OLD.enrollment_id);
+
+DROP TRIGGER IF EXISTS trg_waitlist_change_log;
+CREATE TRIGGER trg_waitlist_change_log AFTER DELETE ON waitlist
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('waitlist', OLD.waitlist_id);
+
+DROP TRIGGER IF EXISTS trg_settings_change_log;
+CREATE TRIGGER trg_settings_change_log AFTER DELETE ON settings
+FOR EACH ROW INSERT INTO change_log (table_name, key_value) VALUES ('settings', OLD.setting_key);
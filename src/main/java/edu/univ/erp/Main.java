@@ -1,6 +1,7 @@
 package edu.univ.erp;
 
 import com.formdev.flatlaf.FlatDarkLaf;
+import edu.univ.erp.auth.AuthService;
 import edu.univ.erp.ui.common.LoginFrame;
 import edu.univ.erp.ui.common.UITheme;
 import edu.univ.erp.util.DatabaseManager;
@@ -78,6 +79,7 @@ public class Main {
 
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             logger.info("Shutting down...");
+            AuthService.getInstance().shutdown();
             DatabaseManager.getInstance().close();
         }));
     }
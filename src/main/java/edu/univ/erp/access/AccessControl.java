@@ -1,15 +1,19 @@
 package edu.univ.erp.access;
 
 import edu.univ.erp.auth.SessionManager;
-import edu.univ.erp.data.SettingDAO;
+import edu.univ.erp.data.SettingsCache;
+import edu.univ.erp.data.StudentDAO;
+import edu.univ.erp.domain.Student;
 import edu.univ.erp.domain.User;
 
 public class AccessControl {
     private static AccessControl instance;
-    private final SettingDAO settingDAO;
+    private final SettingsCache settings;
+    private final StudentDAO studentDAO;
 
     private AccessControl() {
-        this.settingDAO = new SettingDAO();
+        this.settings = SettingsCache.getInstance();
+        this.studentDAO = new StudentDAO();
     }
 
     public static synchronized AccessControl getInstance() {
@@ -20,11 +24,11 @@ public class AccessControl {
     }
 
     public boolean isMaintenanceModeEnabled() {
-        return settingDAO.getMaintenanceMode();
+        return settings.isMaintenanceMode();
     }
 
     public boolean isAddDropEnabled() {
-        return settingDAO.isAddDropEnabled();
+        return settings.isAddDropEnabled();
     }
 
     public boolean canModifyData() {
@@ -65,6 +69,24 @@ public class AccessControl {
         return true;
     }
 
+    public boolean canActForStudent(int studentId) {
+        User currentUser = SessionManager.getInstance().getCurrentUser();
+        if (currentUser == null) {
+            return false;
+        }
+
+        if (currentUser.getRole() == User.UserRole.ADMIN) {
+            return true;
+        }
+
+        if (currentUser.getRole() != User.UserRole.STUDENT) {
+            return false;
+        }
+
+        Student student = studentDAO.getById(studentId);
+        return student != null && student.getUserId() == currentUser.getUserId();
+    }
+
     public boolean isAdmin() {
         User currentUser = SessionManager.getInstance().getCurrentUser();
         return currentUser != null && currentUser.getRole() == User.UserRole.ADMIN;
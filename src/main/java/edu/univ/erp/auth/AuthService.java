@@ -2,19 +2,31 @@ package edu.univ.erp.auth;
 
 import edu.univ.erp.domain.User;
 import edu.univ.erp.util.DatabaseManager;
-import org.mindrot.jbcrypt.BCrypt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
 import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
 
 public class AuthService {
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
     private static final int MAX_FAILED_ATTEMPTS = 5;
+    private static final String LOCAL_CLIENT = "local";
+    private static final String LOCKED_MESSAGE = "Your account has been locked due to too many failed login attempts. Please contact an administrator.";
     private static AuthService instance;
 
-    private AuthService() {}
+    private final PasswordHasher hasher;
+    private final LastLoginBuffer lastLogins;
+    private final LoginThrottle throttle;
+
+    private AuthService() {
+        DatabaseManager db = DatabaseManager.getInstance();
+        this.hasher = PasswordHasher.getInstance();
+        this.lastLogins = new LastLoginBuffer();
+        this.throttle = new LoginThrottle(db.getIntProperty("auth.throttle.windowSeconds", 900),
+                MAX_FAILED_ATTEMPTS, db.getIntProperty("auth.throttle.clientMaxFailures", 20));
+    }
 
     public static synchronized AuthService getInstance() {
         if (instance == null) {
@@ -29,108 +41,155 @@ public class AuthService {
     }
 
     public LoginResult loginWithResult(String username, String password) {
+        return loginWithResult(username, password, LOCAL_CLIENT);
+    }
+
+    public LoginResult loginWithResult(String username, String password, String client) {
         if (username == null || password == null || username.trim().isEmpty() || password.trim().isEmpty()) {
             logger.warn("Login attempt with empty credentials");
             return LoginResult.failure("Please enter username and password.");
         }
 
-        try (Connection conn = DatabaseManager.getInstance().getAuthConnection()) {
-            String sql = "SELECT user_id, username, role, password_hash, status, failed_login_attempts " +
-                        "FROM users_auth WHERE username = ?";
+        long clientWait = throttle.clientRetryAfterSeconds(client);
+        if (clientWait > 0) {
+            logger.warn("Throttled login attempt from client {}", client);
+            return LoginResult.failure("Too many failed login attempts. Please try again in " + clientWait + " second(s).");
+        }
 
-            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-                pstmt.setString(1, username.trim());
-                ResultSet rs = pstmt.executeQuery();
+        long usernameWait = throttle.usernameRetryAfterSeconds(username);
 
-                if (rs.next()) {
-                    User user = mapResultSetToUser(rs);
-
-                    if (user.getStatus() == User.UserStatus.LOCKED) {
-                        logger.warn("Login attempt for locked account: {}", username);
-                        return LoginResult.locked("Your account has been locked due to too many failed login attempts. Please contact an administrator.");
-                    }
-
-                    if (user.getStatus() == User.UserStatus.INACTIVE) {
-                        logger.warn("Login attempt for inactive account: {}", username);
-                        return LoginResult.failure("Your account is inactive. Please contact an administrator.");
-                    }
-
-                    logger.info("Verifying password for user: {}", username.trim());
-                    boolean passwordMatch = BCrypt.checkpw(password.trim(), user.getPasswordHash());
-
-                    if (passwordMatch) {
-
-                        resetFailedAttempts(conn, user.getUserId());
-                        updateLastLogin(conn, user.getUserId());
-                        logger.info("Successful login for user: {}", username.trim());
-                        return LoginResult.success(user);
-                    } else {
-
-                        incrementFailedAttempts(conn, user.getUserId());
-                        int newAttempts = user.getFailedLoginAttempts() + 1;
-                        logger.warn("Failed login attempt for user: {}", username.trim());
-
-                        if (newAttempts >= MAX_FAILED_ATTEMPTS) {
-                            return LoginResult.locked("Your account has been locked due to too many failed login attempts. Please contact an administrator.");
-                        }
-
-                        int remaining = MAX_FAILED_ATTEMPTS - newAttempts;
-                        if (remaining <= 2) {
-                            return LoginResult.failure("Incorrect username or password. Warning: " + remaining + " attempt(s) remaining before account is locked.");
-                        }
-                        return LoginResult.failure("Incorrect username or password.");
-                    }
-                }
-            }
+        User user;
+        try {
+            user = findByUsername(username.trim());
         } catch (SQLException e) {
             logger.error("Error during login", e);
             return LoginResult.failure("Login error. Please try again.");
         }
 
+        if (usernameWait > 0) {
+            if (user != null && user.getStatus() == User.UserStatus.ACTIVE && user.getFailedLoginAttempts() == 0) {
+                throttle.recordSuccess(username);
+                logger.info("Cleared login throttle for unlocked user: {}", username.trim());
+            } else if (user == null || user.getStatus() != User.UserStatus.LOCKED) {
+                logger.warn("Throttled login attempt for user: {}", username.trim());
+                return LoginResult.failure("Too many failed login attempts. Please try again in " + usernameWait + " second(s).");
+            }
+        }
+
+        if (user == null) {
+            throttle.recordFailure(username, client);
+            return LoginResult.failure("Incorrect username or password.");
+        }
+
+        if (user.getStatus() == User.UserStatus.LOCKED) {
+            logger.warn("Login attempt for locked account: {}", username);
+            return LoginResult.locked(LOCKED_MESSAGE);
+        }
+
+        if (user.getStatus() == User.UserStatus.INACTIVE) {
+            logger.warn("Login attempt for inactive account: {}", username);
+            return LoginResult.failure("Your account is inactive. Please contact an administrator.");
+        }
+
+        logger.info("Verifying password for user: {}", username.trim());
+        boolean passwordMatch;
+        try {
+            passwordMatch = hasher.verify(password.trim(), user.getPasswordHash());
+        } catch (RejectedExecutionException e) {
+            return LoginResult.failure(PasswordHasher.BUSY_MESSAGE);
+        }
+
+        if (passwordMatch) {
+            throttle.recordSuccess(username);
+            if (hasher.needsRehash(user.getPasswordHash())) {
+                String oldHash = user.getPasswordHash();
+                hasher.rehashAsync(password.trim(), newHash -> replaceHash(user.getUserId(), oldHash, newHash));
+            }
+            LocalDateTime now = LocalDateTime.now();
+            if (user.getFailedLoginAttempts() > 0) {
+                try {
+                    recordSuccessfulLogin(user.getUserId(), now);
+                } catch (SQLException e) {
+                    logger.error("Error during login", e);
+                    return LoginResult.failure("Login error. Please try again.");
+                }
+            } else {
+                lastLogins.record(user.getUserId(), now);
+            }
+            logger.info("Successful login for user: {}", username.trim());
+            return LoginResult.success(user);
+        }
+
+        int newAttempts = Math.max(throttle.recordFailure(username, client), user.getFailedLoginAttempts() + 1);
+        logger.warn("Failed login attempt for user: {}", username.trim());
+
+        if (newAttempts >= MAX_FAILED_ATTEMPTS) {
+            try {
+                lockAccount(user.getUserId(), newAttempts);
+                logger.warn("Account locked after {} failed attempts: {}", newAttempts, username.trim());
+            } catch (SQLException e) {
+                logger.error("Error locking account for user: {}", username.trim(), e);
+            }
+            return LoginResult.locked(LOCKED_MESSAGE);
+        }
+
+        int remaining = MAX_FAILED_ATTEMPTS - newAttempts;
+        if (remaining <= 2) {
+            return LoginResult.failure("Incorrect username or password. Warning: " + remaining + " attempt(s) remaining before account is locked.");
+        }
         return LoginResult.failure("Incorrect username or password.");
     }
 
+    public LoginResult openSession(String username, String password, String client) {
+        LoginResult result = loginWithResult(username, password, client);
+        if (!result.isSuccess()) {
+            return result;
+        }
+        Session session = SessionManager.getInstance().createSession(result.getUser(), client);
+        return LoginResult.success(result.getUser(), session.getToken());
+    }
+
+    public void closeSession(String token) {
+        SessionManager.getInstance().invalidate(token);
+    }
+
     public boolean changePassword(int userId, String oldPassword, String newPassword) {
         if (newPassword == null || newPassword.length() < 8) {
             logger.warn("Password change attempt with invalid new password");
             return false;
         }
 
+        String currentHash = null;
         try (Connection conn = DatabaseManager.getInstance().getAuthConnection()) {
-
             String sql = "SELECT password_hash FROM users_auth WHERE user_id = ?";
             try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
                 pstmt.setInt(1, userId);
                 ResultSet rs = pstmt.executeQuery();
-
                 if (rs.next()) {
-                    String currentHash = rs.getString("password_hash");
-                    if (!BCrypt.checkpw(oldPassword.trim(), currentHash)) {
-                        logger.warn("Password change failed - incorrect old password for user: {}", userId);
-                        return false;
-                    }
-                }
-            }
-
-            String updateSql = "UPDATE users_auth SET password_hash = ?, updated_at = ? WHERE user_id = ?";
-            try (PreparedStatement pstmt = conn.prepareStatement(updateSql)) {
-                String newHash = BCrypt.hashpw(newPassword.trim(), BCrypt.gensalt());
-                pstmt.setString(1, newHash);
-                pstmt.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
-                pstmt.setInt(3, userId);
-
-                int rows = pstmt.executeUpdate();
-                if (rows > 0) {
-                    logger.info("Password changed successfully for user: {}", userId);
-
-                    storePasswordHistory(conn, userId, newHash);
-                    return true;
+                    currentHash = rs.getString("password_hash");
                 }
             }
         } catch (SQLException e) {
             logger.error("Error changing password", e);
+            return false;
+        }
+
+        String newHash;
+        try {
+            if (currentHash != null && !hasher.verify(oldPassword.trim(), currentHash)) {
+                logger.warn("Password change failed - incorrect old password for user: {}", userId);
+                return false;
+            }
+            newHash = hasher.hash(newPassword.trim());
+        } catch (RejectedExecutionException e) {
+            logger.warn("Password change for user {} rejected: hasher busy", userId);
+            return false;
         }
 
+        if (updatePasswordHash(userId, newHash)) {
+            logger.info("Password changed successfully for user: {}", userId);
+            return true;
+        }
         return false;
     }
 
@@ -140,58 +199,89 @@ public class AuthService {
             return false;
         }
 
-        try (Connection conn = DatabaseManager.getInstance().getAuthConnection()) {
+        String newHash;
+        try {
+            newHash = hasher.hash(newPassword.trim());
+        } catch (RejectedExecutionException e) {
+            logger.warn("Admin password reset for user {} rejected: hasher busy", userId);
+            return false;
+        }
 
-            String updateSql = "UPDATE users_auth SET password_hash = ?, updated_at = ? WHERE user_id = ?";
-            try (PreparedStatement pstmt = conn.prepareStatement(updateSql)) {
-                String newHash = BCrypt.hashpw(newPassword.trim(), BCrypt.gensalt());
-                pstmt.setString(1, newHash);
-                pstmt.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
-                pstmt.setInt(3, userId);
+        if (updatePasswordHash(userId, newHash)) {
+            logger.info("Admin password reset successful for user: {}", userId);
+            return true;
+        }
+        return false;
+    }
 
-                int rows = pstmt.executeUpdate();
-                if (rows > 0) {
-                    logger.info("Admin password reset successful for user: {}", userId);
+    private User findByUsername(String username) throws SQLException {
+        String sql = "SELECT user_id, username, role, password_hash, status, failed_login_attempts " +
+                    "FROM users_auth WHERE username = ?";
+        try (Connection conn = DatabaseManager.getInstance().getAuthConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, username);
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next() ? mapResultSetToUser(rs) : null;
+        }
+    }
 
-                    storePasswordHistory(conn, userId, newHash);
-                    return true;
-                }
+    private boolean updatePasswordHash(int userId, String newHash) {
+        String updateSql = "UPDATE users_auth SET password_hash = ?, updated_at = ? WHERE user_id = ?";
+        try (Connection conn = DatabaseManager.getInstance().getAuthConnection();
+             PreparedStatement pstmt = conn.prepareStatement(updateSql)) {
+            pstmt.setString(1, newHash);
+            pstmt.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+            pstmt.setInt(3, userId);
+
+            if (pstmt.executeUpdate() > 0) {
+                storePasswordHistory(conn, userId, newHash);
+                return true;
             }
         } catch (SQLException e) {
-            logger.error("Error during admin password reset", e);
+            logger.error("Error updating password for user {}", userId, e);
         }
-
         return false;
     }
 
-    private void incrementFailedAttempts(Connection conn, int userId) throws SQLException {
-        String sql = "UPDATE users_auth SET failed_login_attempts = failed_login_attempts + 1, " +
-                    "status = CASE WHEN failed_login_attempts + 1 >= ? THEN 'LOCKED' ELSE status END " +
-                    "WHERE user_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setInt(1, MAX_FAILED_ATTEMPTS);
+    private void lockAccount(int userId, int failedAttempts) throws SQLException {
+        String sql = "UPDATE users_auth SET status = 'LOCKED', failed_login_attempts = ? WHERE user_id = ?";
+        try (Connection conn = DatabaseManager.getInstance().getAuthConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, failedAttempts);
             pstmt.setInt(2, userId);
             pstmt.executeUpdate();
         }
     }
 
-    private void resetFailedAttempts(Connection conn, int userId) throws SQLException {
-        String sql = "UPDATE users_auth SET failed_login_attempts = 0 WHERE user_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setInt(1, userId);
+    private void recordSuccessfulLogin(int userId, LocalDateTime loginTime) throws SQLException {
+        String sql = "UPDATE users_auth SET failed_login_attempts = 0, last_login = ? WHERE user_id = ?";
+        try (Connection conn = DatabaseManager.getInstance().getAuthConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setTimestamp(1, Timestamp.valueOf(loginTime));
+            pstmt.setInt(2, userId);
             pstmt.executeUpdate();
         }
     }
 
-    private void updateLastLogin(Connection conn, int userId) throws SQLException {
-        String sql = "UPDATE users_auth SET last_login = ? WHERE user_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+    private void replaceHash(int userId, String oldHash, String newHash) {
+        String sql = "UPDATE users_auth SET password_hash = ? WHERE user_id = ? AND password_hash = ?";
+        try (Connection conn = DatabaseManager.getInstance().getAuthConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, newHash);
             pstmt.setInt(2, userId);
-            pstmt.executeUpdate();
+            pstmt.setString(3, oldHash);
+            if (pstmt.executeUpdate() > 0) {
+                logger.info("Rehashed password for user {} at cost {}", userId, PasswordHasher.costOf(newHash));
+            }
+        } catch (SQLException e) {
+            logger.error("Error rehashing password for user {}", userId, e);
         }
     }
 
+    public void shutdown() {
+        lastLogins.close();
+    }
+
     private void storePasswordHistory(Connection conn, int userId, String passwordHash) {
         String sql = "INSERT INTO password_history (user_id, password_hash) VALUES (?, ?)";
         try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
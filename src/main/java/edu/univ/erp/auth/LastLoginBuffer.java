@@ -0,0 +1,93 @@
+package edu.univ.erp.auth;
+
+import edu.univ.erp.util.DatabaseManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class LastLoginBuffer {
+    private static final Logger logger = LoggerFactory.getLogger(LastLoginBuffer.class);
+
+    private final ConcurrentHashMap<Integer, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final int batchSize;
+
+    LastLoginBuffer() {
+        DatabaseManager db = DatabaseManager.getInstance();
+        long flushMillis = Math.max(100, db.getIntProperty("auth.lastLogin.flushMillis", 5000));
+        this.batchSize = Math.max(1, db.getIntProperty("auth.lastLogin.batchSize", 500));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "last-login-writer");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void record(int userId, LocalDateTime loginTime) {
+        pending.merge(userId, loginTime, (a, b) -> a.isAfter(b) ? a : b);
+        if (pending.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                flushScheduled.set(false);
+                flush();
+            });
+        }
+    }
+
+    synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Integer, LocalDateTime>> batch = new ArrayList<>(pending.size());
+        for (Integer userId : new ArrayList<>(pending.keySet())) {
+            LocalDateTime loginTime = pending.remove(userId);
+            if (loginTime != null) {
+                batch.add(Map.entry(userId, loginTime));
+            }
+        }
+
+        String sql = "UPDATE users_auth SET last_login = ? WHERE user_id = ? AND (last_login IS NULL OR last_login < ?)";
+        try (Connection conn = DatabaseManager.getInstance().getAuthConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                for (Map.Entry<Integer, LocalDateTime> entry : batch) {
+                    Timestamp loginTime = Timestamp.valueOf(entry.getValue());
+                    pstmt.setTimestamp(1, loginTime);
+                    pstmt.setInt(2, entry.getKey());
+                    pstmt.setTimestamp(3, loginTime);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+                conn.commit();
+                logger.debug("Flushed last_login for {} user(s)", batch.size());
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            logger.error("Error flushing last_login for {} user(s)", batch.size(), e);
+            for (Map.Entry<Integer, LocalDateTime> entry : batch) {
+                pending.merge(entry.getKey(), entry.getValue(), (a, b) -> a.isAfter(b) ? a : b);
+            }
+        }
+    }
+
+    void close() {
+        scheduler.shutdown();
+        flush();
+    }
+}
@@ -6,23 +6,29 @@ public class LoginResult {
     private final User user;
     private final String errorMessage;
     private final boolean accountLocked;
+    private final String sessionToken;
 
-    private LoginResult(User user, String errorMessage, boolean accountLocked) {
+    private LoginResult(User user, String errorMessage, boolean accountLocked, String sessionToken) {
         this.user = user;
         this.errorMessage = errorMessage;
         this.accountLocked = accountLocked;
+        this.sessionToken = sessionToken;
     }
 
     public static LoginResult success(User user) {
-        return new LoginResult(user, null, false);
+        return new LoginResult(user, null, false, null);
+    }
+
+    public static LoginResult success(User user, String sessionToken) {
+        return new LoginResult(user, null, false, sessionToken);
     }
 
     public static LoginResult failure(String errorMessage) {
-        return new LoginResult(null, errorMessage, false);
+        return new LoginResult(null, errorMessage, false, null);
     }
 
     public static LoginResult locked(String errorMessage) {
-        return new LoginResult(null, errorMessage, true);
+        return new LoginResult(null, errorMessage, true, null);
     }
 
     public boolean isSuccess() {
@@ -40,4 +46,8 @@ public class LoginResult {
     public boolean isAccountLocked() {
         return accountLocked;
     }
+
+    public String getSessionToken() {
+        return sessionToken;
+    }
 }
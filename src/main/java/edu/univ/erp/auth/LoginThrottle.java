@@ -0,0 +1,107 @@
+package edu.univ.erp.auth;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LoginThrottle {
+    private static final int PRUNE_EVERY = 1024;
+
+    private final ConcurrentHashMap<String, Window> byUsername = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Window> byClient = new ConcurrentHashMap<>();
+    private final AtomicInteger recordsSincePrune = new AtomicInteger();
+    private final long windowNanos;
+    private final int usernameLimit;
+    private final int clientLimit;
+
+    LoginThrottle(long windowSeconds, int usernameLimit, int clientLimit) {
+        this.windowNanos = TimeUnit.SECONDS.toNanos(Math.max(1, windowSeconds));
+        this.usernameLimit = Math.max(1, usernameLimit);
+        this.clientLimit = Math.max(1, clientLimit);
+    }
+
+    long usernameRetryAfterSeconds(String username) {
+        return retryAfterSeconds(byUsername.get(normalize(username)), usernameLimit);
+    }
+
+    long clientRetryAfterSeconds(String client) {
+        return retryAfterSeconds(byClient.get(client), clientLimit);
+    }
+
+    int recordFailure(String username, String client) {
+        long now = System.nanoTime();
+        byClient.computeIfAbsent(client, k -> new Window(clientLimit)).add(now, windowNanos);
+        int failures = byUsername.computeIfAbsent(normalize(username), k -> new Window(usernameLimit)).add(now, windowNanos);
+        if (recordsSincePrune.incrementAndGet() >= PRUNE_EVERY) {
+            recordsSincePrune.set(0);
+            prune(byUsername, now);
+            prune(byClient, now);
+        }
+        return failures;
+    }
+
+    void recordSuccess(String username) {
+        byUsername.remove(normalize(username));
+    }
+
+    private long retryAfterSeconds(Window window, int limit) {
+        if (window == null) {
+            return 0;
+        }
+        long waitNanos = window.retryAfter(System.nanoTime(), windowNanos, limit);
+        return waitNanos <= 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos));
+    }
+
+    private void prune(Map<String, Window> windows, long now) {
+        Iterator<Window> it = windows.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().count(now, windowNanos) == 0) {
+                it.remove();
+            }
+        }
+    }
+
+    private static String normalize(String username) {
+        return username.trim().toLowerCase();
+    }
+
+    private static final class Window {
+        private final long[] stamps;
+        private int head;
+        private int size;
+
+        private Window(int capacity) {
+            this.stamps = new long[capacity];
+        }
+
+        synchronized int add(long now, long windowNanos) {
+            expire(now, windowNanos);
+            stamps[(head + size) % stamps.length] = now;
+            if (size < stamps.length) {
+                size++;
+            } else {
+                head = (head + 1) % stamps.length;
+            }
+            return size;
+        }
+
+        synchronized int count(long now, long windowNanos) {
+            expire(now, windowNanos);
+            return size;
+        }
+
+        synchronized long retryAfter(long now, long windowNanos, int limit) {
+            expire(now, windowNanos);
+            return size < limit ? 0 : stamps[head] + windowNanos - now;
+        }
+
+        private void expire(long now, long windowNanos) {
+            while (size > 0 && now - stamps[head] >= windowNanos) {
+                head = (head + 1) % stamps.length;
+                size--;
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package edu.univ.erp.auth;
+
+import edu.univ.erp.data.SettingDAO;
+import edu.univ.erp.data.SettingsCache;
+import edu.univ.erp.util.DatabaseManager;
+import org.mindrot.jbcrypt.BCrypt;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+public class PasswordHasher {
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+    public static final String BUSY_MESSAGE = "The server is busy signing other users in. Please try again in a moment.";
+    private static final int DEFAULT_COST = 10;
+    private static final int MIN_COST = 10;
+    private static final int MAX_COST = 16;
+    private static PasswordHasher instance;
+
+    private final ThreadPoolExecutor executor;
+    private final long metricsIntervalNanos;
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    private final AtomicLong lastMetricsLog = new AtomicLong(System.nanoTime());
+    private final int configuredCost;
+    private final long latencyBudgetMillis;
+    private final SettingsCache settings;
+
+    private PasswordHasher() {
+        DatabaseManager db = DatabaseManager.getInstance();
+        int threads = Math.max(1, db.getIntProperty("auth.hash.threads", Runtime.getRuntime().availableProcessors()));
+        int queueCapacity = Math.max(1, db.getIntProperty("auth.hash.queueCapacity", threads * 16));
+        this.metricsIntervalNanos = TimeUnit.SECONDS.toNanos(db.getIntProperty("auth.hash.metricsLogSeconds", 60));
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "password-hasher-" + threadIndex.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        logger.info("Password hasher started with {} threads, queue capacity {}", threads, queueCapacity);
+
+        this.configuredCost = parseCost(db.getProperty("auth.hash.cost", String.valueOf(DEFAULT_COST)), DEFAULT_COST);
+        this.latencyBudgetMillis = db.getIntProperty("auth.hash.latencyBudgetMillis", 250);
+        this.settings = SettingsCache.getInstance();
+    }
+
+    public static synchronized PasswordHasher getInstance() {
+        if (instance == null) {
+            instance = new PasswordHasher();
+        }
+        return instance;
+    }
+
+    public boolean verify(String password, String hash) {
+        return execute(() -> {
+            try {
+                return BCrypt.checkpw(password, hash);
+            } catch (IllegalArgumentException e) {
+                logger.error("Stored password hash is malformed", e);
+                return false;
+            }
+        });
+    }
+
+    public String hash(String password) {
+        int cost = getTargetCost();
+        return execute(() -> BCrypt.hashpw(password, BCrypt.gensalt(cost)));
+    }
+
+    public boolean rehashAsync(String password, Consumer<String> onHashed) {
+        int cost = getTargetCost();
+        try {
+            executor.execute(() -> {
+                try {
+                    onHashed.accept(BCrypt.hashpw(password, BCrypt.gensalt(cost)));
+                } catch (RuntimeException e) {
+                    logger.error("Background rehash failed", e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    public boolean needsRehash(String hash) {
+        int cost = costOf(hash);
+        return cost > 0 && cost != getTargetCost();
+    }
+
+    public int getTargetCost() {
+        String shared = settings.getValue(SettingDAO.AUTH_HASH_COST_KEY);
+        return shared != null ? parseCost(shared, configuredCost) : configuredCost;
+    }
+
+    public long getLatencyBudgetMillis() {
+        return latencyBudgetMillis;
+    }
+
+    public int calibrate(long budgetMillis) {
+        int chosen = MIN_COST;
+        for (int cost = MIN_COST; cost <= MAX_COST; cost++) {
+            double millis = measureMillis(cost);
+            logger.info("BCrypt cost {}: {} ms per hash", cost, String.format("%.1f", millis));
+            if (millis > budgetMillis) {
+                break;
+            }
+            chosen = cost;
+        }
+        logger.info("Calibrated BCrypt cost {} for a {} ms budget", chosen, budgetMillis);
+        return chosen;
+    }
+
+    static double measureMillis(int cost) {
+        long start = System.nanoTime();
+        BCrypt.checkpw("calibration", BCrypt.hashpw("calibration", BCrypt.gensalt(cost)));
+        return (System.nanoTime() - start) / 2_000_000.0;
+    }
+
+    static int costOf(String hash) {
+        if (hash == null || hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hash.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int parseCost(String value, int fallback) {
+        try {
+            return Math.max(4, Math.min(31, Integer.parseInt(value.trim())));
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid BCrypt cost '{}', using {}", value, fallback);
+            return fallback;
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public double getAverageHashMillis() {
+        long count = completed.sum();
+        return count == 0 ? 0 : hashNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double getMaxHashMillis() {
+        return maxHashNanos.get() / 1_000_000.0;
+    }
+
+    public double getAverageQueueWaitMillis() {
+        long count = completed.sum();
+        return count == 0 ? 0 : queueWaitNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double getMaxQueueWaitMillis() {
+        return maxQueueWaitNanos.get() / 1_000_000.0;
+    }
+
+    public String getMetricsSummary() {
+        return String.format("completed=%d rejected=%d queued=%d hash avg=%.1fms max=%.1fms wait avg=%.1fms max=%.1fms",
+                getCompletedCount(), getRejectedCount(), getQueueDepth(),
+                getAverageHashMillis(), getMaxHashMillis(), getAverageQueueWaitMillis(), getMaxQueueWaitMillis());
+    }
+
+    private <T> T execute(Callable<T> work) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                record(queueWaitNanos, maxQueueWaitNanos, started - submitted);
+                try {
+                    return work.call();
+                } finally {
+                    record(hashNanos, maxHashNanos, System.nanoTime() - started);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            logger.warn("Password hashing queue is full, rejecting request ({})", getMetricsSummary());
+            throw e;
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new RejectedExecutionException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        } finally {
+            logMetricsIfDue();
+        }
+    }
+
+    private static void record(LongAdder total, AtomicLong max, long nanos) {
+        total.add(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    private void logMetricsIfDue() {
+        long last = lastMetricsLog.get();
+        long now = System.nanoTime();
+        if (now - last >= metricsIntervalNanos && lastMetricsLog.compareAndSet(last, now)) {
+            logger.info("Password hasher: {}", getMetricsSummary());
+        }
+    }
+}
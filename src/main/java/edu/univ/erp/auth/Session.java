@@ -0,0 +1,47 @@
+package edu.univ.erp.auth;
+
+import edu.univ.erp.domain.User;
+
+public class Session {
+    private final String token;
+    private final User user;
+    private final String client;
+    private final long createdAtMillis;
+    private volatile long lastAccessedMillis;
+
+    Session(String token, User user, String client) {
+        this.token = token;
+        this.user = user;
+        this.client = client;
+        this.createdAtMillis = System.currentTimeMillis();
+        this.lastAccessedMillis = createdAtMillis;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public String getClient() {
+        return client;
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    public long getLastAccessedMillis() {
+        return lastAccessedMillis;
+    }
+
+    void touch(long now) {
+        lastAccessedMillis = now;
+    }
+
+    boolean isIdle(long now, long idleTimeoutMillis) {
+        return now - lastAccessedMillis > idleTimeoutMillis;
+    }
+}
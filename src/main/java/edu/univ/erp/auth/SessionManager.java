@@ -1,12 +1,43 @@
 package edu.univ.erp.auth;
 
 import edu.univ.erp.domain.User;
+import edu.univ.erp.util.DatabaseManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class SessionManager {
+    private static final Logger logger = LoggerFactory.getLogger(SessionManager.class);
+    private static final String DESKTOP_CLIENT = "desktop";
     private static SessionManager instance;
-    private User currentUser;
 
-    private SessionManager() {}
+    private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+    private final ThreadLocal<Session> boundSession = new ThreadLocal<>();
+    private final SecureRandom random = new SecureRandom();
+    private final long idleTimeoutMillis;
+    private final boolean desktopMode;
+    private volatile Session desktopSession;
+
+    private SessionManager() {
+        DatabaseManager db = DatabaseManager.getInstance();
+        this.idleTimeoutMillis = TimeUnit.MINUTES.toMillis(Math.max(1, db.getIntProperty("session.idleTimeoutMinutes", 30)));
+        this.desktopMode = Boolean.parseBoolean(db.getProperty("session.desktopMode", "false").trim());
+        long sweepSeconds = Math.max(1, db.getIntProperty("session.sweepSeconds", 60));
+
+        ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "session-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        sweeper.scheduleWithFixedDelay(this::expireIdleSessions, sweepSeconds, sweepSeconds, TimeUnit.SECONDS);
+    }
 
     public static synchronized SessionManager getInstance() {
         if (instance == null) {
@@ -15,23 +46,120 @@ public class SessionManager {
         return instance;
     }
 
+    public Session createSession(User user, String client) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        Session session = new Session(token, user, client);
+        sessions.put(token, session);
+        logger.info("Session opened for user {} from {} ({} active)", user.getUsername(), client, sessions.size());
+        return session;
+    }
+
+    public Session getSession(String token) {
+        if (token == null) {
+            return null;
+        }
+        Session session = sessions.get(token);
+        if (session == null || !isLive(session, System.currentTimeMillis())) {
+            return null;
+        }
+        return session;
+    }
+
+    public void invalidate(String token) {
+        if (token == null) {
+            return;
+        }
+        Session session = sessions.remove(token);
+        if (session != null) {
+            if (session == desktopSession) {
+                desktopSession = null;
+            }
+            logger.info("Session closed for user {}", session.getUser().getUsername());
+        }
+    }
+
+    public boolean bind(String token) {
+        Session session = getSession(token);
+        if (session == null) {
+            boundSession.remove();
+            return false;
+        }
+        boundSession.set(session);
+        return true;
+    }
+
+    public void unbind() {
+        boundSession.remove();
+    }
+
+    public <T> T callWithSession(String token, Callable<T> work) throws Exception {
+        Session previous = boundSession.get();
+        if (!bind(token)) {
+            throw new SecurityException("Session expired or invalid");
+        }
+        try {
+            return work.call();
+        } finally {
+            if (previous != null) {
+                boundSession.set(previous);
+            } else {
+                boundSession.remove();
+            }
+        }
+    }
+
+    public Session getCurrentSession() {
+        Session session = boundSession.get();
+        if (session != null) {
+            if (isLive(session, System.currentTimeMillis())) {
+                return session;
+            }
+            boundSession.remove();
+            return null;
+        }
+        return desktopMode ? desktopSession : null;
+    }
+
+    public boolean isDesktopMode() {
+        return desktopMode;
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
     public void setCurrentUser(User user) {
-        this.currentUser = user;
+        if (!desktopMode) {
+            throw new IllegalStateException("Desktop sessions are disabled; set session.desktopMode=true");
+        }
+        Session previous = desktopSession;
+        if (previous != null) {
+            invalidate(previous.getToken());
+        }
+        desktopSession = user != null ? createSession(user, DESKTOP_CLIENT) : null;
     }
 
     public User getCurrentUser() {
-        return currentUser;
+        Session session = getCurrentSession();
+        return session != null ? session.getUser() : null;
     }
 
     public boolean isLoggedIn() {
-        return currentUser != null;
+        return getCurrentUser() != null;
     }
 
     public void logout() {
-        currentUser = null;
+        Session session = getCurrentSession();
+        boundSession.remove();
+        if (session != null) {
+            invalidate(session.getToken());
+        }
     }
 
     public boolean hasRole(User.UserRole role) {
+        User currentUser = getCurrentUser();
         return currentUser != null && currentUser.getRole() == role;
     }
 
@@ -46,4 +174,30 @@ public class SessionManager {
     public boolean isStudent() {
         return hasRole(User.UserRole.STUDENT);
     }
+
+    private boolean isLive(Session session, long now) {
+        if (sessions.get(session.getToken()) != session) {
+            return false;
+        }
+        if (session != desktopSession && session.isIdle(now, idleTimeoutMillis)) {
+            sessions.remove(session.getToken(), session);
+            return false;
+        }
+        session.touch(now);
+        return true;
+    }
+
+    private void expireIdleSessions() {
+        long now = System.currentTimeMillis();
+        int expired = 0;
+        for (Session session : sessions.values()) {
+            if (session != desktopSession && session.isIdle(now, idleTimeoutMillis)
+                    && sessions.remove(session.getToken(), session)) {
+                expired++;
+            }
+        }
+        if (expired > 0) {
+            logger.info("Expired {} idle session(s), {} active", expired, sessions.size());
+        }
+    }
 }
@@ -49,14 +49,20 @@ public class CourseDAO {
     public boolean create(Course course) {
         String sql = "INSERT INTO courses (code, title, credits, description) VALUES (?, ?, ?, ?)";
         try (Connection conn = DatabaseManager.getInstance().getErpConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
             pstmt.setString(1, course.getCode());
             pstmt.setString(2, course.getTitle());
             pstmt.setInt(3, course.getCredits());
             pstmt.setString(4, course.getDescription());
 
-            return pstmt.executeUpdate() > 0;
+            if (pstmt.executeUpdate() > 0) {
+                ResultSet rs = pstmt.getGeneratedKeys();
+                if (rs.next()) {
+                    course.setCourseId(rs.getInt(1));
+                }
+                return true;
+            }
         } catch (SQLException e) {
             logger.error("Error creating course", e);
         }
@@ -1,24 +1,39 @@
 package edu.univ.erp.data;
 
 import edu.univ.erp.domain.Enrollment;
+import edu.univ.erp.domain.FinalGrade;
+import edu.univ.erp.domain.Schedule;
 import edu.univ.erp.util.DatabaseManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class EnrollmentDAO {
     private static final Logger logger = LoggerFactory.getLogger(EnrollmentDAO.class);
+    private static final String FINAL_GRADE_COLUMNS =
+            "fg.weighted_score as fg_weighted_score, fg.total_weightage as fg_total_weightage, " +
+            "fg.final_percentage as fg_final_percentage, fg.letter_grade as fg_letter_grade ";
+    private static final String UPSERT_ENROLLMENT_SQL =
+            "INSERT INTO enrollments (student_id, section_id, status, drop_deadline) " +
+            "VALUES (?, ?, 'ENROLLED', ?) " +
+            "ON DUPLICATE KEY UPDATE enrollment_id = LAST_INSERT_ID(enrollment_id), " +
+            "status = 'ENROLLED', enrolled_date = CURRENT_TIMESTAMP, drop_deadline = VALUES(drop_deadline)";
 
     public List<Enrollment> getByStudent(int studentId) {
         List<Enrollment> enrollments = new ArrayList<>();
         String sql = "SELECT e.*, c.code as course_code, c.title as course_title, " +
-                    "s.section_code, s.semester, s.year, s.day_time, s.room " +
+                    "s.section_code, s.semester, s.year, s.day_time, s.room, " + FINAL_GRADE_COLUMNS +
                     "FROM enrollments e " +
                     "JOIN sections s ON e.section_id = s.section_id " +
                     "JOIN courses c ON s.course_id = c.course_id " +
+                    "LEFT JOIN final_grades fg ON fg.enrollment_id = e.enrollment_id " +
                     "WHERE e.student_id = ? AND e.status = 'ENROLLED' " +
                     "ORDER BY c.code";
 
@@ -29,7 +44,9 @@ public class EnrollmentDAO {
             ResultSet rs = pstmt.executeQuery();
 
             while (rs.next()) {
-                enrollments.add(mapResultSetToEnrollment(rs));
+                Enrollment enrollment = mapResultSetToEnrollment(rs);
+                enrollment.setFinalGrade(mapFinalGradeColumns(rs));
+                enrollments.add(enrollment);
             }
         } catch (SQLException e) {
             logger.error("Error fetching student enrollments", e);
@@ -41,11 +58,12 @@ public class EnrollmentDAO {
         List<Enrollment> enrollments = new ArrayList<>();
         String sql = "SELECT e.*, c.code as course_code, c.title as course_title, " +
                     "s.section_code, s.semester, s.year, s.day_time, s.room, " +
-                    "st.roll_no as student_roll_no, st.program as student_program " +
+                    "st.roll_no as student_roll_no, st.program as student_program, " + FINAL_GRADE_COLUMNS +
                     "FROM enrollments e " +
                     "JOIN sections s ON e.section_id = s.section_id " +
                     "JOIN courses c ON s.course_id = c.course_id " +
                     "JOIN students st ON e.student_id = st.student_id " +
+                    "LEFT JOIN final_grades fg ON fg.enrollment_id = e.enrollment_id " +
                     "WHERE e.section_id = ? AND e.status = 'ENROLLED' " +
                     "ORDER BY st.roll_no";
 
@@ -56,7 +74,9 @@ public class EnrollmentDAO {
             ResultSet rs = pstmt.executeQuery();
 
             while (rs.next()) {
-                enrollments.add(mapResultSetToEnrollmentWithStudent(rs));
+                Enrollment enrollment = mapResultSetToEnrollmentWithStudent(rs);
+                enrollment.setFinalGrade(mapFinalGradeColumns(rs));
+                enrollments.add(enrollment);
             }
         } catch (SQLException e) {
             logger.error("Error fetching section enrollments", e);
@@ -175,6 +195,380 @@ public class EnrollmentDAO {
         return false;
     }
 
+    public ReservationResult reserveSeat(int studentId, int sectionId, LocalDateTime dropDeadline) {
+        return reserveSeat(studentId, sectionId, dropDeadline, false);
+    }
+
+    public ReservationResult reserveSeat(int studentId, int sectionId, LocalDateTime dropDeadline,
+                                         boolean rejectClashes) {
+        return reserveSeats(sectionId, Collections.singletonList(studentId), dropDeadline, rejectClashes).get(0);
+    }
+
+    public List<ReservationResult> reserveSeats(int sectionId, List<Integer> studentIds, LocalDateTime dropDeadline) {
+        return reserveSeats(sectionId, studentIds, dropDeadline, false);
+    }
+
+    public List<ReservationResult> reserveSeats(int sectionId, List<Integer> studentIds, LocalDateTime dropDeadline,
+                                                boolean rejectClashes) {
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                List<ReservationResult> results = reserveSeats(conn, sectionId, studentIds, dropDeadline, rejectClashes);
+                conn.commit();
+                return results;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            logger.error("Error reserving seats for section {}", sectionId, e);
+        }
+        List<ReservationResult> failed = new ArrayList<>();
+        for (int i = 0; i < studentIds.size(); i++) {
+            failed.add(ReservationResult.failed());
+        }
+        return failed;
+    }
+
+    private List<ReservationResult> reserveSeats(Connection conn, int sectionId, List<Integer> studentIds,
+                                                 LocalDateTime dropDeadline, boolean rejectClashes) throws SQLException {
+        String sectionSql = "SELECT s.course_id, s.capacity, s.enrolled_count, s.semester, s.year, s.day_time, " +
+                    "c.code as course_code " +
+                    "FROM sections s JOIN courses c ON s.course_id = c.course_id " +
+                    "WHERE s.section_id = ? FOR UPDATE";
+        String seatSql = "UPDATE sections SET enrolled_count = enrolled_count + ? " +
+                    "WHERE section_id = ? AND enrolled_count + ? <= capacity";
+
+        List<ReservationResult> results = new ArrayList<>();
+        int courseId;
+        int freeSeats;
+        String courseCode;
+        String semester;
+        int year;
+        Schedule schedule;
+        try (PreparedStatement pstmt = conn.prepareStatement(sectionSql)) {
+            pstmt.setInt(1, sectionId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    for (int i = 0; i < studentIds.size(); i++) {
+                        results.add(ReservationResult.notFound());
+                    }
+                    return results;
+                }
+                courseId = rs.getInt("course_id");
+                freeSeats = rs.getInt("capacity") - rs.getInt("enrolled_count");
+                courseCode = rs.getString("course_code");
+                semester = rs.getString("semester");
+                year = rs.getInt("year");
+                schedule = Schedule.parse(rs.getString("day_time"));
+            }
+        }
+
+        lockStudents(conn, studentIds);
+        Map<Integer, Integer> existingSectionIds = new HashMap<>();
+        Map<Integer, String> existingSectionCodes = new HashMap<>();
+        loadExistingCourseEnrollments(conn, courseId, studentIds, existingSectionIds, existingSectionCodes);
+        Map<Integer, String> clashes = rejectClashes && !schedule.isEmpty()
+                ? findClashes(conn, sectionId, semester, year, schedule, studentIds)
+                : Collections.emptyMap();
+
+        int reserved = 0;
+        List<Integer> revivedIds = new ArrayList<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(UPSERT_ENROLLMENT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (int studentId : studentIds) {
+                Integer existingSectionId = existingSectionIds.get(studentId);
+                if (existingSectionId != null) {
+                    if (existingSectionId == sectionId) {
+                        results.add(ReservationResult.duplicate(courseCode));
+                    } else {
+                        results.add(ReservationResult.sameCourse(courseCode, existingSectionCodes.get(studentId)));
+                    }
+                    continue;
+                }
+                String clash = clashes.get(studentId);
+                if (clash != null) {
+                    results.add(ReservationResult.clash(courseCode, clash));
+                    continue;
+                }
+                if (reserved >= freeSeats) {
+                    results.add(ReservationResult.full(courseCode));
+                    continue;
+                }
+
+                pstmt.setInt(1, studentId);
+                pstmt.setInt(2, sectionId);
+                if (dropDeadline != null) {
+                    pstmt.setTimestamp(3, Timestamp.valueOf(dropDeadline));
+                } else {
+                    pstmt.setNull(3, Types.TIMESTAMP);
+                }
+
+                Savepoint savepoint = conn.setSavepoint();
+                try {
+                    boolean revived = pstmt.executeUpdate() > 1;
+                    try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                        rs.next();
+                        int enrollmentId = rs.getInt(1);
+                        if (revived) {
+                            revivedIds.add(enrollmentId);
+                        }
+                        results.add(ReservationResult.ok(enrollmentId, courseCode));
+                    }
+                    existingSectionIds.put(studentId, sectionId);
+                    reserved++;
+                } catch (SQLException e) {
+                    conn.rollback(savepoint);
+                    logger.warn("Could not enroll student {} in section {}: {}", studentId, sectionId, e.getMessage());
+                    results.add(ReservationResult.failed());
+                }
+            }
+        }
+        clearGrades(conn, revivedIds);
+
+        if (reserved > 0) {
+            try (PreparedStatement pstmt = conn.prepareStatement(seatSql)) {
+                pstmt.setInt(1, reserved);
+                pstmt.setInt(2, sectionId);
+                pstmt.setInt(3, reserved);
+                if (pstmt.executeUpdate() == 0) {
+                    throw new SQLException("Capacity check failed while holding the lock on section " + sectionId);
+                }
+            }
+        }
+        return results;
+    }
+
+    private void lockStudents(Connection conn, List<Integer> studentIds) throws SQLException {
+        List<Integer> sorted = new ArrayList<>(studentIds);
+        Collections.sort(sorted);
+        StringBuilder sql = new StringBuilder("SELECT student_id FROM students WHERE student_id IN (");
+        appendPlaceholders(sql, sorted.size());
+        sql.append(") ORDER BY student_id FOR UPDATE");
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+            for (int i = 0; i < sorted.size(); i++) {
+                pstmt.setInt(i + 1, sorted.get(i));
+            }
+            pstmt.executeQuery().close();
+        }
+    }
+
+    private void loadExistingCourseEnrollments(Connection conn, int courseId, List<Integer> studentIds,
+                                               Map<Integer, Integer> sectionIds,
+                                               Map<Integer, String> sectionCodes) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT e.student_id, e.section_id, " +
+                    "(SELECT s.section_code FROM sections s WHERE s.section_id = e.section_id) as section_code " +
+                    "FROM enrollments e " +
+                    "WHERE e.section_id IN (SELECT s.section_id FROM sections s WHERE s.course_id = ?) " +
+                    "AND e.status = 'ENROLLED' AND e.student_id IN (");
+        appendPlaceholders(sql, studentIds.size());
+        sql.append(") FOR UPDATE");
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+            pstmt.setInt(1, courseId);
+            for (int i = 0; i < studentIds.size(); i++) {
+                pstmt.setInt(i + 2, studentIds.get(i));
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    sectionIds.put(rs.getInt("student_id"), rs.getInt("section_id"));
+                    sectionCodes.put(rs.getInt("student_id"), rs.getString("section_code"));
+                }
+            }
+        }
+    }
+
+    private Map<Integer, String> findClashes(Connection conn, int sectionId, String semester, int year,
+                                             Schedule schedule, List<Integer> studentIds) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT e.student_id, s.section_code, s.day_time, c.code as course_code " +
+                    "FROM enrollments e " +
+                    "JOIN sections s ON e.section_id = s.section_id " +
+                    "JOIN courses c ON s.course_id = c.course_id " +
+                    "WHERE e.status = 'ENROLLED' AND e.section_id <> ? AND s.semester = ? AND s.year = ? " +
+                    "AND e.student_id IN (");
+        appendPlaceholders(sql, studentIds.size());
+        sql.append(") ORDER BY c.code FOR UPDATE OF e");
+
+        Map<Integer, String> clashes = new HashMap<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+            pstmt.setInt(1, sectionId);
+            pstmt.setString(2, semester);
+            pstmt.setInt(3, year);
+            for (int i = 0; i < studentIds.size(); i++) {
+                pstmt.setInt(i + 4, studentIds.get(i));
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Schedule booked = Schedule.parse(rs.getString("day_time"));
+                    if (schedule.overlaps(booked)) {
+                        String clash = rs.getString("course_code") + " Section " + rs.getString("section_code") +
+                                " (" + booked + ")";
+                        clashes.merge(rs.getInt("student_id"), clash, (a, b) -> a + "\n  " + b);
+                    }
+                }
+            }
+        }
+        return clashes;
+    }
+
+    private void clearGrades(Connection conn, List<Integer> enrollmentIds) throws SQLException {
+        if (enrollmentIds.isEmpty()) {
+            return;
+        }
+        for (String table : new String[] {"grades", "final_grades"}) {
+            StringBuilder sql = new StringBuilder("DELETE FROM ").append(table).append(" WHERE enrollment_id IN (");
+            appendPlaceholders(sql, enrollmentIds.size());
+            sql.append(")");
+            try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+                for (int i = 0; i < enrollmentIds.size(); i++) {
+                    pstmt.setInt(i + 1, enrollmentIds.get(i));
+                }
+                pstmt.executeUpdate();
+            }
+        }
+    }
+
+    private static void appendPlaceholders(StringBuilder sql, int count) {
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+    }
+
+    public int dropAndPromote(int enrollmentId, LocalDateTime promotedDropDeadline) {
+        return dropAndPromote(enrollmentId, promotedDropDeadline, false);
+    }
+
+    public int dropAndPromote(int enrollmentId, LocalDateTime promotedDropDeadline, boolean rejectClashes) {
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                int promotedStudentId = dropAndPromote(conn, enrollmentId, promotedDropDeadline, rejectClashes);
+                if (promotedStudentId < 0) {
+                    conn.rollback();
+                } else {
+                    conn.commit();
+                }
+                return promotedStudentId;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            logger.error("Error dropping enrollment {}", enrollmentId, e);
+        }
+        return -1;
+    }
+
+    private int dropAndPromote(Connection conn, int enrollmentId, LocalDateTime promotedDropDeadline,
+                               boolean rejectClashes) throws SQLException {
+        String enrollmentSql = "SELECT e.section_id, s.course_id, s.semester, s.year, s.day_time FROM enrollments e " +
+                    "JOIN sections s ON e.section_id = s.section_id " +
+                    "WHERE e.enrollment_id = ? AND e.status = 'ENROLLED'";
+        String dropSql = "UPDATE enrollments SET status = 'DROPPED' " +
+                    "WHERE enrollment_id = ? AND section_id = ? AND status = 'ENROLLED'";
+        String lockSectionSql = "SELECT section_id FROM sections WHERE section_id = ? FOR UPDATE";
+        String nextSql = "SELECT waitlist_id, student_id FROM waitlist WHERE section_id = ? " +
+                    "ORDER BY waitlist_id LIMIT 1 FOR UPDATE";
+        String removeSql = "DELETE FROM waitlist WHERE waitlist_id = ?";
+        String releaseSql = "UPDATE sections SET enrolled_count = enrolled_count - 1 " +
+                    "WHERE section_id = ? AND enrolled_count > 0";
+
+        int sectionId;
+        int courseId;
+        String semester;
+        int year;
+        Schedule schedule;
+        try (PreparedStatement pstmt = conn.prepareStatement(enrollmentSql)) {
+            pstmt.setInt(1, enrollmentId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    return -1;
+                }
+                sectionId = rs.getInt("section_id");
+                courseId = rs.getInt("course_id");
+                semester = rs.getString("semester");
+                year = rs.getInt("year");
+                schedule = Schedule.parse(rs.getString("day_time"));
+            }
+        }
+
+        try (PreparedStatement pstmt = conn.prepareStatement(lockSectionSql)) {
+            pstmt.setInt(1, sectionId);
+            pstmt.executeQuery().close();
+        }
+
+        try (PreparedStatement pstmt = conn.prepareStatement(dropSql)) {
+            pstmt.setInt(1, enrollmentId);
+            pstmt.setInt(2, sectionId);
+            if (pstmt.executeUpdate() == 0) {
+                return -1;
+            }
+        }
+
+        while (true) {
+            int waitlistId;
+            int studentId;
+            try (PreparedStatement pstmt = conn.prepareStatement(nextSql)) {
+                pstmt.setInt(1, sectionId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (!rs.next()) {
+                        break;
+                    }
+                    waitlistId = rs.getInt("waitlist_id");
+                    studentId = rs.getInt("student_id");
+                }
+            }
+
+            try (PreparedStatement pstmt = conn.prepareStatement(removeSql)) {
+                pstmt.setInt(1, waitlistId);
+                pstmt.executeUpdate();
+            }
+
+            lockStudents(conn, Collections.singletonList(studentId));
+            Map<Integer, Integer> existingSectionIds = new HashMap<>();
+            loadExistingCourseEnrollments(conn, courseId, Collections.singletonList(studentId),
+                    existingSectionIds, new HashMap<>());
+            if (existingSectionIds.containsKey(studentId)) {
+                logger.info("Skipping waitlisted student {} already enrolled in course {}", studentId, courseId);
+                continue;
+            }
+            if (rejectClashes && !schedule.isEmpty()
+                    && !findClashes(conn, sectionId, semester, year, schedule, Collections.singletonList(studentId)).isEmpty()) {
+                logger.info("Skipping waitlisted student {} whose timetable clashes with section {}", studentId, sectionId);
+                continue;
+            }
+
+            try (PreparedStatement pstmt = conn.prepareStatement(UPSERT_ENROLLMENT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                pstmt.setInt(1, studentId);
+                pstmt.setInt(2, sectionId);
+                if (promotedDropDeadline != null) {
+                    pstmt.setTimestamp(3, Timestamp.valueOf(promotedDropDeadline));
+                } else {
+                    pstmt.setNull(3, Types.TIMESTAMP);
+                }
+                if (pstmt.executeUpdate() > 1) {
+                    try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                        if (rs.next()) {
+                            clearGrades(conn, Collections.singletonList(rs.getInt(1)));
+                        }
+                    }
+                }
+            }
+            logger.info("Promoted waitlisted student {} into section {}", studentId, sectionId);
+            return studentId;
+        }
+
+        try (PreparedStatement pstmt = conn.prepareStatement(releaseSql)) {
+            pstmt.setInt(1, sectionId);
+            pstmt.executeUpdate();
+        }
+        return 0;
+    }
+
     public boolean drop(int enrollmentId) {
         String sql = "UPDATE enrollments SET status = 'DROPPED' WHERE enrollment_id = ?";
         try (Connection conn = DatabaseManager.getInstance().getErpConnection();
@@ -216,6 +610,18 @@ public class EnrollmentDAO {
         return enrollment;
     }
 
+    private FinalGrade mapFinalGradeColumns(ResultSet rs) throws SQLException {
+        if (rs.getObject("fg_total_weightage") == null) {
+            return null;
+        }
+        FinalGrade finalGrade = new FinalGrade(rs.getInt("enrollment_id"));
+        finalGrade.setWeightedScore(rs.getBigDecimal("fg_weighted_score"));
+        finalGrade.setTotalWeightage(rs.getBigDecimal("fg_total_weightage"));
+        finalGrade.setFinalPercentage(rs.getBigDecimal("fg_final_percentage"));
+        finalGrade.setLetterGrade(rs.getString("fg_letter_grade"));
+        return finalGrade;
+    }
+
     private Enrollment mapResultSetToEnrollmentWithStudent(ResultSet rs) throws SQLException {
         Enrollment enrollment = mapResultSetToEnrollment(rs);
 
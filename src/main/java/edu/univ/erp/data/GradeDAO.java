@@ -1,16 +1,29 @@
 package edu.univ.erp.data;
 
+import edu.univ.erp.domain.FinalGrade;
 import edu.univ.erp.domain.Grade;
+import edu.univ.erp.domain.GradedCourseRow;
 import edu.univ.erp.util.DatabaseManager;
+import edu.univ.erp.util.GradeCalculator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class GradeDAO {
     private static final Logger logger = LoggerFactory.getLogger(GradeDAO.class);
+    private static final String GRADED_COURSES_SQL =
+            "SELECT g.*, e.student_id, c.credits as course_credits " +
+            "FROM enrollments e " +
+            "JOIN grades g ON g.enrollment_id = e.enrollment_id " +
+            "JOIN sections s ON e.section_id = s.section_id " +
+            "JOIN courses c ON s.course_id = c.course_id ";
 
     public List<Grade> getByEnrollment(int enrollmentId) {
         List<Grade> grades = new ArrayList<>();
@@ -31,26 +44,109 @@ public class GradeDAO {
         return grades;
     }
 
+    public Map<Integer, List<Grade>> getBySection(int sectionId) {
+        Map<Integer, List<Grade>> gradesByEnrollment = new HashMap<>();
+        String sql = "SELECT g.* FROM grades g " +
+                    "JOIN enrollments e ON g.enrollment_id = e.enrollment_id " +
+                    "WHERE e.section_id = ? " +
+                    "ORDER BY g.enrollment_id, g.component";
+
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, sectionId);
+            ResultSet rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                Grade grade = mapResultSetToGrade(rs);
+                gradesByEnrollment.computeIfAbsent(grade.getEnrollmentId(), id -> new ArrayList<>()).add(grade);
+            }
+        } catch (SQLException e) {
+            logger.error("Error fetching grades for section", e);
+        }
+        return gradesByEnrollment;
+    }
+
+    public List<GradedCourseRow> getGradedCoursesByStudent(int studentId) {
+        String sql = GRADED_COURSES_SQL + "WHERE e.student_id = ? AND e.status = 'ENROLLED' " +
+                    "ORDER BY e.student_id, e.enrollment_id";
+
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, studentId);
+            return readGradedCourses(pstmt);
+        } catch (SQLException e) {
+            logger.error("Error fetching graded courses for student", e);
+        }
+        return new ArrayList<>();
+    }
+
+    public List<GradedCourseRow> getGradedCoursesByProgram(String program, Integer year) {
+        String sql = GRADED_COURSES_SQL + "JOIN students st ON e.student_id = st.student_id " +
+                    "WHERE st.program = ? AND e.status = 'ENROLLED' " +
+                    (year != null ? "AND st.year = ? " : "") +
+                    "ORDER BY e.student_id, e.enrollment_id";
+
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, program);
+            if (year != null) {
+                pstmt.setInt(2, year);
+            }
+            return readGradedCourses(pstmt);
+        } catch (SQLException e) {
+            logger.error("Error fetching graded courses for program", e);
+        }
+        return new ArrayList<>();
+    }
+
+    private List<GradedCourseRow> readGradedCourses(PreparedStatement pstmt) throws SQLException {
+        List<GradedCourseRow> rows = new ArrayList<>();
+        ResultSet rs = pstmt.executeQuery();
+        while (rs.next()) {
+            rows.add(new GradedCourseRow(rs.getInt("student_id"), rs.getInt("course_credits"), mapResultSetToGrade(rs)));
+        }
+        return rows;
+    }
+
     public boolean create(Grade grade) {
         String sql = "INSERT INTO grades (enrollment_id, component, score, max_score, weightage, final_grade) " +
                     "VALUES (?, ?, ?, ?, ?, ?)";
-        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-
-            pstmt.setInt(1, grade.getEnrollmentId());
-            pstmt.setString(2, grade.getComponent());
-            pstmt.setBigDecimal(3, grade.getScore());
-            pstmt.setBigDecimal(4, grade.getMaxScore());
-            pstmt.setBigDecimal(5, grade.getWeightage());
-            pstmt.setString(6, grade.getFinalGrade());
-
-            int rows = pstmt.executeUpdate();
-            if (rows > 0) {
-                ResultSet rs = pstmt.getGeneratedKeys();
-                if (rs.next()) {
-                    grade.setGradeId(rs.getInt(1));
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                normalizeScale(grade);
+                lockEnrollment(conn, grade.getEnrollmentId());
+
+                try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    pstmt.setInt(1, grade.getEnrollmentId());
+                    pstmt.setString(2, grade.getComponent());
+                    pstmt.setBigDecimal(3, grade.getScore());
+                    pstmt.setBigDecimal(4, grade.getMaxScore());
+                    pstmt.setBigDecimal(5, grade.getWeightage());
+                    pstmt.setString(6, grade.getFinalGrade());
+
+                    if (pstmt.executeUpdate() == 0) {
+                        conn.rollback();
+                        return false;
+                    }
+                    try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                        if (rs.next()) {
+                            grade.setGradeId(rs.getInt(1));
+                        }
+                    }
                 }
+
+                applyToFinalGrade(conn, grade.getEnrollmentId(), null, grade);
+                conn.commit();
                 return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
             }
         } catch (SQLException e) {
             logger.error("Error creating grade", e);
@@ -59,23 +155,143 @@ public class GradeDAO {
     }
 
     public boolean update(Grade grade) {
+        String lockSql = "SELECT g.* FROM grades g " +
+                    "JOIN enrollments e ON g.enrollment_id = e.enrollment_id " +
+                    "WHERE g.grade_id = ? FOR UPDATE";
         String sql = "UPDATE grades SET score = ?, max_score = ?, weightage = ?, final_grade = ? WHERE grade_id = ?";
-        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                Grade existing;
+                try (PreparedStatement pstmt = conn.prepareStatement(lockSql)) {
+                    pstmt.setInt(1, grade.getGradeId());
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        if (!rs.next()) {
+                            conn.rollback();
+                            return false;
+                        }
+                        existing = mapResultSetToGrade(rs);
+                    }
+                }
 
-            pstmt.setBigDecimal(1, grade.getScore());
-            pstmt.setBigDecimal(2, grade.getMaxScore());
-            pstmt.setBigDecimal(3, grade.getWeightage());
-            pstmt.setString(4, grade.getFinalGrade());
-            pstmt.setInt(5, grade.getGradeId());
+                normalizeScale(grade);
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setBigDecimal(1, grade.getScore());
+                    pstmt.setBigDecimal(2, grade.getMaxScore());
+                    pstmt.setBigDecimal(3, grade.getWeightage());
+                    pstmt.setString(4, grade.getFinalGrade());
+                    pstmt.setInt(5, grade.getGradeId());
+                    pstmt.executeUpdate();
+                }
 
-            return pstmt.executeUpdate() > 0;
+                applyToFinalGrade(conn, existing.getEnrollmentId(), existing, grade);
+                conn.commit();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
         } catch (SQLException e) {
             logger.error("Error updating grade", e);
         }
         return false;
     }
 
+    public FinalGrade getFinalGrade(int enrollmentId) {
+        String sql = "SELECT * FROM final_grades WHERE enrollment_id = ?";
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, enrollmentId);
+            ResultSet rs = pstmt.executeQuery();
+
+            if (rs.next()) {
+                return mapResultSetToFinalGrade(rs);
+            }
+        } catch (SQLException e) {
+            logger.error("Error fetching final grade", e);
+        }
+        return null;
+    }
+
+    private void normalizeScale(Grade grade) {
+        grade.setScore(toColumnScale(grade.getScore()));
+        grade.setMaxScore(toColumnScale(grade.getMaxScore()));
+        grade.setWeightage(toColumnScale(grade.getWeightage()));
+    }
+
+    private BigDecimal toColumnScale(BigDecimal value) {
+        return value != null ? value.setScale(GradeCalculator.PERCENT_SCALE, RoundingMode.HALF_UP) : null;
+    }
+
+    private void lockEnrollment(Connection conn, int enrollmentId) throws SQLException {
+        String sql = "SELECT enrollment_id FROM enrollments WHERE enrollment_id = ? FOR UPDATE";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, enrollmentId);
+            pstmt.executeQuery().close();
+        }
+    }
+
+    private void applyToFinalGrade(Connection conn, int enrollmentId, Grade before, Grade after) throws SQLException {
+        String sql = "SELECT * FROM final_grades WHERE enrollment_id = ? FOR UPDATE";
+
+        FinalGrade current = null;
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, enrollmentId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    current = mapResultSetToFinalGrade(rs);
+                }
+            }
+        }
+
+        FinalGrade finalGrade;
+        if (current == null) {
+            finalGrade = GradeCalculator.calculate(enrollmentId, getByEnrollment(conn, enrollmentId));
+        } else {
+            long weightedScore = GradeCalculator.weightedScoreUnits(current)
+                    - GradeCalculator.weightedScoreUnits(before)
+                    + GradeCalculator.weightedScoreUnits(after);
+            long totalWeightage = GradeCalculator.weightageUnits(current)
+                    - GradeCalculator.weightageUnits(before)
+                    + GradeCalculator.weightageUnits(after);
+            finalGrade = GradeCalculator.complete(current, weightedScore, totalWeightage);
+        }
+        saveFinalGrade(conn, finalGrade);
+    }
+
+    private void saveFinalGrade(Connection conn, FinalGrade finalGrade) throws SQLException {
+        String sql = "INSERT INTO final_grades (enrollment_id, weighted_score, total_weightage, final_percentage, letter_grade) " +
+                    "VALUES (?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE weighted_score = VALUES(weighted_score), " +
+                    "total_weightage = VALUES(total_weightage), final_percentage = VALUES(final_percentage), " +
+                    "letter_grade = VALUES(letter_grade)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, finalGrade.getEnrollmentId());
+            pstmt.setBigDecimal(2, finalGrade.getWeightedScore());
+            pstmt.setBigDecimal(3, finalGrade.getTotalWeightage());
+            pstmt.setBigDecimal(4, finalGrade.getFinalPercentage());
+            pstmt.setString(5, finalGrade.getLetterGrade());
+            pstmt.executeUpdate();
+        }
+    }
+
+    private List<Grade> getByEnrollment(Connection conn, int enrollmentId) throws SQLException {
+        List<Grade> grades = new ArrayList<>();
+        String sql = "SELECT * FROM grades WHERE enrollment_id = ? ORDER BY component";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, enrollmentId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    grades.add(mapResultSetToGrade(rs));
+                }
+            }
+        }
+        return grades;
+    }
+
     public boolean existsByComponent(int enrollmentId, String component) {
         String sql = "SELECT COUNT(*) FROM grades WHERE enrollment_id = ? AND LOWER(component) = LOWER(?)";
         try (Connection conn = DatabaseManager.getInstance().getErpConnection();
@@ -146,6 +362,15 @@ public class GradeDAO {
         return null;
     }
 
+    private FinalGrade mapResultSetToFinalGrade(ResultSet rs) throws SQLException {
+        FinalGrade finalGrade = new FinalGrade(rs.getInt("enrollment_id"));
+        finalGrade.setWeightedScore(rs.getBigDecimal("weighted_score"));
+        finalGrade.setTotalWeightage(rs.getBigDecimal("total_weightage"));
+        finalGrade.setFinalPercentage(rs.getBigDecimal("final_percentage"));
+        finalGrade.setLetterGrade(rs.getString("letter_grade"));
+        return finalGrade;
+    }
+
     private Grade mapResultSetToGrade(ResultSet rs) throws SQLException {
         Grade grade = new Grade();
         grade.setGradeId(rs.getInt("grade_id"));
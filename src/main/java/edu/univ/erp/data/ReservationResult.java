@@ -0,0 +1,78 @@
+package edu.univ.erp.data;
+
+public class ReservationResult {
+    private final Outcome outcome;
+    private final int enrollmentId;
+    private final String courseCode;
+    private final String existingSectionCode;
+    private final String clashes;
+
+    public enum Outcome {
+        OK, FULL, DUPLICATE, SAME_COURSE, CLASH, NOT_FOUND, FAILED
+    }
+
+    private ReservationResult(Outcome outcome, int enrollmentId, String courseCode, String existingSectionCode) {
+        this(outcome, enrollmentId, courseCode, existingSectionCode, null);
+    }
+
+    private ReservationResult(Outcome outcome, int enrollmentId, String courseCode, String existingSectionCode,
+                              String clashes) {
+        this.outcome = outcome;
+        this.enrollmentId = enrollmentId;
+        this.courseCode = courseCode;
+        this.existingSectionCode = existingSectionCode;
+        this.clashes = clashes;
+    }
+
+    public static ReservationResult ok(int enrollmentId, String courseCode) {
+        return new ReservationResult(Outcome.OK, enrollmentId, courseCode, null);
+    }
+
+    public static ReservationResult full(String courseCode) {
+        return new ReservationResult(Outcome.FULL, 0, courseCode, null);
+    }
+
+    public static ReservationResult duplicate(String courseCode) {
+        return new ReservationResult(Outcome.DUPLICATE, 0, courseCode, null);
+    }
+
+    public static ReservationResult sameCourse(String courseCode, String existingSectionCode) {
+        return new ReservationResult(Outcome.SAME_COURSE, 0, courseCode, existingSectionCode);
+    }
+
+    public static ReservationResult clash(String courseCode, String clashes) {
+        return new ReservationResult(Outcome.CLASH, 0, courseCode, null, clashes);
+    }
+
+    public static ReservationResult notFound() {
+        return new ReservationResult(Outcome.NOT_FOUND, 0, null, null);
+    }
+
+    public static ReservationResult failed() {
+        return new ReservationResult(Outcome.FAILED, 0, null, null);
+    }
+
+    public boolean isSuccess() {
+        return outcome == Outcome.OK;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public int getEnrollmentId() {
+        return enrollmentId;
+    }
+
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    public String getExistingSectionCode() {
+        return existingSectionCode;
+    }
+
+    public String getClashes() {
+        return clashes;
+    }
+}
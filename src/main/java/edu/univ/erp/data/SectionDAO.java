@@ -1,5 +1,7 @@
 package edu.univ.erp.data;
 
+import edu.univ.erp.domain.CatalogFilter;
+import edu.univ.erp.domain.Schedule;
 import edu.univ.erp.domain.Section;
 import edu.univ.erp.util.DatabaseManager;
 import org.slf4j.Logger;
@@ -11,6 +13,7 @@ import java.util.List;
 
 public class SectionDAO {
     private static final Logger logger = LoggerFactory.getLogger(SectionDAO.class);
+    private static volatile boolean dayMasksBackfilled;
 
     public Section getById(int sectionId) {
         String sql = "SELECT s.*, c.code as course_code, c.title as course_title, c.credits as course_credits, " +
@@ -59,6 +62,106 @@ public class SectionDAO {
         return sections;
     }
 
+    public List<Section> getCatalogPage(CatalogFilter filter, Section after, int limit) {
+        List<Section> sections = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(
+                "SELECT s.*, c.code as course_code, c.title as course_title, c.credits as course_credits, " +
+                "COALESCE(u.username, 'TBA') as instructor_name " +
+                "FROM sections s " +
+                "JOIN courses c ON s.course_id = c.course_id " +
+                "LEFT JOIN instructors i ON s.instructor_id = i.instructor_id " +
+                "LEFT JOIN auth_db.users_auth u ON i.user_id = u.user_id " +
+                "WHERE 1 = 1");
+
+        if (filter.getSemester() != null) {
+            sql.append(" AND s.semester = ?");
+            params.add(filter.getSemester());
+        }
+        if (filter.getYear() != null) {
+            sql.append(" AND s.year = ?");
+            params.add(filter.getYear());
+        }
+        if (filter.getCourseCodePrefix() != null) {
+            sql.append(" AND c.code LIKE ?");
+            params.add(escapeLike(filter.getCourseCodePrefix()) + "%");
+        }
+        if (filter.getInstructor() != null) {
+            sql.append(" AND u.username LIKE ?");
+            params.add(escapeLike(filter.getInstructor()) + "%");
+        }
+        if (filter.isOpenSeatsOnly()) {
+            sql.append(" AND s.enrolled_count < s.capacity");
+        }
+        if (filter.getDay() != null) {
+            backfillDayMasks();
+            sql.append(" AND (s.day_mask & ?) <> 0");
+            params.add(Schedule.parseDayMask(filter.getDay()));
+        }
+        if (after != null) {
+            sql.append(" AND (s.year < ? OR (s.year = ? AND (s.semester > ? OR (s.semester = ? AND " +
+                    "(s.course_id > ? OR (s.course_id = ? AND s.section_id > ?))))))");
+            params.add(after.getYear());
+            params.add(after.getYear());
+            params.add(after.getSemester());
+            params.add(after.getSemester());
+            params.add(after.getCourseId());
+            params.add(after.getCourseId());
+            params.add(after.getSectionId());
+        }
+        sql.append(" ORDER BY s.year DESC, s.semester, s.course_id, s.section_id LIMIT ?");
+        params.add(limit);
+
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+            for (int i = 0; i < params.size(); i++) {
+                pstmt.setObject(i + 1, params.get(i));
+            }
+            ResultSet rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                sections.add(mapResultSetToSection(rs));
+            }
+        } catch (SQLException e) {
+            logger.error("Error fetching catalog page", e);
+        }
+        return sections;
+    }
+
+    private void backfillDayMasks() {
+        if (dayMasksBackfilled) {
+            return;
+        }
+        String selectSql = "SELECT section_id, day_time FROM sections " +
+                    "WHERE day_mask = 0 AND day_time IS NOT NULL AND day_time <> ''";
+        String updateSql = "UPDATE sections SET day_mask = ? WHERE section_id = ? AND day_mask = 0";
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement select = conn.prepareStatement(selectSql);
+             PreparedStatement update = conn.prepareStatement(updateSql)) {
+
+            int pending = 0;
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    int mask = Schedule.parse(rs.getString("day_time")).getDayMask();
+                    if (mask != 0) {
+                        update.setInt(1, mask);
+                        update.setInt(2, rs.getInt("section_id"));
+                        update.addBatch();
+                        pending++;
+                    }
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+                logger.info("Backfilled day_mask for {} section(s)", pending);
+            }
+            dayMasksBackfilled = true;
+        } catch (SQLException e) {
+            logger.error("Error backfilling section day masks", e);
+        }
+    }
+
     public List<Section> getByInstructor(int instructorId) {
         List<Section> sections = new ArrayList<>();
         String sql = "SELECT s.*, c.code as course_code, c.title as course_title, c.credits as course_credits, " +
@@ -86,10 +189,10 @@ public class SectionDAO {
     }
 
     public boolean create(Section section) {
-        String sql = "INSERT INTO sections (course_id, instructor_id, section_code, day_time, room, capacity, semester, year, status) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String sql = "INSERT INTO sections (course_id, instructor_id, section_code, day_time, day_mask, room, capacity, semester, year, status) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
         try (Connection conn = DatabaseManager.getInstance().getErpConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
             pstmt.setInt(1, section.getCourseId());
             if (section.getInstructorId() != null) {
@@ -99,13 +202,20 @@ public class SectionDAO {
             }
             pstmt.setString(3, section.getSectionCode());
             pstmt.setString(4, section.getDayTime());
-            pstmt.setString(5, section.getRoom());
-            pstmt.setInt(6, section.getCapacity());
-            pstmt.setString(7, section.getSemester());
-            pstmt.setInt(8, section.getYear());
-            pstmt.setString(9, Section.SectionStatus.ACTIVE.name());
+            pstmt.setInt(5, section.getSchedule().getDayMask());
+            pstmt.setString(6, section.getRoom());
+            pstmt.setInt(7, section.getCapacity());
+            pstmt.setString(8, section.getSemester());
+            pstmt.setInt(9, section.getYear());
+            pstmt.setString(10, Section.SectionStatus.ACTIVE.name());
 
-            return pstmt.executeUpdate() > 0;
+            if (pstmt.executeUpdate() > 0) {
+                ResultSet rs = pstmt.getGeneratedKeys();
+                if (rs.next()) {
+                    section.setSectionId(rs.getInt(1));
+                }
+                return true;
+            }
         } catch (SQLException e) {
             logger.error("Error creating section", e);
         }
@@ -113,7 +223,7 @@ public class SectionDAO {
     }
 
     public boolean update(Section section) {
-        String sql = "UPDATE sections SET instructor_id = ?, section_code = ?, day_time = ?, room = ?, " +
+        String sql = "UPDATE sections SET instructor_id = ?, section_code = ?, day_time = ?, day_mask = ?, room = ?, " +
                 "capacity = ?, semester = ?, year = ?, status = ? WHERE section_id = ?";
         try (Connection conn = DatabaseManager.getInstance().getErpConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -125,12 +235,13 @@ public class SectionDAO {
             }
             pstmt.setString(2, section.getSectionCode());
             pstmt.setString(3, section.getDayTime());
-            pstmt.setString(4, section.getRoom());
-            pstmt.setInt(5, section.getCapacity());
-            pstmt.setString(6, section.getSemester());
-            pstmt.setInt(7, section.getYear());
-            pstmt.setString(8, section.getStatus() != null ? section.getStatus().name() : "ACTIVE");
-            pstmt.setInt(9, section.getSectionId());
+            pstmt.setInt(4, section.getSchedule().getDayMask());
+            pstmt.setString(5, section.getRoom());
+            pstmt.setInt(6, section.getCapacity());
+            pstmt.setString(7, section.getSemester());
+            pstmt.setInt(8, section.getYear());
+            pstmt.setString(9, section.getStatus() != null ? section.getStatus().name() : "ACTIVE");
+            pstmt.setInt(10, section.getSectionId());
 
             return pstmt.executeUpdate() > 0;
         } catch (SQLException e) {
@@ -154,6 +265,64 @@ public class SectionDAO {
         return false;
     }
 
+    public List<Section> getSeatCounts() {
+        List<Section> sections = new ArrayList<>();
+        String sql = "SELECT section_id, capacity, enrolled_count FROM sections";
+
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+
+            while (rs.next()) {
+                Section section = new Section();
+                section.setSectionId(rs.getInt("section_id"));
+                section.setCapacity(rs.getInt("capacity"));
+                section.setEnrolledCount(rs.getInt("enrolled_count"));
+                sections.add(section);
+            }
+        } catch (SQLException e) {
+            logger.error("Error fetching seat counts", e);
+        }
+        return sections;
+    }
+
+    public Section getSeatCount(int sectionId) {
+        String sql = "SELECT section_id, capacity, enrolled_count FROM sections WHERE section_id = ?";
+
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, sectionId);
+            ResultSet rs = pstmt.executeQuery();
+            if (rs.next()) {
+                Section section = new Section();
+                section.setSectionId(rs.getInt("section_id"));
+                section.setCapacity(rs.getInt("capacity"));
+                section.setEnrolledCount(rs.getInt("enrolled_count"));
+                return section;
+            }
+        } catch (SQLException e) {
+            logger.error("Error fetching seat count for section {}", sectionId, e);
+        }
+        return null;
+    }
+
+    public int reconcileEnrolledCounts() {
+        String sql = "UPDATE sections s " +
+                "LEFT JOIN (SELECT section_id, COUNT(*) AS enrolled FROM enrollments " +
+                "WHERE status = 'ENROLLED' GROUP BY section_id) e ON s.section_id = e.section_id " +
+                "SET s.enrolled_count = COALESCE(e.enrolled, 0) " +
+                "WHERE s.enrolled_count <> COALESCE(e.enrolled, 0)";
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             Statement stmt = conn.createStatement()) {
+
+            return stmt.executeUpdate(sql);
+        } catch (SQLException e) {
+            logger.error("Error reconciling enrolled counts", e);
+        }
+        return -1;
+    }
+
     public boolean delete(int sectionId) {
         String sql = "DELETE FROM sections WHERE section_id = ?";
         try (Connection conn = DatabaseManager.getInstance().getErpConnection();
@@ -167,6 +336,10 @@ public class SectionDAO {
         return false;
     }
 
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     private Section mapResultSetToSection(ResultSet rs) throws SQLException {
         Section section = new Section();
         section.setSectionId(rs.getInt("section_id"));
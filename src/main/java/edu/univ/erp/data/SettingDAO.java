@@ -6,9 +6,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
+import java.util.HashMap;
+import java.util.Map;
 
 public class SettingDAO {
     private static final Logger logger = LoggerFactory.getLogger(SettingDAO.class);
+    public static final String VERSION_KEY = "settings_version";
+    public static final String CATALOG_VERSION_KEY = "catalog_version";
+    public static final String MAINTENANCE_MODE_KEY = "maintenance_mode";
+    public static final String ADD_DROP_ENABLED_KEY = "add_drop_enabled";
+    public static final String AUTH_HASH_COST_KEY = "auth_hash_cost";
 
     public String getValue(String key) {
         String sql = "SELECT setting_value FROM settings WHERE setting_key = ?";
@@ -27,17 +34,81 @@ public class SettingDAO {
         return null;
     }
 
-    public boolean setValue(String key, String value) {
-        String sql = "INSERT INTO settings (setting_key, setting_value) VALUES (?, ?) " +
-                    "ON DUPLICATE KEY UPDATE setting_value = ?";
+    public Map<String, String> getAll() {
+        Map<String, String> values = new HashMap<>();
+        String sql = "SELECT setting_key, setting_value FROM settings";
         try (Connection conn = DatabaseManager.getInstance().getErpConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            pstmt.setString(1, key);
-            pstmt.setString(2, value);
-            pstmt.setString(3, value);
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                values.put(rs.getString("setting_key"), rs.getString("setting_value"));
+            }
+            return values;
+        } catch (SQLException e) {
+            logger.error("Error fetching settings", e);
+        }
+        return null;
+    }
+
+    public long getVersion() {
+        return getCounter(VERSION_KEY);
+    }
+
+    public long getCounter(String key) {
+        String value = getValue(key);
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid counter value for {}: {}", key, value);
+            return 0;
+        }
+    }
 
+    public boolean incrementCounter(String key) {
+        String sql = "INSERT INTO settings (setting_key, setting_value) VALUES (?, '1') " +
+                    "ON DUPLICATE KEY UPDATE setting_value = CAST(setting_value AS UNSIGNED) + 1";
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, key);
             return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            logger.error("Error incrementing {}", key, e);
+        }
+        return false;
+    }
+
+    public boolean setValue(String key, String value) {
+        String sql = "INSERT INTO settings (setting_key, setting_value) VALUES (?, ?) " +
+                    "ON DUPLICATE KEY UPDATE setting_value = ?";
+        String versionSql = "INSERT INTO settings (setting_key, setting_value, description) " +
+                    "VALUES (?, '1', 'Incremented on every settings change') " +
+                    "ON DUPLICATE KEY UPDATE setting_value = CAST(setting_value AS UNSIGNED) + 1";
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql);
+                 PreparedStatement versionStmt = conn.prepareStatement(versionSql)) {
+
+                pstmt.setString(1, key);
+                pstmt.setString(2, value);
+                pstmt.setString(3, value);
+                boolean updated = pstmt.executeUpdate() > 0;
+
+                versionStmt.setString(1, VERSION_KEY);
+                versionStmt.executeUpdate();
+
+                conn.commit();
+                return updated;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
         } catch (SQLException e) {
             logger.error("Error setting value", e);
         }
@@ -45,21 +116,21 @@ public class SettingDAO {
     }
 
     public boolean getMaintenanceMode() {
-        String value = getValue("maintenance_mode");
+        String value = getValue(MAINTENANCE_MODE_KEY);
         return "true".equalsIgnoreCase(value);
     }
 
     public boolean setMaintenanceMode(boolean enabled) {
-        return setValue("maintenance_mode", String.valueOf(enabled));
+        return setValue(MAINTENANCE_MODE_KEY, String.valueOf(enabled));
     }
 
     public boolean isAddDropEnabled() {
-        String value = getValue("add_drop_enabled");
+        String value = getValue(ADD_DROP_ENABLED_KEY);
 
         return value == null || "true".equalsIgnoreCase(value);
     }
 
     public boolean setAddDropEnabled(boolean enabled) {
-        return setValue("add_drop_enabled", String.valueOf(enabled));
+        return setValue(ADD_DROP_ENABLED_KEY, String.valueOf(enabled));
     }
 }
@@ -0,0 +1,105 @@
+package edu.univ.erp.data;
+
+import edu.univ.erp.util.DatabaseManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class SettingsCache {
+    private static final Logger logger = LoggerFactory.getLogger(SettingsCache.class);
+    private static SettingsCache instance;
+
+    private final SettingDAO settingDAO;
+    private final long ttlMillis;
+    private volatile Snapshot snapshot;
+
+    private SettingsCache() {
+        this.settingDAO = new SettingDAO();
+        this.ttlMillis = DatabaseManager.getInstance().getIntProperty("settings.cacheTtlMillis", 2000);
+    }
+
+    public static synchronized SettingsCache getInstance() {
+        if (instance == null) {
+            instance = new SettingsCache();
+        }
+        return instance;
+    }
+
+    public String getValue(String key) {
+        return current().values.get(key);
+    }
+
+    public boolean isMaintenanceMode() {
+        return "true".equalsIgnoreCase(getValue(SettingDAO.MAINTENANCE_MODE_KEY));
+    }
+
+    public boolean isAddDropEnabled() {
+        String value = getValue(SettingDAO.ADD_DROP_ENABLED_KEY);
+        return value == null || "true".equalsIgnoreCase(value);
+    }
+
+    public boolean setValue(String key, String value) {
+        try {
+            return settingDAO.setValue(key, value);
+        } finally {
+            invalidate();
+        }
+    }
+
+    public boolean setMaintenanceMode(boolean enabled) {
+        return setValue(SettingDAO.MAINTENANCE_MODE_KEY, String.valueOf(enabled));
+    }
+
+    public boolean setAddDropEnabled(boolean enabled) {
+        return setValue(SettingDAO.ADD_DROP_ENABLED_KEY, String.valueOf(enabled));
+    }
+
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot cached = snapshot;
+        if (cached != null && System.currentTimeMillis() < cached.validUntil) {
+            return cached;
+        }
+        return refresh();
+    }
+
+    private synchronized Snapshot refresh() {
+        long now = System.currentTimeMillis();
+        Snapshot cached = snapshot;
+        if (cached != null && now < cached.validUntil) {
+            return cached;
+        }
+
+        long version = settingDAO.getVersion();
+        if (cached != null && version == cached.version) {
+            snapshot = new Snapshot(cached.values, version, now + ttlMillis);
+            return snapshot;
+        }
+
+        Map<String, String> values = settingDAO.getAll();
+        if (values == null) {
+            return cached != null ? cached : new Snapshot(Collections.emptyMap(), -1, 0);
+        }
+
+        snapshot = new Snapshot(Collections.unmodifiableMap(values), version, now + ttlMillis);
+        logger.debug("Settings cache loaded {} settings at version {}", values.size(), version);
+        return snapshot;
+    }
+
+    private static class Snapshot {
+        private final Map<String, String> values;
+        private final long version;
+        private final long validUntil;
+
+        private Snapshot(Map<String, String> values, long version, long validUntil) {
+            this.values = values;
+            this.version = version;
+            this.validUntil = validUntil;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package edu.univ.erp.data;
+
+import edu.univ.erp.domain.WaitlistEntry;
+import edu.univ.erp.util.DatabaseManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class WaitlistDAO {
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistDAO.class);
+    private static final int DUPLICATE_KEY_ERROR = 1062;
+
+    public List<WaitlistEntry> getByStudent(int studentId) {
+        List<WaitlistEntry> entries = new ArrayList<>();
+        String sql = "SELECT w.*, c.code as course_code, c.title as course_title, " +
+                    "s.section_code, s.semester, s.year, " +
+                    "(SELECT COUNT(*) FROM waitlist w2 WHERE w2.section_id = w.section_id " +
+                    "AND w2.waitlist_id <= w.waitlist_id) as position " +
+                    "FROM waitlist w " +
+                    "JOIN sections s ON w.section_id = s.section_id " +
+                    "JOIN courses c ON s.course_id = c.course_id " +
+                    "WHERE w.student_id = ? " +
+                    "ORDER BY w.waitlist_id";
+
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, studentId);
+            ResultSet rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                entries.add(mapResultSetToEntry(rs));
+            }
+        } catch (SQLException e) {
+            logger.error("Error fetching student waitlist", e);
+        }
+        return entries;
+    }
+
+    public int create(WaitlistEntry entry) {
+        String sql = "INSERT INTO waitlist (student_id, section_id) VALUES (?, ?)";
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            pstmt.setInt(1, entry.getStudentId());
+            pstmt.setInt(2, entry.getSectionId());
+
+            int rows = pstmt.executeUpdate();
+            if (rows > 0) {
+                ResultSet rs = pstmt.getGeneratedKeys();
+                if (rs.next()) {
+                    entry.setWaitlistId(rs.getInt(1));
+                }
+                return 1;
+            }
+        } catch (SQLIntegrityConstraintViolationException e) {
+            if (e.getErrorCode() == DUPLICATE_KEY_ERROR) {
+                return 0;
+            }
+            logger.error("Error joining waitlist", e);
+        } catch (SQLException e) {
+            logger.error("Error joining waitlist", e);
+        }
+        return -1;
+    }
+
+    public boolean delete(int waitlistId, int studentId) {
+        String sql = "DELETE FROM waitlist WHERE waitlist_id = ? AND student_id = ?";
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, waitlistId);
+            pstmt.setInt(2, studentId);
+            return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            logger.error("Error leaving waitlist", e);
+        }
+        return false;
+    }
+
+    private WaitlistEntry mapResultSetToEntry(ResultSet rs) throws SQLException {
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setWaitlistId(rs.getInt("waitlist_id"));
+        entry.setStudentId(rs.getInt("student_id"));
+        entry.setSectionId(rs.getInt("section_id"));
+        entry.setPosition(rs.getInt("position"));
+
+        Timestamp created = rs.getTimestamp("created_at");
+        if (created != null) {
+            entry.setCreatedAt(created.toLocalDateTime());
+        }
+
+        entry.setCourseCode(rs.getString("course_code"));
+        entry.setCourseTitle(rs.getString("course_title"));
+        entry.setSectionCode(rs.getString("section_code"));
+        entry.setSemester(rs.getString("semester"));
+        entry.setYear(rs.getInt("year"));
+        return entry;
+    }
+}
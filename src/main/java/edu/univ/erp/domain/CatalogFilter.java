@@ -0,0 +1,62 @@
+package edu.univ.erp.domain;
+
+public class CatalogFilter {
+    private String semester;
+    private Integer year;
+    private String courseCodePrefix;
+    private String instructor;
+    private boolean openSeatsOnly;
+    private String day;
+
+    public String getSemester() {
+        return semester;
+    }
+
+    public void setSemester(String semester) {
+        this.semester = blankToNull(semester);
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public void setYear(Integer year) {
+        this.year = year;
+    }
+
+    public String getCourseCodePrefix() {
+        return courseCodePrefix;
+    }
+
+    public void setCourseCodePrefix(String courseCodePrefix) {
+        this.courseCodePrefix = blankToNull(courseCodePrefix);
+    }
+
+    public String getInstructor() {
+        return instructor;
+    }
+
+    public void setInstructor(String instructor) {
+        this.instructor = blankToNull(instructor);
+    }
+
+    public boolean isOpenSeatsOnly() {
+        return openSeatsOnly;
+    }
+
+    public void setOpenSeatsOnly(boolean openSeatsOnly) {
+        this.openSeatsOnly = openSeatsOnly;
+    }
+
+    public String getDay() {
+        return day;
+    }
+
+    public void setDay(String day) {
+        this.day = blankToNull(day);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+}
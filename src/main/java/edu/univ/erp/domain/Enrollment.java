@@ -18,9 +18,11 @@ public class Enrollment {
     private String semester;
     private int year;
     private String dayTime;
+    private Schedule schedule = Schedule.EMPTY;
     private String room;
     private String studentRollNo;
     private String studentProgram;
+    private FinalGrade finalGrade;
 
     public enum EnrollmentStatus {
         ENROLLED, DROPPED, COMPLETED
@@ -146,6 +148,11 @@ public class Enrollment {
 
     public void setDayTime(String dayTime) {
         this.dayTime = dayTime;
+        this.schedule = Schedule.parse(dayTime);
+    }
+
+    public Schedule getSchedule() {
+        return schedule;
     }
 
     public String getRoom() {
@@ -172,6 +179,14 @@ public class Enrollment {
         this.studentProgram = studentProgram;
     }
 
+    public FinalGrade getFinalGrade() {
+        return finalGrade;
+    }
+
+    public void setFinalGrade(FinalGrade finalGrade) {
+        this.finalGrade = finalGrade;
+    }
+
     public boolean canDrop() {
         return status == EnrollmentStatus.ENROLLED &&
                (dropDeadline == null || LocalDateTime.now().isBefore(dropDeadline));
@@ -0,0 +1,71 @@
+package edu.univ.erp.domain;
+
+import java.math.BigDecimal;
+
+public class FinalGrade {
+    private int enrollmentId;
+    private BigDecimal weightedScore;
+    private BigDecimal totalWeightage;
+    private BigDecimal finalPercentage;
+    private String letterGrade;
+
+    public FinalGrade() {
+        this.weightedScore = BigDecimal.ZERO;
+        this.totalWeightage = BigDecimal.ZERO;
+    }
+
+    public FinalGrade(int enrollmentId) {
+        this();
+        this.enrollmentId = enrollmentId;
+    }
+
+    public int getEnrollmentId() {
+        return enrollmentId;
+    }
+
+    public void setEnrollmentId(int enrollmentId) {
+        this.enrollmentId = enrollmentId;
+    }
+
+    public BigDecimal getWeightedScore() {
+        return weightedScore;
+    }
+
+    public void setWeightedScore(BigDecimal weightedScore) {
+        this.weightedScore = weightedScore;
+    }
+
+    public BigDecimal getTotalWeightage() {
+        return totalWeightage;
+    }
+
+    public void setTotalWeightage(BigDecimal totalWeightage) {
+        this.totalWeightage = totalWeightage;
+    }
+
+    public BigDecimal getFinalPercentage() {
+        return finalPercentage;
+    }
+
+    public void setFinalPercentage(BigDecimal finalPercentage) {
+        this.finalPercentage = finalPercentage;
+    }
+
+    public String getLetterGrade() {
+        return letterGrade;
+    }
+
+    public void setLetterGrade(String letterGrade) {
+        this.letterGrade = letterGrade;
+    }
+
+    public boolean isGraded() {
+        return finalPercentage != null;
+    }
+
+    @Override
+    public String toString() {
+        return "FinalGrade{" +"enrollmentId=" + enrollmentId +", finalPercentage=" + finalPercentage +
+                ", letterGrade='" + letterGrade + '\'' +'}';
+    }
+}
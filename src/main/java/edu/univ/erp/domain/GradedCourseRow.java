@@ -0,0 +1,49 @@
+package edu.univ.erp.domain;
+
+public class GradedCourseRow {
+    private int studentId;
+    private int enrollmentId;
+    private int courseCredits;
+    private Grade grade;
+
+    public GradedCourseRow() {}
+
+    public GradedCourseRow(int studentId, int courseCredits, Grade grade) {
+        this.studentId = studentId;
+        this.enrollmentId = grade.getEnrollmentId();
+        this.courseCredits = courseCredits;
+        this.grade = grade;
+    }
+
+    public int getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(int studentId) {
+        this.studentId = studentId;
+    }
+
+    public int getEnrollmentId() {
+        return enrollmentId;
+    }
+
+    public void setEnrollmentId(int enrollmentId) {
+        this.enrollmentId = enrollmentId;
+    }
+
+    public int getCourseCredits() {
+        return courseCredits;
+    }
+
+    public void setCourseCredits(int courseCredits) {
+        this.courseCredits = courseCredits;
+    }
+
+    public Grade getGrade() {
+        return grade;
+    }
+
+    public void setGrade(Grade grade) {
+        this.grade = grade;
+    }
+}
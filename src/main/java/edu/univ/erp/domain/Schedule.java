@@ -0,0 +1,224 @@
+package edu.univ.erp.domain;
+
+import java.util.Arrays;
+
+public final class Schedule {
+    public static final int DAY_COUNT = 7;
+    public static final Schedule EMPTY = new Schedule(new int[0]);
+
+    private static final String[] DAY_NAMES = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+    private static final String[] FULL_DAY_NAMES = {"monday", "tuesday", "wednesday", "thursday", "friday", "saturday", "sunday"};
+
+    private final int[] meetings;
+
+    private Schedule(int[] meetings) {
+        this.meetings = meetings;
+    }
+
+    public static Schedule parse(String dayTime) {
+        if (dayTime == null || dayTime.trim().isEmpty()) {
+            return EMPTY;
+        }
+        String[] entries = dayTime.split(";");
+        int[] parsed = new int[entries.length];
+        int count = 0;
+        for (String entry : entries) {
+            int meeting = parseEntry(entry.trim());
+            if (meeting != 0) {
+                parsed[count++] = meeting;
+            }
+        }
+        return count == 0 ? EMPTY : new Schedule(Arrays.copyOf(parsed, count));
+    }
+
+    public int size() {
+        return meetings.length;
+    }
+
+    public boolean isEmpty() {
+        return meetings.length == 0;
+    }
+
+    public int getDayMask(int index) {
+        return meetings[index] >>> 22;
+    }
+
+    public int getStartMinute(int index) {
+        return (meetings[index] >>> 11) & 0x7FF;
+    }
+
+    public int getEndMinute(int index) {
+        return meetings[index] & 0x7FF;
+    }
+
+    public int getDayMask() {
+        int mask = 0;
+        for (int i = 0; i < meetings.length; i++) {
+            mask |= getDayMask(i);
+        }
+        return mask;
+    }
+
+    public boolean overlaps(Schedule other) {
+        for (int i = 0; i < meetings.length; i++) {
+            for (int j = 0; j < other.meetings.length; j++) {
+                if ((getDayMask(i) & other.getDayMask(j)) != 0
+                        && getStartMinute(i) < other.getEndMinute(j) && other.getStartMinute(j) < getEndMinute(i)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static boolean meetsOn(int dayMask, int day) {
+        return (dayMask & (1 << day)) != 0;
+    }
+
+    public static int parseDayMask(String days) {
+        return days == null ? 0 : parseDays(days);
+    }
+
+    public static String dayName(int day) {
+        return DAY_NAMES[day];
+    }
+
+    public static String formatMinutes(int minutes) {
+        return String.format("%02d:%02d", minutes / 60, minutes % 60);
+    }
+
+    public static String formatRange(int startMinute, int endMinute) {
+        return formatMinutes(startMinute) + " - " + formatMinutes(endMinute);
+    }
+
+    private static int parseEntry(String entry) {
+        int timeStart = -1;
+        for (int i = 0; i < entry.length(); i++) {
+            if (Character.isDigit(entry.charAt(i))) {
+                timeStart = i;
+                break;
+            }
+        }
+        if (timeStart <= 0) {
+            return 0;
+        }
+
+        int dayMask = parseDays(entry.substring(0, timeStart));
+        String[] times = entry.substring(timeStart).split("-");
+        if (dayMask == 0 || times.length != 2) {
+            return 0;
+        }
+        int start = parseMinutes(times[0].trim());
+        int end = parseMinutes(times[1].trim());
+        if (start < 0 || end <= start) {
+            return 0;
+        }
+        return (dayMask << 22) | (start << 11) | end;
+    }
+
+    private static int parseDays(String days) {
+        String compact = days.toLowerCase().replaceAll("[^a-z]", "");
+        if (compact.isEmpty()) {
+            return 0;
+        }
+        int mask = 0;
+        int i = 0;
+        while (i < compact.length()) {
+            int matched = -1;
+            int length = 0;
+            for (int day = 0; day < DAY_COUNT; day++) {
+                String full = FULL_DAY_NAMES[day];
+                if (compact.startsWith(full, i)) {
+                    matched = day;
+                    length = full.length();
+                    break;
+                }
+                if (compact.startsWith(full.substring(0, 3), i)) {
+                    matched = day;
+                    length = 3;
+                    break;
+                }
+            }
+            if (matched < 0) {
+                int letter = parseLetter(compact, i);
+                if (letter < 0) {
+                    return 0;
+                }
+                matched = letter & 0xF;
+                length = letter >>> 4;
+            }
+            mask |= 1 << matched;
+            i += length;
+        }
+        return mask;
+    }
+
+    private static int parseLetter(String compact, int i) {
+        char next = i + 1 < compact.length() ? compact.charAt(i + 1) : 0;
+        switch (compact.charAt(i)) {
+            case 'm': return (1 << 4);
+            case 't':
+                if (next == 'h') return (2 << 4) | 3;
+                if (next == 'u') return (2 << 4) | 1;
+                return (1 << 4) | 1;
+            case 'w': return (1 << 4) | 2;
+            case 'r': return (1 << 4) | 3;
+            case 'f': return (1 << 4) | 4;
+            case 's':
+                if (next == 'u') return (2 << 4) | 6;
+                if (next == 'a') return (2 << 4) | 5;
+                return (1 << 4) | 5;
+            default: return -1;
+        }
+    }
+
+    private static int parseMinutes(String time) {
+        String[] parts = time.split(":");
+        if (parts.length != 2) {
+            return -1;
+        }
+        try {
+            int hours = Integer.parseInt(parts[0].trim());
+            int minutes = Integer.parseInt(parts[1].trim());
+            if (hours < 0 || hours > 24 || minutes < 0 || minutes > 59) {
+                return -1;
+            }
+            return hours * 60 + minutes;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Schedule && Arrays.equals(meetings, ((Schedule) o).meetings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(meetings);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < meetings.length; i++) {
+            if (sb.length() > 0) {
+                sb.append("; ");
+            }
+            int mask = getDayMask(i);
+            StringBuilder days = new StringBuilder();
+            for (int day = 0; day < DAY_COUNT; day++) {
+                if (meetsOn(mask, day)) {
+                    if (days.length() > 0) {
+                        days.append('/');
+                    }
+                    days.append(DAY_NAMES[day]);
+                }
+            }
+            sb.append(days).append(' ')
+              .append(formatMinutes(getStartMinute(i))).append('-').append(formatMinutes(getEndMinute(i)));
+        }
+        return sb.toString();
+    }
+}
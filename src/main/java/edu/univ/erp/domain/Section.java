@@ -8,6 +8,7 @@ public class Section {
     private Integer instructorId;
     private String sectionCode;
     private String dayTime;
+    private Schedule schedule = Schedule.EMPTY;
     private String room;
     private int capacity;
     private int enrolledCount;
@@ -31,6 +32,27 @@ public class Section {
         this.enrolledCount = 0;
     }
 
+    public Section(Section other) {
+        this.sectionId = other.sectionId;
+        this.courseId = other.courseId;
+        this.instructorId = other.instructorId;
+        this.sectionCode = other.sectionCode;
+        this.dayTime = other.dayTime;
+        this.schedule = other.schedule;
+        this.room = other.room;
+        this.capacity = other.capacity;
+        this.enrolledCount = other.enrolledCount;
+        this.semester = other.semester;
+        this.year = other.year;
+        this.status = other.status;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+        this.courseCode = other.courseCode;
+        this.courseTitle = other.courseTitle;
+        this.courseCredits = other.courseCredits;
+        this.instructorName = other.instructorName;
+    }
+
     public Section(int courseId, String sectionCode, int capacity, String semester, int year) {
         this();
         this.courseId = courseId;
@@ -78,6 +100,11 @@ public class Section {
 
     public void setDayTime(String dayTime) {
         this.dayTime = dayTime;
+        this.schedule = Schedule.parse(dayTime);
+    }
+
+    public Schedule getSchedule() {
+        return schedule;
     }
 
     public String getRoom() {
@@ -0,0 +1,61 @@
+package edu.univ.erp.domain;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class SectionDetail {
+    private final Section section;
+    private final List<Enrollment> enrollments;
+    private final Map<Integer, List<Grade>> gradesByEnrollment;
+
+    public SectionDetail(Section section, List<Enrollment> enrollments, Map<Integer, List<Grade>> gradesByEnrollment) {
+        this.section = section;
+        this.enrollments = Collections.unmodifiableList(enrollments);
+        this.gradesByEnrollment = gradesByEnrollment;
+    }
+
+    public Section getSection() {
+        return section;
+    }
+
+    public List<Enrollment> getEnrollments() {
+        return enrollments;
+    }
+
+    public int size() {
+        return enrollments.size();
+    }
+
+    public boolean isEmpty() {
+        return enrollments.isEmpty();
+    }
+
+    public Enrollment getEnrollment(int row) {
+        return row >= 0 && row < enrollments.size() ? enrollments.get(row) : null;
+    }
+
+    public List<Grade> getGrades(int enrollmentId) {
+        return gradesByEnrollment.getOrDefault(enrollmentId, Collections.emptyList());
+    }
+
+    public Grade getGrade(int enrollmentId, int gradeId) {
+        for (Grade grade : getGrades(enrollmentId)) {
+            if (grade.getGradeId() == gradeId) {
+                return grade;
+            }
+        }
+        return null;
+    }
+
+    public BigDecimal getTotalWeightage(int enrollmentId) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Grade grade : getGrades(enrollmentId)) {
+            if (grade.getWeightage() != null) {
+                total = total.add(grade.getWeightage());
+            }
+        }
+        return total;
+    }
+}
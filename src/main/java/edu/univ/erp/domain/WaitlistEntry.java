@@ -0,0 +1,110 @@
+package edu.univ.erp.domain;
+
+import java.time.LocalDateTime;
+
+public class WaitlistEntry {
+    private int waitlistId;
+    private int studentId;
+    private int sectionId;
+    private int position;
+    private LocalDateTime createdAt;
+
+    private String courseCode;
+    private String courseTitle;
+    private String sectionCode;
+    private String semester;
+    private int year;
+
+    public WaitlistEntry() {}
+
+    public WaitlistEntry(int studentId, int sectionId) {
+        this.studentId = studentId;
+        this.sectionId = sectionId;
+    }
+
+    public int getWaitlistId() {
+        return waitlistId;
+    }
+
+    public void setWaitlistId(int waitlistId) {
+        this.waitlistId = waitlistId;
+    }
+
+    public int getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(int studentId) {
+        this.studentId = studentId;
+    }
+
+    public int getSectionId() {
+        return sectionId;
+    }
+
+    public void setSectionId(int sectionId) {
+        this.sectionId = sectionId;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    public void setCourseCode(String courseCode) {
+        this.courseCode = courseCode;
+    }
+
+    public String getCourseTitle() {
+        return courseTitle;
+    }
+
+    public void setCourseTitle(String courseTitle) {
+        this.courseTitle = courseTitle;
+    }
+
+    public String getSectionCode() {
+        return sectionCode;
+    }
+
+    public void setSectionCode(String sectionCode) {
+        this.sectionCode = sectionCode;
+    }
+
+    public String getSemester() {
+        return semester;
+    }
+
+    public void setSemester(String semester) {
+        this.semester = semester;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public void setYear(int year) {
+        this.year = year;
+    }
+
+    @Override
+    public String toString() {
+        return "WaitlistEntry{" +"waitlistId=" + waitlistId +", studentId=" + studentId +", sectionId="
+        + sectionId +", position=" + position +'}';
+    }
+}
@@ -1,15 +1,16 @@
 package edu.univ.erp.service;
 
 import edu.univ.erp.access.AccessControl;
+import edu.univ.erp.auth.PasswordHasher;
 import edu.univ.erp.data.*;
 import edu.univ.erp.domain.*;
 import edu.univ.erp.util.DatabaseManager;
-import org.mindrot.jbcrypt.BCrypt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 public class AdminService {
     private static final Logger logger = LoggerFactory.getLogger(AdminService.class);
@@ -17,18 +18,20 @@ public class AdminService {
     private final InstructorDAO instructorDAO;
     private final CourseDAO courseDAO;
     private final SectionDAO sectionDAO;
-    private final SettingDAO settingDAO;
+    private final SettingsCache settings;
     private final UserDAO userDAO;
     private final AccessControl accessControl;
+    private final CourseSearchIndex searchIndex;
 
     public AdminService() {
         this.studentDAO = new StudentDAO();
         this.instructorDAO = new InstructorDAO();
         this.courseDAO = new CourseDAO();
         this.sectionDAO = new SectionDAO();
-        this.settingDAO = new SettingDAO();
+        this.settings = SettingsCache.getInstance();
         this.userDAO = new UserDAO();
         this.accessControl = AccessControl.getInstance();
+        this.searchIndex = CourseSearchIndex.getInstance();
     }
 
     public String createUser(String username, String password, User.UserRole role,
@@ -39,7 +42,12 @@ public class AdminService {
             return "Username already exists.";
         }
 
-        String passwordHash = BCrypt.hashpw(password, BCrypt.gensalt());
+        String passwordHash;
+        try {
+            passwordHash = PasswordHasher.getInstance().hash(password);
+        } catch (RejectedExecutionException e) {
+            return PasswordHasher.BUSY_MESSAGE;
+        }
 
         try (Connection conn = DatabaseManager.getInstance().getAuthConnection()) {
             conn.setAutoCommit(false);
@@ -140,6 +148,7 @@ public class AdminService {
 
         if (courseDAO.create(course)) {
             logger.info("Course created: {}", code);
+            searchIndex.catalogChanged();
             return null;
         }
         return "Failed to create course (Code might be duplicate).";
@@ -151,7 +160,10 @@ public class AdminService {
 
     public String updateCourse(Course course) {
         if (!accessControl.isAdmin()) return accessControl.getPermissionDeniedMessage();
-        if (courseDAO.update(course)) return null;
+        if (courseDAO.update(course)) {
+            searchIndex.catalogChanged();
+            return null;
+        }
         return "Failed to update course.";
     }
 
@@ -191,6 +203,7 @@ public class AdminService {
 
         if (sectionDAO.create(section)) {
             logger.info("Section created: {}-{}", courseId, sectionCode);
+            searchIndex.catalogChanged();
             return null;
         }
         return "Failed to create section. A section with this code may already exist for this course/semester.";
@@ -207,7 +220,10 @@ public class AdminService {
             return "Capacity must be a positive number.";
         }
 
-        if (sectionDAO.update(section)) return null;
+        if (sectionDAO.update(section)) {
+            searchIndex.catalogChanged();
+            return null;
+        }
         return "Failed to update section.";
     }
 
@@ -225,11 +241,39 @@ public class AdminService {
 
         if (sectionDAO.delete(sectionId)) {
             logger.info("Section deleted: {}", sectionId);
+            searchIndex.catalogChanged();
             return null;
         }
         return "Failed to delete section.";
     }
 
+    public String reconcileSeatCounts() {
+        if (!accessControl.isAdmin()) return accessControl.getPermissionDeniedMessage();
+
+        int corrected = SeatLedger.getInstance().reconcile();
+        if (corrected < 0) {
+            return "Failed to recount enrolled seats.";
+        }
+        logger.info("Seat counts reconciled, {} section(s) corrected", corrected);
+        return null;
+    }
+
+    public String calibratePasswordHashCost() {
+        if (!accessControl.isAdmin()) return accessControl.getPermissionDeniedMessage();
+
+        PasswordHasher hasher = PasswordHasher.getInstance();
+        int cost = hasher.calibrate(hasher.getLatencyBudgetMillis());
+        if (settings.setValue(SettingDAO.AUTH_HASH_COST_KEY, String.valueOf(cost))) {
+            logger.info("Password hash cost set to {}", cost);
+            return null;
+        }
+        return "Failed to save the password hash cost.";
+    }
+
+    public int getPasswordHashCost() {
+        return PasswordHasher.getInstance().getTargetCost();
+    }
+
     public List<Instructor> getAllInstructors() {
         return instructorDAO.getAll();
     }
@@ -237,7 +281,7 @@ public class AdminService {
     public String toggleMaintenanceMode(boolean enabled) {
         if (!accessControl.isAdmin()) return accessControl.getPermissionDeniedMessage();
 
-        if (settingDAO.setMaintenanceMode(enabled)) {
+        if (settings.setMaintenanceMode(enabled)) {
             logger.info("Maintenance mode set to: {}", enabled);
             return null;
         }
@@ -245,13 +289,13 @@ public class AdminService {
     }
 
     public boolean isMaintenanceModeEnabled() {
-        return settingDAO.getMaintenanceMode();
+        return settings.isMaintenanceMode();
     }
 
     public String toggleAddDropPeriod(boolean enabled) {
         if (!accessControl.isAdmin()) return accessControl.getPermissionDeniedMessage();
 
-        if (settingDAO.setAddDropEnabled(enabled)) {
+        if (settings.setAddDropEnabled(enabled)) {
             logger.info("Add/Drop period set to: {}", enabled);
             return null;
         }
@@ -259,6 +303,6 @@ public class AdminService {
     }
 
     public boolean isAddDropEnabled() {
-        return settingDAO.isAddDropEnabled();
+        return settings.isAddDropEnabled();
     }
 }
\ No newline at end of file
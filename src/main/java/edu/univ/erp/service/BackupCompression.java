@@ -0,0 +1,103 @@
+package edu.univ.erp.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public enum BackupCompression {
+    NONE(".sql"),
+    GZIP(".sql.gz"),
+    ZSTD(".sql.zst");
+
+    private static final Logger logger = LoggerFactory.getLogger(BackupCompression.class);
+    private static final String ZSTD_OUTPUT_CLASS = "com.github.luben.zstd.ZstdOutputStream";
+    private static final String ZSTD_INPUT_CLASS = "com.github.luben.zstd.ZstdInputStream";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String extension;
+
+    BackupCompression(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public OutputStream wrap(OutputStream out) throws IOException {
+        switch (this) {
+            case GZIP:
+                return new GZIPOutputStream(out, BUFFER_SIZE);
+            case ZSTD:
+                return (OutputStream) newZstdStream(ZSTD_OUTPUT_CLASS, OutputStream.class, out);
+            default:
+                return out;
+        }
+    }
+
+    public InputStream wrap(InputStream in) throws IOException {
+        switch (this) {
+            case GZIP:
+                return new GZIPInputStream(in, BUFFER_SIZE);
+            case ZSTD:
+                return (InputStream) newZstdStream(ZSTD_INPUT_CLASS, InputStream.class, in);
+            default:
+                return in;
+        }
+    }
+
+    public static boolean isZstdAvailable() {
+        try {
+            Class.forName(ZSTD_OUTPUT_CLASS);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    public static BackupCompression fromName(String name) {
+        if (name == null) {
+            return GZIP;
+        }
+        switch (name.trim().toLowerCase()) {
+            case "none":
+                return NONE;
+            case "zstd":
+                if (isZstdAvailable()) {
+                    return ZSTD;
+                }
+                logger.warn("zstd compression requested but zstd-jni is not on the classpath, using gzip");
+                return GZIP;
+            default:
+                return GZIP;
+        }
+    }
+
+    public static BackupCompression fromFileName(String fileName) {
+        if (fileName.endsWith(ZSTD.extension)) {
+            return ZSTD;
+        }
+        if (fileName.endsWith(GZIP.extension)) {
+            return GZIP;
+        }
+        return NONE;
+    }
+
+    public static boolean isBackupFile(String fileName) {
+        return fileName.endsWith(NONE.extension) || fileName.endsWith(GZIP.extension)
+                || fileName.endsWith(ZSTD.extension);
+    }
+
+    private static Object newZstdStream(String className, Class<?> streamType, Object stream) throws IOException {
+        try {
+            return Class.forName(className).getConstructor(streamType).newInstance(stream);
+        } catch (ReflectiveOperationException e) {
+            throw new IOException("zstd compression is not available", e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package edu.univ.erp.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+public class BackupManifest {
+    public static final String FILE_NAME = "manifest.properties";
+    public static final String SIDECAR_SUFFIX = ".manifest";
+
+    private final Map<String, String> entries = new TreeMap<>();
+
+    public String get(String key) {
+        return entries.get(key);
+    }
+
+    public long getLong(String key, long defaultValue) {
+        String value = entries.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public void set(String key, Object value) {
+        entries.put(key, String.valueOf(value));
+    }
+
+    public List<String> getTables() {
+        String value = entries.get("tables");
+        if (value == null || value.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(value.split(",")));
+    }
+
+    public void setTables(List<String> tables) {
+        entries.put("tables", String.join(",", tables));
+    }
+
+    public String getTable(String table, String property) {
+        return entries.get("table." + table + "." + property);
+    }
+
+    public long getTableLong(String table, String property, long defaultValue) {
+        return getLong("table." + table + "." + property, defaultValue);
+    }
+
+    public void setTable(String table, String property, Object value) {
+        set("table." + table + "." + property, value);
+    }
+
+    public void save(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# ERP backup manifest");
+            writer.newLine();
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                writer.write(escape(entry.getKey()) + "=" + escape(entry.getValue()));
+                writer.newLine();
+            }
+        }
+    }
+
+    public static BackupManifest load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        BackupManifest manifest = new BackupManifest();
+        for (String key : properties.stringPropertyNames()) {
+            manifest.entries.put(key, properties.getProperty(key));
+        }
+        return manifest;
+    }
+
+    public static Path sidecarFor(Path backupFile) {
+        return backupFile.resolveSibling(backupFile.getFileName() + SIDECAR_SUFFIX);
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\': escaped.append("\\\\"); break;
+                case '\n': escaped.append("\\n"); break;
+                case '\r': escaped.append("\\r"); break;
+                case '=': case ':': case '#': case '!':
+                    escaped.append('\\').append(c);
+                    break;
+                default:
+                    if (c > 0x7E) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,7 @@
+package edu.univ.erp.service;
+
+public interface BackupProgressListener {
+    void onTableProgress(String tableName, long rows);
+
+    void onTableComplete(String tableName, long rows, long elapsedMillis);
+}
@@ -0,0 +1,375 @@
+package edu.univ.erp.service;
+
+import edu.univ.erp.util.DatabaseManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class BackupRestorer {
+    private static final Logger logger = LoggerFactory.getLogger(BackupRestorer.class);
+
+    private static final Pattern INSERT_PATTERN = Pattern.compile(
+            "^(?:INSERT|REPLACE)\\s+(?:IGNORE\\s+)?INTO\\s+`?([A-Za-z0-9_]+)`?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern TABLE_DDL_PATTERN = Pattern.compile(
+            "^(?:DROP\\s+TABLE(?:\\s+IF\\s+EXISTS)?|CREATE\\s+TABLE(?:\\s+IF\\s+NOT\\s+EXISTS)?"
+                    + "|ALTER\\s+TABLE|TRUNCATE(?:\\s+TABLE)?)\\s+`?([A-Za-z0-9_]+)`?",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern TRIGGER_PATTERN = Pattern.compile(
+            "^CREATE\\s+(?:DEFINER\\s*=\\s*\\S+\\s+)?TRIGGER\\s+\\S+\\s+(?:BEFORE|AFTER)\\s+(?:INSERT|UPDATE|DELETE)"
+                    + "\\s+ON\\s+`?([A-Za-z0-9_]+)`?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DELETE_PATTERN = Pattern.compile(
+            "^DELETE\\s+FROM\\s+`?([A-Za-z0-9_]+)`?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CHECKS_PATTERN = Pattern.compile(
+            "^SET\\s+(?:FOREIGN_KEY_CHECKS|UNIQUE_CHECKS)\\s*=\\s*\\d+$", Pattern.CASE_INSENSITIVE);
+
+    private final int workers;
+    private final int batchSize;
+    private final BackupProgressListener listener;
+
+    private final Map<String, List<String>> pending = new HashMap<>();
+    private final Map<String, List<Future<?>>> inFlight = new HashMap<>();
+    private final Map<String, TableRestore> tables = new LinkedHashMap<>();
+    private final List<Connection> workerConnections = Collections.synchronizedList(new ArrayList<>());
+    private final ThreadLocal<Connection> workerConnection = new ThreadLocal<>();
+    private ExecutorService pool;
+    private Semaphore slots;
+
+    public BackupRestorer(int workers, int batchSize, BackupProgressListener listener) {
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.listener = listener;
+    }
+
+    public List<TableRestore> restore(List<Path> scripts) throws SQLException, IOException {
+        AtomicInteger threadIndex = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "restore-worker-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        slots = new Semaphore(workers * 2);
+
+        boolean completed = false;
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             Statement stmt = conn.createStatement()) {
+            deferChecks(stmt);
+            try {
+                for (Path script : scripts) {
+                    try (SqlStatementReader reader = open(script)) {
+                        String sql;
+                        while ((sql = reader.next()) != null) {
+                            dispatch(stmt, sql);
+                        }
+                    }
+                }
+                awaitAll();
+                completed = true;
+            } finally {
+                restoreChecks(stmt);
+            }
+        } finally {
+            shutdown(completed);
+        }
+
+        List<TableRestore> results = new ArrayList<>(tables.values());
+        for (TableRestore table : results) {
+            logger.info("Restored table {} ({} rows, {} statements in {} ms)", table.getTableName(),
+                    table.getRows(), table.getStatements(), table.getElapsedMillis());
+            if (listener != null) {
+                listener.onTableComplete(table.getTableName(), table.getRows(), table.getElapsedMillis());
+            }
+        }
+        return results;
+    }
+
+    private SqlStatementReader open(Path script) throws IOException {
+        return new SqlStatementReader(new InputStreamReader(
+                BackupCompression.fromFileName(script.getFileName().toString())
+                        .wrap(new BufferedInputStream(Files.newInputStream(script))),
+                StandardCharsets.UTF_8));
+    }
+
+    private void dispatch(Statement stmt, String sql) throws SQLException, IOException {
+        Matcher insert = INSERT_PATTERN.matcher(sql);
+        if (insert.lookingAt()) {
+            String tableName = insert.group(1);
+            List<String> chunk = pending.computeIfAbsent(tableName, t -> new ArrayList<>());
+            chunk.add(sql);
+            if (chunk.size() >= batchSize) {
+                submit(tableName);
+            }
+            return;
+        }
+
+        if (CHECKS_PATTERN.matcher(sql).matches()) {
+            return;
+        }
+
+        Matcher delete = DELETE_PATTERN.matcher(sql);
+        if (delete.lookingAt()) {
+            awaitAll();
+            stmt.execute("SET FOREIGN_KEY_CHECKS = 1");
+            try {
+                execute(stmt, sql, tableFor(delete.group(1)));
+            } finally {
+                stmt.execute("SET FOREIGN_KEY_CHECKS = 0");
+            }
+            return;
+        }
+
+        Matcher ddl = TABLE_DDL_PATTERN.matcher(sql);
+        if (!ddl.lookingAt()) {
+            ddl = TRIGGER_PATTERN.matcher(sql);
+        }
+        if (ddl.lookingAt()) {
+            String tableName = ddl.group(1);
+            await(tableName);
+            execute(stmt, sql, tableFor(tableName));
+        } else {
+            awaitAll();
+            execute(stmt, sql, null);
+        }
+    }
+
+    private void execute(Statement stmt, String sql, TableRestore table) {
+        long started = System.nanoTime();
+        try {
+            stmt.execute(sql);
+        } catch (SQLException e) {
+            logger.warn("Error executing SQL during restore (continuing): {}", e.getMessage());
+        }
+        if (table != null) {
+            table.record(1, 0, started, System.nanoTime());
+        }
+    }
+
+    private void submit(String tableName) throws SQLException, IOException {
+        List<String> chunk = pending.remove(tableName);
+        if (chunk == null || chunk.isEmpty()) {
+            return;
+        }
+
+        List<Future<?>> futures = inFlight.computeIfAbsent(tableName, t -> new ArrayList<>());
+        Iterator<Future<?>> it = futures.iterator();
+        while (it.hasNext()) {
+            Future<?> future = it.next();
+            if (future.isDone()) {
+                waitFor(future);
+                it.remove();
+            }
+        }
+
+        TableRestore table = tableFor(tableName);
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Restore interrupted", e);
+        }
+        try {
+            futures.add(pool.submit(() -> {
+                try {
+                    loadChunk(table, chunk);
+                } finally {
+                    slots.release();
+                }
+                return null;
+            }));
+        } catch (RejectedExecutionException e) {
+            slots.release();
+            throw new IOException("Restore worker pool rejected batch", e);
+        }
+    }
+
+    private void loadChunk(TableRestore table, List<String> chunk) throws SQLException {
+        long started = System.nanoTime();
+        Connection conn = workerConnection();
+        long rows = 0;
+
+        try (Statement stmt = conn.createStatement()) {
+            try {
+                for (String sql : chunk) {
+                    stmt.addBatch(sql);
+                }
+                for (int count : stmt.executeBatch()) {
+                    if (count > 0) {
+                        rows += count;
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                stmt.clearBatch();
+                logger.warn("Batch restore of {} failed ({}), retrying statements individually",
+                        table.getTableName(), e.getMessage());
+                rows = 0;
+                for (String sql : chunk) {
+                    try {
+                        rows += Math.max(0, stmt.executeUpdate(sql));
+                    } catch (SQLException ex) {
+                        logger.warn("Error executing SQL during restore (continuing): {}", ex.getMessage());
+                    }
+                }
+                conn.commit();
+            }
+        }
+
+        table.record(chunk.size(), rows, started, System.nanoTime());
+    }
+
+    private Connection workerConnection() throws SQLException {
+        Connection conn = workerConnection.get();
+        if (conn == null) {
+            conn = DatabaseManager.getInstance().getErpConnection();
+            workerConnections.add(conn);
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                deferChecks(stmt);
+            }
+            workerConnection.set(conn);
+        }
+        return conn;
+    }
+
+    private void await(String tableName) throws SQLException, IOException {
+        submit(tableName);
+        List<Future<?>> futures = inFlight.remove(tableName);
+        if (futures != null) {
+            for (Future<?> future : futures) {
+                waitFor(future);
+            }
+        }
+    }
+
+    private void awaitAll() throws SQLException, IOException {
+        for (String tableName : new ArrayList<>(pending.keySet())) {
+            submit(tableName);
+        }
+        for (String tableName : new ArrayList<>(inFlight.keySet())) {
+            await(tableName);
+        }
+    }
+
+    private void waitFor(Future<?> future) throws SQLException, IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Restore interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Restore worker failed", cause);
+        }
+    }
+
+    private TableRestore tableFor(String tableName) {
+        return tables.computeIfAbsent(tableName, TableRestore::new);
+    }
+
+    private void shutdown(boolean completed) {
+        if (completed) {
+            pool.shutdown();
+        } else {
+            pool.shutdownNow();
+        }
+        try {
+            if (!pool.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.warn("Restore workers did not stop in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (workerConnections) {
+            for (Connection conn : workerConnections) {
+                try {
+                    if (!conn.getAutoCommit()) {
+                        conn.rollback();
+                        conn.setAutoCommit(true);
+                    }
+                    try (Statement stmt = conn.createStatement()) {
+                        restoreChecks(stmt);
+                    }
+                } catch (SQLException e) {
+                    logger.debug("Error resetting restore connection", e);
+                }
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    logger.debug("Error closing restore connection", e);
+                }
+            }
+            workerConnections.clear();
+        }
+    }
+
+    private static void deferChecks(Statement stmt) throws SQLException {
+        stmt.execute("SET FOREIGN_KEY_CHECKS = 0, UNIQUE_CHECKS = 0");
+    }
+
+    private static void restoreChecks(Statement stmt) throws SQLException {
+        stmt.execute("SET FOREIGN_KEY_CHECKS = 1, UNIQUE_CHECKS = 1");
+    }
+
+    public static class TableRestore {
+        private final String tableName;
+        private long statements;
+        private long rows;
+        private long firstStarted;
+        private long lastFinished;
+
+        private TableRestore(String tableName) {
+            this.tableName = tableName;
+        }
+
+        private synchronized void record(long statementCount, long rowCount, long started, long finished) {
+            if (statements == 0 || started < firstStarted) {
+                firstStarted = started;
+            }
+            if (statements == 0 || finished > lastFinished) {
+                lastFinished = finished;
+            }
+            statements += statementCount;
+            rows += rowCount;
+        }
+
+        public String getTableName() { return tableName; }
+        public synchronized long getStatements() { return statements; }
+        public synchronized long getRows() { return rows; }
+        public synchronized long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(lastFinished - firstStarted);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package edu.univ.erp.service;
 
 import edu.univ.erp.access.AccessControl;
+import edu.univ.erp.data.SettingsCache;
 import edu.univ.erp.util.DatabaseManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,26 +12,62 @@ import java.sql.*;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.Date;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
 
 public class BackupService {
     private static final Logger logger = LoggerFactory.getLogger(BackupService.class);
     private final AccessControl accessControl;
 
     private static final String DEFAULT_BACKUP_DIR = "backups";
+    private static final String CHANGE_LOG_TABLE = "change_log";
+    private static final java.util.regex.Pattern TIMESTAMP_PATTERN =
+            java.util.regex.Pattern.compile("^\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}$");
     private String backupDirectory;
+    private final BackupCompression compression;
+    private final int insertBatchSize;
+    private final boolean snapshotMode;
+    private final int parallelWorkers;
+    private final int restoreBatchSize;
+    private final int incrementalSafetySeconds;
 
     public BackupService() {
         this.accessControl = AccessControl.getInstance();
         this.backupDirectory = DEFAULT_BACKUP_DIR;
+        this.compression = BackupCompression.fromName(DatabaseManager.getInstance().getProperty("backup.compression", "gzip"));
+        this.insertBatchSize = DatabaseManager.getInstance().getIntProperty("backup.insertBatchSize", 500);
+        this.snapshotMode = !"file".equalsIgnoreCase(DatabaseManager.getInstance().getProperty("backup.mode", "snapshot"));
+        this.parallelWorkers = defaultParallelWorkers();
+        this.restoreBatchSize = DatabaseManager.getInstance().getIntProperty("backup.restoreBatchSize", 100);
+        this.incrementalSafetySeconds = DatabaseManager.getInstance().getIntProperty("backup.incrementalSafetySeconds", 300);
         ensureBackupDirectoryExists();
     }
 
     public BackupService(String customBackupDir) {
         this.accessControl = AccessControl.getInstance();
         this.backupDirectory = customBackupDir;
+        this.compression = BackupCompression.fromName(DatabaseManager.getInstance().getProperty("backup.compression", "gzip"));
+        this.insertBatchSize = DatabaseManager.getInstance().getIntProperty("backup.insertBatchSize", 500);
+        this.snapshotMode = !"file".equalsIgnoreCase(DatabaseManager.getInstance().getProperty("backup.mode", "snapshot"));
+        this.parallelWorkers = defaultParallelWorkers();
+        this.restoreBatchSize = DatabaseManager.getInstance().getIntProperty("backup.restoreBatchSize", 100);
+        this.incrementalSafetySeconds = DatabaseManager.getInstance().getIntProperty("backup.incrementalSafetySeconds", 300);
         ensureBackupDirectoryExists();
     }
 
+    private int defaultParallelWorkers() {
+        DatabaseManager db = DatabaseManager.getInstance();
+        int poolHeadroom = Math.max(1, db.getIntProperty("db.pool.maximumPoolSize", 10) - 2);
+        int configured = db.getIntProperty("backup.parallelWorkers", Runtime.getRuntime().availableProcessors());
+        return Math.max(1, Math.min(configured, poolHeadroom));
+    }
+
     private void ensureBackupDirectoryExists() {
         try {
             Path backupPath = Paths.get(backupDirectory);
@@ -44,16 +81,58 @@ public class BackupService {
     }
 
     public BackupResult createBackup() {
+        return createBackup(null);
+    }
+
+    public BackupResult createBackup(BackupProgressListener listener) {
+        if (!accessControl.isAdmin()) {
+            return new BackupResult(false, null, "Access denied. Only admins can create backups.");
+        }
+
+        if (snapshotMode) {
+            return createSnapshotBackup(null, null, listener);
+        }
+        return createFileBackup(listener);
+    }
+
+    public BackupResult createIncrementalBackup() {
+        return createIncrementalBackup(null);
+    }
+
+    public BackupResult createIncrementalBackup(BackupProgressListener listener) {
         if (!accessControl.isAdmin()) {
             return new BackupResult(false, null, "Access denied. Only admins can create backups.");
         }
 
+        Path basePath = findLatestSnapshot();
+        if (basePath == null) {
+            logger.info("No snapshot backup to build on, creating a full backup instead");
+            return createSnapshotBackup(null, null, listener);
+        }
+
+        try {
+            BackupManifest base = BackupManifest.load(basePath.resolve(BackupManifest.FILE_NAME));
+            return createSnapshotBackup(basePath, base, listener);
+        } catch (IOException e) {
+            logger.error("Error reading base backup manifest", e);
+            return new BackupResult(false, null, "Error reading base backup manifest: " + e.getMessage());
+        }
+    }
+
+    private BackupResult createFileBackup(BackupProgressListener listener) {
         String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        String backupFileName = "erp_backup_" + timestamp + ".sql";
+        String backupFileName = "erp_backup_" + timestamp + compression.getExtension();
         Path backupFilePath = Paths.get(backupDirectory, backupFileName);
+        BackupProgressListener progress = withLogging(listener);
 
+        long totalRows = 0;
+        int tableCount = 0;
+        BackupManifest manifest = new BackupManifest();
+        List<String> dumpedTables = new ArrayList<>();
+        Checksum checksum = BackupVerifier.newChecksum();
         try (Connection conn = DatabaseManager.getInstance().getErpConnection();
-             PrintWriter writer = new PrintWriter(new FileWriter(backupFilePath.toFile()))) {
+             SqlDumpWriter writer = new SqlDumpWriter(compression.wrap(new BufferedOutputStream(
+                     new CheckedOutputStream(Files.newOutputStream(backupFilePath), checksum))), insertBatchSize)) {
 
             writer.println("-- ERP Database Backup");
             writer.println("-- Created: " + new Date());
@@ -62,23 +141,26 @@ public class BackupService {
             writer.println("SET FOREIGN_KEY_CHECKS = 0;");
             writer.println();
 
-            List<String> tables = getTableNames(conn);
-
-            for (String tableName : tables) {
-
-                if (tableName.startsWith("_") || tableName.equalsIgnoreCase("settings")) {
-
-                    if (!tableName.equalsIgnoreCase("settings")) {
-                        continue;
-                    }
+            for (String tableName : getTableNames(conn)) {
+                if (!isDumpable(tableName)) {
+                    continue;
                 }
 
                 writer.println("-- Table: " + tableName);
                 writer.println();
 
-                exportTableStructure(conn, tableName, writer);
-
-                exportTableData(conn, tableName, writer);
+                try {
+                    writer.writeStructure(conn, tableName);
+                    long rows = writer.writeData(conn, tableName, progress);
+                    writer.println();
+                    writer.writeTriggers(conn, tableName);
+                    manifest.setTable(tableName, "rows", rows);
+                    dumpedTables.add(tableName);
+                    totalRows += rows;
+                    tableCount++;
+                } catch (SQLException e) {
+                    logger.warn("Skipping table {} - {}", tableName, e.getMessage());
+                }
 
                 writer.println();
             }
@@ -87,9 +169,6 @@ public class BackupService {
             writer.println();
             writer.println("-- End of backup");
 
-            logger.info("Backup created successfully: {}", backupFilePath.toAbsolutePath());
-            return new BackupResult(true, backupFilePath.toAbsolutePath().toString(), "Backup created successfully.");
-
         } catch (SQLException e) {
             logger.error("Database error during backup", e);
             return new BackupResult(false, null, "Database error: " + e.getMessage());
@@ -97,99 +176,450 @@ public class BackupService {
             logger.error("IO error during backup", e);
             return new BackupResult(false, null, "File error: " + e.getMessage());
         }
+
+        try {
+            manifest.set("created", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date()));
+            manifest.set("type", "file");
+            manifest.set("compression", compression.name().toLowerCase());
+            manifest.set("checksum", "crc32c");
+            manifest.set("file", backupFileName);
+            manifest.set("bytes", Files.size(backupFilePath));
+            manifest.set("crc32c", BackupVerifier.format(checksum));
+            manifest.setTables(dumpedTables);
+            manifest.save(BackupManifest.sidecarFor(backupFilePath));
+        } catch (IOException e) {
+            logger.error("Error writing backup manifest", e);
+            return new BackupResult(false, null, "Error writing backup manifest: " + e.getMessage());
+        }
+
+        logger.info("Backup created successfully: {} ({} tables, {} rows)",
+                backupFilePath.toAbsolutePath(), tableCount, totalRows);
+        return new BackupResult(true, backupFilePath.toAbsolutePath().toString(),
+                String.format("Backup created successfully (%d tables, %d rows).", tableCount, totalRows));
     }
 
-    private List<String> getTableNames(Connection conn) throws SQLException {
-        List<String> tables = new ArrayList<>();
-        DatabaseMetaData metaData = conn.getMetaData();
-        try (ResultSet rs = metaData.getTables(null, null, "%", new String[]{"TABLE"})) {
-            while (rs.next()) {
-                tables.add(rs.getString("TABLE_NAME"));
+    private BackupResult createSnapshotBackup(Path basePath, BackupManifest base, BackupProgressListener listener) {
+        boolean incremental = base != null;
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        Path backupDir = Paths.get(backupDirectory, "erp_backup_" + timestamp + (incremental ? "_incr" : ""));
+        BackupProgressListener progress = withLogging(listener);
+        long started = System.currentTimeMillis();
+
+        List<Connection> connections = new ArrayList<>();
+        ExecutorService pool = null;
+        try {
+            Files.createDirectories(backupDir);
+
+            Connection coordinator = DatabaseManager.getInstance().getErpConnection();
+            connections.add(coordinator);
+
+            List<String> tables = new ArrayList<>();
+            for (String tableName : getTableNames(coordinator)) {
+                if (isDumpable(tableName) && !(incremental && tableName.equalsIgnoreCase(CHANGE_LOG_TABLE))) {
+                    tables.add(tableName);
+                }
+            }
+
+            int workerCount = Math.max(1, Math.min(tables.size(), parallelWorkers));
+            List<Connection> workerConnections = new ArrayList<>();
+            for (int i = 0; i < workerCount; i++) {
+                Connection conn = DatabaseManager.getInstance().getErpConnection();
+                connections.add(conn);
+                workerConnections.add(conn);
+            }
+
+            String snapshotTime = currentTimestamp(coordinator);
+            String lockMode = openConsistentSnapshot(coordinator, tables, workerConnections);
+
+            Queue<String> pending = new ConcurrentLinkedQueue<>(tables);
+            AtomicInteger threadIndex = new AtomicInteger();
+            pool = Executors.newFixedThreadPool(workerCount, r -> {
+                Thread t = new Thread(r, "backup-worker-" + threadIndex.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+
+            List<Future<List<TableDump>>> futures = new ArrayList<>();
+            for (Connection conn : workerConnections) {
+                futures.add(pool.submit(() -> dumpTables(conn, pending, backupDir, base, progress)));
+            }
+
+            Map<String, TableDump> dumps = new HashMap<>();
+            for (Future<List<TableDump>> future : futures) {
+                for (TableDump dump : awaitDumps(future)) {
+                    dumps.put(dump.tableName, dump);
+                }
+            }
+
+            BackupManifest manifest = new BackupManifest();
+            manifest.set("created", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(started)));
+            manifest.set("type", incremental ? "incremental" : "full");
+            if (incremental) {
+                manifest.set("base", basePath.getFileName().toString());
+            }
+            manifest.set("snapshot.time", snapshotTime);
+            manifest.set("compression", compression.name().toLowerCase());
+            manifest.set("checksum", "crc32c");
+            manifest.set("snapshot.lock", lockMode);
+            manifest.set("workers", workerCount);
+            long totalRows = 0;
+            List<String> dumpedTables = new ArrayList<>();
+            for (String tableName : tables) {
+                TableDump dump = dumps.get(tableName);
+                if (dump == null) {
+                    continue;
+                }
+                dumpedTables.add(tableName);
+                manifest.setTable(tableName, "file", dump.fileName);
+                manifest.setTable(tableName, "rows", dump.rows);
+                manifest.setTable(tableName, "millis", dump.elapsedMillis);
+                manifest.setTable(tableName, "mode", dump.mode);
+                manifest.setTable(tableName, "bytes", dump.bytes);
+                manifest.setTable(tableName, "crc32c", dump.checksum);
+                manifest.setTable(tableName, "hwm", snapshotTime);
+                if (dump.deletes > 0) {
+                    manifest.setTable(tableName, "deletes", dump.deletes);
+                }
+                totalRows += dump.rows;
+            }
+            manifest.setTables(dumpedTables);
+            manifest.set("elapsedMillis", System.currentTimeMillis() - started);
+            manifest.save(backupDir.resolve(BackupManifest.FILE_NAME));
+
+            if (!incremental && tables.contains(CHANGE_LOG_TABLE)) {
+                pruneChangeLog(coordinator);
+            }
+
+            logger.info("{} backup created: {} ({} tables, {} rows, {} workers, {} ms)",
+                    incremental ? "Incremental" : "Snapshot", backupDir.toAbsolutePath(),
+                    dumpedTables.size(), totalRows, workerCount, System.currentTimeMillis() - started);
+            return new BackupResult(true, backupDir.toAbsolutePath().toString(),
+                    String.format("Backup created successfully (%d tables, %d rows).", dumpedTables.size(), totalRows));
+
+        } catch (SQLException e) {
+            logger.error("Database error during snapshot backup", e);
+            deleteRecursively(backupDir);
+            return new BackupResult(false, null, "Database error: " + e.getMessage());
+        } catch (IOException e) {
+            logger.error("IO error during snapshot backup", e);
+            deleteRecursively(backupDir);
+            return new BackupResult(false, null, "File error: " + e.getMessage());
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+            for (Connection conn : connections) {
+                closeQuietly(conn);
             }
         }
-        return tables;
     }
 
-    private boolean isValidTableName(String tableName) {
-        if (tableName == null || tableName.isEmpty()) {
-            return false;
+    private String openConsistentSnapshot(Connection coordinator, List<String> tables,
+                                          List<Connection> workers) throws SQLException {
+        String lockMode;
+        try (Statement stmt = coordinator.createStatement()) {
+            try {
+                stmt.execute("FLUSH TABLES WITH READ LOCK");
+                lockMode = "global";
+            } catch (SQLException e) {
+                logger.info("Global read lock not available ({}), locking backup tables instead", e.getMessage());
+                StringBuilder lockSql = new StringBuilder("LOCK TABLES ");
+                for (int i = 0; i < tables.size(); i++) {
+                    if (i > 0) lockSql.append(", ");
+                    lockSql.append(SqlDumpWriter.escapeIdentifier(tables.get(i))).append(" READ");
+                }
+                stmt.execute(lockSql.toString());
+                lockMode = "tables";
+            }
+
+            try {
+                for (Connection conn : workers) {
+                    conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+                    conn.setAutoCommit(false);
+                    try (Statement workerStmt = conn.createStatement()) {
+                        workerStmt.execute("START TRANSACTION WITH CONSISTENT SNAPSHOT");
+                    }
+                }
+            } finally {
+                stmt.execute("UNLOCK TABLES");
+            }
         }
-        return tableName.matches("^[a-zA-Z0-9_]+$");
+        return lockMode;
     }
 
-    private String escapeIdentifier(String identifier) {
+    private List<TableDump> dumpTables(Connection conn, Queue<String> pending, Path backupDir,
+                                       BackupManifest base, BackupProgressListener progress)
+            throws SQLException, IOException {
+        List<TableDump> dumps = new ArrayList<>();
+        String tableName;
+        while ((tableName = pending.poll()) != null) {
+            long started = System.currentTimeMillis();
+            String fileName = tableName + compression.getExtension();
+            Path file = backupDir.resolve(fileName);
+            Checksum checksum = BackupVerifier.newChecksum();
+            long rows;
+            long deletes = 0;
+            String mode;
+            try (SqlDumpWriter writer = new SqlDumpWriter(compression.wrap(new BufferedOutputStream(
+                    new CheckedOutputStream(Files.newOutputStream(file), checksum))), insertBatchSize)) {
+                String since = base != null ? base.getTable(tableName, "hwm") : null;
+                String keyColumn = base != null ? getPrimaryKeyColumn(conn, tableName) : null;
+                boolean delta = since != null && TIMESTAMP_PATTERN.matcher(since).matches()
+                        && keyColumn != null && hasColumn(conn, tableName, "updated_at");
+
+                writer.println("-- Table: " + tableName + (delta ? " (changes since " + since + ")" : ""));
+                writer.println("SET FOREIGN_KEY_CHECKS = 0;");
+                writer.println();
+
+                if (delta) {
+                    String window = "TIMESTAMP('" + since + "') - INTERVAL " + incrementalSafetySeconds + " SECOND";
+                    deletes = writer.writeDeletes(conn, tableName, keyColumn,
+                            "SELECT DISTINCT key_value FROM " + CHANGE_LOG_TABLE +
+                            " WHERE table_name = '" + tableName + "' AND changed_at >= " + window);
+                    rows = writer.writeUpserts(conn, tableName,
+                            "SELECT * FROM " + SqlDumpWriter.escapeIdentifier(tableName) +
+                            " WHERE updated_at >= " + window, progress);
+                    mode = "delta";
+                } else if (base != null) {
+                    writer.println("TRUNCATE TABLE " + SqlDumpWriter.escapeIdentifier(tableName) + ";");
+                    rows = writer.writeData(conn, tableName, progress);
+                    mode = "reload";
+                } else {
+                    writer.writeStructure(conn, tableName);
+                    rows = writer.writeData(conn, tableName, progress);
+                    writer.println();
+                    writer.writeTriggers(conn, tableName);
+                    mode = "full";
+                }
 
-        return "`" + identifier.replace("`", "``") + "`";
+                writer.println();
+                writer.println("SET FOREIGN_KEY_CHECKS = 1;");
+            }
+            dumps.add(new TableDump(tableName, fileName, mode, rows, deletes, Files.size(file),
+                    BackupVerifier.format(checksum), System.currentTimeMillis() - started));
+        }
+        conn.commit();
+        return dumps;
     }
 
-    private void exportTableStructure(Connection conn, String tableName, PrintWriter writer) throws SQLException {
+    private String currentTimestamp(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT DATE_FORMAT(NOW(), '%Y-%m-%d %H:%i:%s')")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
 
-        if (!isValidTableName(tableName)) {
-            logger.warn("Skipping invalid table name: {}", tableName);
-            return;
+    private String getPrimaryKeyColumn(Connection conn, String tableName) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        try (ResultSet rs = conn.getMetaData().getPrimaryKeys(conn.getCatalog(), null, tableName)) {
+            while (rs.next()) {
+                columns.add(rs.getString("COLUMN_NAME"));
+            }
         }
+        return columns.size() == 1 ? columns.get(0) : null;
+    }
 
-        if (tableName.equalsIgnoreCase("password_history")) {
-            logger.info("Skipping password_history table (belongs to auth_db)");
+    private boolean hasColumn(Connection conn, String tableName, String columnName) throws SQLException {
+        try (ResultSet rs = conn.getMetaData().getColumns(conn.getCatalog(), null, tableName, columnName)) {
+            return rs.next();
+        }
+    }
+
+    private void pruneChangeLog(Connection conn) {
+        String oldest = null;
+        for (BackupManifest manifest : loadSnapshotManifests().values()) {
+            String snapshotTime = manifest.get("snapshot.time");
+            if (snapshotTime != null && TIMESTAMP_PATTERN.matcher(snapshotTime).matches()
+                    && (oldest == null || snapshotTime.compareTo(oldest) < 0)) {
+                oldest = snapshotTime;
+            }
+        }
+        if (oldest == null) {
             return;
         }
 
-        String sql = "SHOW CREATE TABLE " + escapeIdentifier(tableName);
-        try (Statement stmt = conn.createStatement();
-            ResultSet rs = stmt.executeQuery(sql)) {
-            if (rs.next()) {
-                String createStatement = rs.getString(2);
-                writer.println("DROP TABLE IF EXISTS " + escapeIdentifier(tableName) + ";");
-                writer.println(createStatement + ";");
-                writer.println();
+        String sql = "DELETE FROM " + CHANGE_LOG_TABLE + " WHERE changed_at < TIMESTAMP(?) - INTERVAL ? SECOND";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, oldest);
+            stmt.setInt(2, incrementalSafetySeconds);
+            int pruned = stmt.executeUpdate();
+            if (pruned > 0) {
+                logger.info("Pruned {} change log entries older than {}", pruned, oldest);
             }
         } catch (SQLException e) {
-            logger.warn("Skipping table {} - does not exist in current database", tableName);
+            logger.warn("Could not prune change log: {}", e.getMessage());
+        }
+    }
 
+    private Map<Path, BackupManifest> loadSnapshotManifests() {
+        Map<Path, BackupManifest> manifests = new HashMap<>();
+        try (java.util.stream.Stream<Path> files = Files.list(Paths.get(backupDirectory))) {
+            for (Path dir : (Iterable<Path>) files::iterator) {
+                Path manifestFile = dir.resolve(BackupManifest.FILE_NAME);
+                if (!Files.exists(manifestFile)) {
+                    continue;
+                }
+                try {
+                    manifests.put(dir, BackupManifest.load(manifestFile));
+                } catch (IOException e) {
+                    logger.warn("Could not read backup manifest {}", manifestFile);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Error listing backup directories", e);
         }
+        return manifests;
     }
 
-    private void exportTableData(Connection conn, String tableName, PrintWriter writer) throws SQLException {
+    private Path findLatestSnapshot() {
+        Path latest = null;
+        String latestCreated = null;
+        for (Map.Entry<Path, BackupManifest> entry : loadSnapshotManifests().entrySet()) {
+            String created = entry.getValue().get("created");
+            if (created == null || entry.getValue().get("snapshot.time") == null) {
+                continue;
+            }
+            String key = created + entry.getKey().getFileName();
+            if (latestCreated == null || key.compareTo(latestCreated) > 0) {
+                latest = entry.getKey();
+                latestCreated = key;
+            }
+        }
+        return latest;
+    }
 
-        if (!isValidTableName(tableName) || tableName.equalsIgnoreCase("password_history")) {
-            logger.warn("Skipping invalid table name: {}", tableName);
+    private List<Path> resolveChain(Path backupDir) throws IOException {
+        LinkedList<Path> chain = new LinkedList<>();
+        Set<Path> seen = new HashSet<>();
+        Path current = backupDir;
+        while (true) {
+            if (!seen.add(current.toAbsolutePath().normalize())) {
+                throw new IOException("Backup chain loops back to " + current.getFileName());
+            }
+            chain.addFirst(current);
+            BackupManifest manifest = BackupManifest.load(current.resolve(BackupManifest.FILE_NAME));
+            if (!"incremental".equals(manifest.get("type"))) {
+                return chain;
+            }
+            String base = manifest.get("base");
+            Path basePath = base != null ? current.resolveSibling(base) : null;
+            if (basePath == null || !Files.exists(basePath.resolve(BackupManifest.FILE_NAME))) {
+                throw new IOException("Backup chain is broken: base backup " + base + " not found");
+            }
+            current = basePath;
+        }
+    }
+
+    private List<TableDump> awaitDumps(Future<List<TableDump>> future) throws SQLException, IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Backup interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Backup worker failed", cause);
+        }
+    }
+
+    private void closeQuietly(Connection conn) {
+        try {
+            if (!conn.getAutoCommit()) {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            logger.debug("Error resetting backup connection", e);
+        }
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            logger.debug("Error closing backup connection", e);
+        }
+    }
+
+    private void deleteRecursively(Path path) {
+        if (!Files.exists(path)) {
             return;
         }
+        try (java.util.stream.Stream<Path> walk = Files.walk(path)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.delete(p);
+                } catch (IOException e) {
+                    logger.warn("Could not delete {}", p);
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Could not delete {}", path, e);
+        }
+    }
 
-        String sql = "SELECT * FROM " + escapeIdentifier(tableName);
-        try (Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+    private BackupProgressListener withLogging(BackupProgressListener listener) {
+        return new BackupProgressListener() {
+            @Override
+            public void onTableProgress(String tableName, long rows) {
+                logger.debug("Backup of {}: {} rows written", tableName, rows);
+                if (listener != null) {
+                    listener.onTableProgress(tableName, rows);
+                }
+            }
 
-            ResultSetMetaData metaData = rs.getMetaData();
-            int columnCount = metaData.getColumnCount();
+            @Override
+            public void onTableComplete(String tableName, long rows, long elapsedMillis) {
+                logger.info("Backed up table {} ({} rows in {} ms)", tableName, rows, elapsedMillis);
+                if (listener != null) {
+                    listener.onTableComplete(tableName, rows, elapsedMillis);
+                }
+            }
+        };
+    }
 
+    private boolean isDumpable(String tableName) {
+        if (tableName.startsWith("_")) {
+            return false;
+        }
+        if (!isValidTableName(tableName)) {
+            logger.warn("Skipping invalid table name: {}", tableName);
+            return false;
+        }
+        if (tableName.equalsIgnoreCase("password_history")) {
+            logger.info("Skipping password_history table (belongs to auth_db)");
+            return false;
+        }
+        return true;
+    }
+
+    private List<String> getTableNames(Connection conn) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        DatabaseMetaData metaData = conn.getMetaData();
+        try (ResultSet rs = metaData.getTables(null, null, "%", new String[]{"TABLE"})) {
             while (rs.next()) {
-                StringBuilder insert = new StringBuilder("INSERT INTO " + escapeIdentifier(tableName) + " VALUES (");
-                for (int i = 1; i <= columnCount; i++) {
-                    if (i > 1) insert.append(", ");
-                    Object value = rs.getObject(i);
-                    if (value == null) {
-                        insert.append("NULL");
-                    } else if (value instanceof Number) {
-                        insert.append(value);
-                    } else if (value instanceof byte[]) {
-                        insert.append("NULL");
-                    } else {
-
-                        String strValue = value.toString().replace("'", "''").replace("\\", "\\\\");
-                        insert.append("'").append(strValue).append("'");
-                    }
-                }
-                insert.append(");");
-                writer.println(insert.toString());
+                tables.add(rs.getString("TABLE_NAME"));
             }
         }
-        catch (SQLException e) {
-            logger.warn("Skipping table {} - query failed", tableName);
+        return tables;
+    }
+
+    private boolean isValidTableName(String tableName) {
+        if (tableName == null || tableName.isEmpty()) {
+            return false;
         }
+        return tableName.matches("^[a-zA-Z0-9_]+$");
     }
 
     public BackupResult restoreBackup(String backupFilePath) {
+        return restoreBackup(backupFilePath, null);
+    }
+
+    public BackupResult restoreBackup(String backupFilePath, BackupProgressListener listener) {
         if (!accessControl.isAdmin()) {
             return new BackupResult(false, null, "Access denied. Only admins can restore backups.");
         }
@@ -199,52 +629,52 @@ public class BackupService {
             return new BackupResult(false, null, "Backup file not found: " + backupFilePath);
         }
 
-        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
-             BufferedReader reader = new BufferedReader(new FileReader(path.toFile()))) {
-
-            conn.setAutoCommit(false);
-
-            StringBuilder sqlStatement = new StringBuilder();
-            String line;
-
-            try (Statement stmt = conn.createStatement()) {
-                while ((line = reader.readLine()) != null) {
-                    line = line.trim();
-
-                    if (line.isEmpty() || line.startsWith("--")) {
-                        continue;
-                    }
-
-                    sqlStatement.append(line);
-
-                    if (line.endsWith(";")) {
-                        String sql = sqlStatement.toString();
-                        try {
-                            stmt.execute(sql);
-                        } catch (SQLException e) {
-                            logger.warn("Error executing SQL during restore (continuing): {}", e.getMessage());
-
-                        }
-                        sqlStatement = new StringBuilder();
-                    } else {
-                        sqlStatement.append(" ");
+        List<List<Path>> chain = new ArrayList<>();
+        try {
+            if (Files.isDirectory(path)) {
+                for (Path backupDir : resolveChain(path)) {
+                    BackupManifest manifest = BackupManifest.load(backupDir.resolve(BackupManifest.FILE_NAME));
+                    List<Path> scripts = new ArrayList<>();
+                    for (String tableName : manifest.getTables()) {
+                        scripts.add(backupDir.resolve(manifest.getTable(tableName, "file")));
                     }
+                    chain.add(scripts);
                 }
+            } else {
+                chain.add(Collections.singletonList(path));
+            }
+        } catch (IOException e) {
+            logger.error("Error reading backup manifest", e);
+            return new BackupResult(false, null, "Error reading backup manifest: " + e.getMessage());
+        }
 
-                conn.commit();
-                logger.info("Database restored successfully from: {}", backupFilePath);
-                return new BackupResult(true, backupFilePath, "Database restored successfully.");
-
-            } catch (SQLException e) {
-                conn.rollback();
-                logger.error("Error during restore, rolled back", e);
-                return new BackupResult(false, null, "Restore failed and rolled back: " + e.getMessage());
+        long started = System.currentTimeMillis();
+        try {
+            Set<String> tableNames = new HashSet<>();
+            long totalRows = 0;
+            for (List<Path> scripts : chain) {
+                BackupRestorer restorer = new BackupRestorer(parallelWorkers, restoreBatchSize, listener);
+                for (BackupRestorer.TableRestore table : restorer.restore(scripts)) {
+                    tableNames.add(table.getTableName());
+                    totalRows += table.getRows();
+                }
             }
+            SettingsCache.getInstance().invalidate();
+
+            long elapsed = System.currentTimeMillis() - started;
+            logger.info("Database restored successfully from: {} ({} backups, {} tables, {} rows, {} ms)",
+                    backupFilePath, chain.size(), tableNames.size(), totalRows, elapsed);
+            return new BackupResult(true, backupFilePath,
+                    String.format("Database restored successfully (%d tables, %d rows in %.1f s%s).",
+                            tableNames.size(), totalRows, elapsed / 1000.0,
+                            chain.size() > 1 ? ", " + (chain.size() - 1) + " incremental backups applied" : ""));
 
         } catch (SQLException e) {
-            logger.error("Database connection error during restore", e);
-            return new BackupResult(false, null, "Database error: " + e.getMessage());
+            SettingsCache.getInstance().invalidate();
+            logger.error("Database error during restore", e);
+            return new BackupResult(false, null, "Restore failed: " + e.getMessage());
         } catch (IOException e) {
+            SettingsCache.getInstance().invalidate();
             logger.error("Error reading backup file", e);
             return new BackupResult(false, null, "Error reading backup file: " + e.getMessage());
         }
@@ -257,7 +687,8 @@ public class BackupService {
             Path backupPath = Paths.get(backupDirectory);
             if (Files.exists(backupPath)) {
                 Files.list(backupPath)
-                    .filter(p -> p.toString().endsWith(".sql"))
+                    .filter(p -> BackupCompression.isBackupFile(p.getFileName().toString())
+                            || Files.exists(p.resolve(BackupManifest.FILE_NAME)))
                     .sorted((a, b) -> {
                         try {
                             return Files.getLastModifiedTime(b).compareTo(Files.getLastModifiedTime(a));
@@ -267,11 +698,22 @@ public class BackupService {
                     })
                     .forEach(p -> {
                         try {
+                            BackupManifest manifest = loadManifest(p);
+                            String type = manifest != null ? manifest.get("type") : null;
+                            long rows = -1;
+                            if (manifest != null) {
+                                rows = 0;
+                                for (String tableName : manifest.getTables()) {
+                                    rows += manifest.getTableLong(tableName, "rows", 0);
+                                }
+                            }
                             backups.add(new BackupInfo(
                                 p.getFileName().toString(),
                                 p.toAbsolutePath().toString(),
                                 Files.getLastModifiedTime(p).toMillis(),
-                                Files.size(p)
+                                sizeOf(p),
+                                type,
+                                rows
                             ));
                         } catch (IOException e) {
                             logger.error("Error reading backup file info", e);
@@ -285,6 +727,77 @@ public class BackupService {
         return backups;
     }
 
+    private BackupManifest loadManifest(Path backup) {
+        Path manifestFile = Files.isDirectory(backup)
+                ? backup.resolve(BackupManifest.FILE_NAME)
+                : BackupManifest.sidecarFor(backup);
+        if (!Files.exists(manifestFile)) {
+            return null;
+        }
+        try {
+            return BackupManifest.load(manifestFile);
+        } catch (IOException e) {
+            logger.warn("Could not read backup manifest {}", manifestFile);
+            return null;
+        }
+    }
+
+    public BackupResult verifyBackup(String backupFilePath) {
+        if (!accessControl.isAdmin()) {
+            return new BackupResult(false, null, "Access denied. Only admins can verify backups.");
+        }
+
+        Path path = Paths.get(backupFilePath);
+        if (!Files.exists(path)) {
+            return new BackupResult(false, null, "Backup file not found: " + backupFilePath);
+        }
+
+        long started = System.currentTimeMillis();
+        try {
+            BackupVerifier verifier = new BackupVerifier();
+            List<String> problems = verifier.verify(path);
+            if (Files.isDirectory(path)) {
+                try {
+                    resolveChain(path);
+                } catch (IOException e) {
+                    problems.add(e.getMessage());
+                }
+            }
+
+            long elapsed = System.currentTimeMillis() - started;
+            if (!problems.isEmpty()) {
+                for (String problem : problems) {
+                    logger.warn("Backup {} failed verification: {}", backupFilePath, problem);
+                }
+                return new BackupResult(false, backupFilePath,
+                        "Backup is damaged:\n" + String.join("\n", problems));
+            }
+
+            logger.info("Backup {} verified ({} files, {} bytes, {} ms)", backupFilePath,
+                    verifier.getFilesChecked(), verifier.getBytesChecked(), elapsed);
+            return new BackupResult(true, backupFilePath,
+                    String.format("Backup verified (%d files, %.1f MB in %.1f s).", verifier.getFilesChecked(),
+                            verifier.getBytesChecked() / (1024.0 * 1024.0), elapsed / 1000.0));
+
+        } catch (IOException e) {
+            logger.error("Error verifying backup", e);
+            return new BackupResult(false, backupFilePath, "Error reading backup: " + e.getMessage());
+        }
+    }
+
+    private long sizeOf(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return Files.size(path);
+        }
+        try (java.util.stream.Stream<Path> files = Files.list(path)) {
+            long total = 0;
+            for (Path file : (Iterable<Path>) files::iterator) {
+                total += Files.size(file);
+            }
+            return total;
+        }
+    }
+
     public boolean deleteBackup(String backupFilePath) {
         if (!accessControl.isAdmin()) {
             return false;
@@ -298,7 +811,19 @@ public class BackupService {
                 return false;
             }
 
-            Files.deleteIfExists(path);
+            if (Files.isDirectory(path)) {
+                for (Map.Entry<Path, BackupManifest> entry : loadSnapshotManifests().entrySet()) {
+                    if (path.getFileName().toString().equals(entry.getValue().get("base"))) {
+                        logger.warn("Refusing to delete {}: incremental backup {} is based on it",
+                                backupFilePath, entry.getKey().getFileName());
+                        return false;
+                    }
+                }
+                deleteRecursively(path);
+            } else {
+                Files.deleteIfExists(path);
+                Files.deleteIfExists(BackupManifest.sidecarFor(path));
+            }
             logger.info("Deleted backup file: {}", backupFilePath);
             return true;
         } catch (IOException e) {
@@ -311,6 +836,29 @@ public class BackupService {
         return Paths.get(backupDirectory).toAbsolutePath().toString();
     }
 
+    private static class TableDump {
+        private final String tableName;
+        private final String fileName;
+        private final String mode;
+        private final long rows;
+        private final long deletes;
+        private final long bytes;
+        private final String checksum;
+        private final long elapsedMillis;
+
+        private TableDump(String tableName, String fileName, String mode, long rows, long deletes,
+                          long bytes, String checksum, long elapsedMillis) {
+            this.tableName = tableName;
+            this.fileName = fileName;
+            this.mode = mode;
+            this.rows = rows;
+            this.deletes = deletes;
+            this.bytes = bytes;
+            this.checksum = checksum;
+            this.elapsedMillis = elapsedMillis;
+        }
+    }
+
     public static class BackupResult {
         private final boolean success;
         private final String filePath;
@@ -332,18 +880,29 @@ public class BackupService {
         private final String fullPath;
         private final long timestamp;
         private final long sizeBytes;
+        private final String type;
+        private final long rows;
 
         public BackupInfo(String fileName, String fullPath, long timestamp, long sizeBytes) {
+            this(fileName, fullPath, timestamp, sizeBytes, null, -1);
+        }
+
+        public BackupInfo(String fileName, String fullPath, long timestamp, long sizeBytes, String type, long rows) {
             this.fileName = fileName;
             this.fullPath = fullPath;
             this.timestamp = timestamp;
             this.sizeBytes = sizeBytes;
+            this.type = type;
+            this.rows = rows;
         }
 
         public String getFileName() { return fileName; }
         public String getFullPath() { return fullPath; }
         public long getTimestamp() { return timestamp; }
         public long getSizeBytes() { return sizeBytes; }
+        public String getType() { return type; }
+        public long getRows() { return rows; }
+        public boolean hasManifest() { return type != null; }
 
         public String getFormattedDate() {
             return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(timestamp));
@@ -357,7 +916,15 @@ public class BackupService {
 
         @Override
         public String toString() {
-            return fileName + " (" + getFormattedDate() + ", " + getFormattedSize() + ")";
+            StringBuilder label = new StringBuilder(fileName).append(" (").append(getFormattedDate())
+                    .append(", ").append(getFormattedSize());
+            if (type != null) {
+                label.append(", ").append(type);
+            }
+            if (rows >= 0) {
+                label.append(", ").append(rows).append(" rows");
+            }
+            return label.append(")").toString();
         }
     }
 }
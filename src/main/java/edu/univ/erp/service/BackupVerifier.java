@@ -0,0 +1,106 @@
+package edu.univ.erp.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+public class BackupVerifier {
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private long filesChecked;
+    private long bytesChecked;
+
+    public static Checksum newChecksum() {
+        return new CRC32C();
+    }
+
+    public static String format(Checksum checksum) {
+        return String.format("%08x", checksum.getValue());
+    }
+
+    public static String checksum(Path file) throws IOException {
+        Checksum checksum = newChecksum();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                checksum.update(buffer);
+                buffer.clear();
+            }
+        }
+        return format(checksum);
+    }
+
+    public List<String> verify(Path backup) throws IOException {
+        List<String> problems = new ArrayList<>();
+        if (Files.isDirectory(backup)) {
+            BackupManifest manifest = BackupManifest.load(backup.resolve(BackupManifest.FILE_NAME));
+            List<String> tables = manifest.getTables();
+            if (tables.isEmpty()) {
+                problems.add("Manifest lists no tables");
+            }
+            for (String tableName : tables) {
+                String fileName = manifest.getTable(tableName, "file");
+                if (fileName == null) {
+                    problems.add(tableName + ": no file recorded in manifest");
+                    continue;
+                }
+                checkFile(backup.resolve(fileName), tableName,
+                        manifest.getTableLong(tableName, "bytes", -1),
+                        manifest.getTable(tableName, "crc32c"), problems);
+            }
+        } else {
+            Path sidecar = BackupManifest.sidecarFor(backup);
+            if (!Files.exists(sidecar)) {
+                problems.add("No manifest found for " + backup.getFileName());
+                return problems;
+            }
+            BackupManifest manifest = BackupManifest.load(sidecar);
+            checkFile(backup, backup.getFileName().toString(),
+                    manifest.getLong("bytes", -1), manifest.get("crc32c"), problems);
+        }
+        return problems;
+    }
+
+    public long getFilesChecked() {
+        return filesChecked;
+    }
+
+    public long getBytesChecked() {
+        return bytesChecked;
+    }
+
+    private void checkFile(Path file, String label, long expectedBytes, String expectedChecksum,
+                           List<String> problems) throws IOException {
+        if (!Files.exists(file)) {
+            problems.add(label + ": file " + file.getFileName() + " is missing");
+            return;
+        }
+
+        long size = Files.size(file);
+        if (expectedBytes >= 0 && size != expectedBytes) {
+            problems.add(String.format("%s: expected %d bytes but found %d (truncated or modified)",
+                    label, expectedBytes, size));
+            return;
+        }
+        if (expectedChecksum == null) {
+            problems.add(label + ": no checksum recorded in manifest");
+            return;
+        }
+
+        String actual = checksum(file);
+        filesChecked++;
+        bytesChecked += size;
+        if (!actual.equalsIgnoreCase(expectedChecksum)) {
+            problems.add(String.format("%s: checksum mismatch (expected %s, found %s)",
+                    label, expectedChecksum, actual));
+        }
+    }
+}
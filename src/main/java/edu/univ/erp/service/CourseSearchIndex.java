@@ -0,0 +1,318 @@
+package edu.univ.erp.service;
+
+import edu.univ.erp.data.CourseDAO;
+import edu.univ.erp.data.SectionDAO;
+import edu.univ.erp.data.SettingDAO;
+import edu.univ.erp.domain.Course;
+import edu.univ.erp.domain.Section;
+import edu.univ.erp.util.DatabaseManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class CourseSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(CourseSearchIndex.class);
+    private static final int EXACT_SCORE = 4;
+    private static final int PREFIX_SCORE = 2;
+    private static final int FUZZY_SCORE = 1;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static CourseSearchIndex instance;
+
+    private final CourseDAO courseDAO;
+    private final SectionDAO sectionDAO;
+    private final SettingDAO settingDAO;
+    private final long refreshIntervalMillis;
+    private final long versionCheckMillis;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private Postings courseTerms = new Postings();
+    private Postings sectionTerms = new Postings();
+    private Map<Integer, Section> sections = new HashMap<>();
+    private Map<Integer, Set<Integer>> sectionsByCourse = new HashMap<>();
+    private volatile long builtAtMillis;
+    private volatile long builtVersion;
+    private volatile long versionCheckedAtMillis;
+
+    private CourseSearchIndex() {
+        this.courseDAO = new CourseDAO();
+        this.sectionDAO = new SectionDAO();
+        this.settingDAO = new SettingDAO();
+        DatabaseManager db = DatabaseManager.getInstance();
+        this.refreshIntervalMillis = db.getIntProperty("search.refreshSeconds", 300) * 1000L;
+        this.versionCheckMillis = db.getIntProperty("search.versionCheckMillis", 2000);
+    }
+
+    public static synchronized CourseSearchIndex getInstance() {
+        if (instance == null) {
+            instance = new CourseSearchIndex();
+        }
+        return instance;
+    }
+
+    public List<Section> search(String query, int limit) {
+        ensureBuilt();
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Integer> scores = null;
+            for (String token : tokens) {
+                Map<Integer, Integer> courseMatches = courseTerms.match(token);
+                Map<Integer, Integer> sectionMatches = sectionTerms.match(token);
+
+                Map<Integer, Integer> tokenScores = new HashMap<>(sectionMatches);
+                for (Map.Entry<Integer, Integer> entry : courseMatches.entrySet()) {
+                    for (Integer sectionId : sectionsByCourse.getOrDefault(entry.getKey(), Collections.emptySet())) {
+                        tokenScores.merge(sectionId, entry.getValue(), Math::max);
+                    }
+                }
+
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    Map<Integer, Integer> combined = new HashMap<>();
+                    for (Map.Entry<Integer, Integer> entry : scores.entrySet()) {
+                        Integer score = tokenScores.get(entry.getKey());
+                        if (score != null) {
+                            combined.put(entry.getKey(), entry.getValue() + score);
+                        }
+                    }
+                    scores = combined;
+                }
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            List<Map.Entry<Integer, Integer>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort((a, b) -> {
+                int byScore = Integer.compare(b.getValue(), a.getValue());
+                if (byScore != 0) {
+                    return byScore;
+                }
+                Section left = sections.get(a.getKey());
+                Section right = sections.get(b.getKey());
+                int byYear = Integer.compare(right.getYear(), left.getYear());
+                if (byYear != 0) {
+                    return byYear;
+                }
+                int byCode = String.valueOf(left.getCourseCode()).compareTo(String.valueOf(right.getCourseCode()));
+                return byCode != 0 ? byCode : Integer.compare(a.getKey(), b.getKey());
+            });
+
+            List<Section> results = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (int i = 0; i < ranked.size() && i < limit; i++) {
+                results.add(new Section(sections.get(ranked.get(i).getKey())));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void catalogChanged() {
+        settingDAO.incrementCounter(SettingDAO.CATALOG_VERSION_KEY);
+        versionCheckedAtMillis = 0;
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        long version = settingDAO.getCounter(SettingDAO.CATALOG_VERSION_KEY);
+        List<Course> allCourses = courseDAO.getAll();
+        List<Section> allSections = sectionDAO.getAll();
+
+        Postings newCourseTerms = new Postings();
+        Postings newSectionTerms = new Postings();
+        Map<Integer, Section> newSections = new HashMap<>();
+        Map<Integer, Set<Integer>> newSectionsByCourse = new HashMap<>();
+
+        for (Course course : allCourses) {
+            newCourseTerms.put(course.getCourseId(), courseTokens(course));
+        }
+        for (Section section : allSections) {
+            newSections.put(section.getSectionId(), section);
+            newSectionsByCourse.computeIfAbsent(section.getCourseId(), id -> new HashSet<>()).add(section.getSectionId());
+            newSectionTerms.put(section.getSectionId(), sectionTokens(section));
+        }
+
+        lock.writeLock().lock();
+        try {
+            courseTerms = newCourseTerms;
+            sectionTerms = newSectionTerms;
+            sections = newSections;
+            sectionsByCourse = newSectionsByCourse;
+            builtVersion = version;
+            builtAtMillis = System.currentTimeMillis();
+            versionCheckedAtMillis = builtAtMillis;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Course search index built at catalog version {}: {} courses, {} sections, {} terms in {} ms",
+                version, allCourses.size(), newSections.size(), newCourseTerms.size() + newSectionTerms.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    private void ensureBuilt() {
+        if (builtAtMillis == 0) {
+            synchronized (this) {
+                if (builtAtMillis == 0) {
+                    rebuild();
+                }
+            }
+        } else if (isStale() && rebuilding.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    logger.error("Error rebuilding course search index", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    private boolean isStale() {
+        long now = System.currentTimeMillis();
+        if (now - builtAtMillis > refreshIntervalMillis) {
+            return true;
+        }
+        if (now - versionCheckedAtMillis < versionCheckMillis || rebuilding.get()) {
+            return false;
+        }
+        versionCheckedAtMillis = now;
+        return settingDAO.getCounter(SettingDAO.CATALOG_VERSION_KEY) != builtVersion;
+    }
+
+    private static Set<String> courseTokens(Course course) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.addAll(tokenize(course.getCode()));
+        terms.addAll(tokenize(course.getTitle()));
+        terms.addAll(tokenize(course.getDescription()));
+        return terms;
+    }
+
+    private static Set<String> sectionTokens(Section section) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.addAll(tokenize(section.getInstructorName()));
+        terms.addAll(tokenize(section.getRoom()));
+        return terms;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean alnum = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (alnum && start < 0) {
+                start = i;
+            } else if (!alnum && start >= 0) {
+                addToken(tokens, text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addToken(List<String> tokens, String token) {
+        tokens.add(token);
+        for (int i = 1; i < token.length(); i++) {
+            if (Character.isDigit(token.charAt(i)) != Character.isDigit(token.charAt(i - 1))) {
+                tokens.add(token.substring(0, i));
+                tokens.add(token.substring(i));
+                return;
+            }
+        }
+    }
+
+    static boolean withinDistance(String a, String b, int maxDistance) {
+        int n = a.length();
+        int m = b.length();
+        if (Math.abs(n - m) > maxDistance) {
+            return false;
+        }
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= m; j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxDistance) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[m] <= maxDistance;
+    }
+
+    private static final class Postings {
+        private final TreeMap<String, Set<Integer>> terms = new TreeMap<>();
+
+        void put(int id, Set<String> tokens) {
+            for (String token : tokens) {
+                terms.computeIfAbsent(token, t -> new HashSet<>()).add(id);
+            }
+        }
+
+        int size() {
+            return terms.size();
+        }
+
+        Map<Integer, Integer> match(String token) {
+            Map<Integer, Integer> matches = new HashMap<>();
+            NavigableMap<String, Set<Integer>> prefixed = terms.subMap(token, true, token + Character.MAX_VALUE, false);
+            for (Map.Entry<String, Set<Integer>> entry : prefixed.entrySet()) {
+                int score = entry.getKey().length() == token.length() ? EXACT_SCORE : PREFIX_SCORE;
+                for (Integer id : entry.getValue()) {
+                    matches.merge(id, score, Math::max);
+                }
+            }
+
+            if (matches.isEmpty() && token.length() >= MIN_FUZZY_LENGTH) {
+                int maxDistance = token.length() >= 8 ? 2 : 1;
+                for (Map.Entry<String, Set<Integer>> entry : terms.entrySet()) {
+                    String term = entry.getKey();
+                    String candidate = term.length() > token.length() + maxDistance
+                            ? term.substring(0, token.length()) : term;
+                    if (withinDistance(token, candidate, maxDistance)) {
+                        for (Integer id : entry.getValue()) {
+                            matches.merge(id, FUZZY_SCORE, Math::max);
+                        }
+                    }
+                }
+            }
+            return matches;
+        }
+    }
+}
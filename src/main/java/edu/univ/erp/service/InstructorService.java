@@ -3,12 +3,14 @@ package edu.univ.erp.service;
 import edu.univ.erp.access.AccessControl;
 import edu.univ.erp.data.*;
 import edu.univ.erp.domain.*;
+import edu.univ.erp.util.GradeCalculator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class InstructorService {
     private static final Logger logger = LoggerFactory.getLogger(InstructorService.class);
@@ -35,6 +37,14 @@ public class InstructorService {
         return enrollmentDAO.getBySection(sectionId);
     }
 
+    public SectionDetail getSectionDetail(Section section) {
+        List<Enrollment> enrollments = enrollmentDAO.getBySection(section.getSectionId());
+        Map<Integer, List<Grade>> gradesByEnrollment = enrollments.isEmpty()
+                ? new HashMap<>() : gradeDAO.getBySection(section.getSectionId());
+
+        return new SectionDetail(section, enrollments, gradesByEnrollment);
+    }
+
     public boolean isMySection(int instructorId, int sectionId) {
         Section section = sectionDAO.getById(sectionId);
         return section != null && section.getInstructorId() != null && section.getInstructorId() == instructorId;
@@ -120,6 +130,14 @@ public class InstructorService {
         return gradeDAO.getByEnrollment(enrollmentId);
     }
 
+    public Map<Integer, List<Grade>> getSectionGrades(int sectionId) {
+        return gradeDAO.getBySection(sectionId);
+    }
+
+    public FinalGrade getFinalGrade(Enrollment enrollment) {
+        return enrollment.getFinalGrade();
+    }
+
     public BigDecimal getTotalWeightage(int enrollmentId) {
         return gradeDAO.getTotalWeightage(enrollmentId);
     }
@@ -130,33 +148,28 @@ public class InstructorService {
     }
 
     public String getClassStatistics(int sectionId) {
-        List<Enrollment> enrollments = enrollmentDAO.getBySection(sectionId);
+        return getClassStatistics(enrollmentDAO.getBySection(sectionId));
+    }
+
+    public String getClassStatistics(SectionDetail detail) {
+        return getClassStatistics(detail.getEnrollments());
+    }
+
+    private String getClassStatistics(List<Enrollment> enrollments) {
         if (enrollments.isEmpty()) {
             return "No students enrolled.";
         }
 
         int totalStudents = enrollments.size();
-        BigDecimal totalScore = BigDecimal.ZERO;
+        long totalScore = 0;
         int studentsWithGrades = 0;
 
         for (Enrollment enrollment : enrollments) {
-            List<Grade> grades = gradeDAO.getByEnrollment(enrollment.getEnrollmentId());
-            if (!grades.isEmpty()) {
-                BigDecimal enrollmentTotal = BigDecimal.ZERO;
-                for (Grade grade : grades) {
-                    if (grade.getScore() != null && grade.getMaxScore() != null) {
-                        BigDecimal percentage = grade.getScore()
-                                .divide(grade.getMaxScore(), 4, RoundingMode.HALF_UP)
-                                .multiply(new BigDecimal("100"));
-                        enrollmentTotal = enrollmentTotal.add(percentage
-                                .multiply(grade.getWeightage())
-                                .divide(new BigDecimal("100"), 4, RoundingMode.HALF_UP));
-                    }
-                }
-                if (enrollmentTotal.compareTo(BigDecimal.ZERO) > 0) {
-                    totalScore = totalScore.add(enrollmentTotal);
-                    studentsWithGrades++;
-                }
+            FinalGrade finalGrade = getFinalGrade(enrollment);
+            long weightedScore = finalGrade != null ? GradeCalculator.weightedScoreUnits(finalGrade) : 0;
+            if (weightedScore > 0) {
+                totalScore += weightedScore;
+                studentsWithGrades++;
             }
         }
 
@@ -164,7 +177,7 @@ public class InstructorService {
             return "No grades entered yet.";
         }
 
-        BigDecimal average = totalScore.divide(new BigDecimal(studentsWithGrades), 2, RoundingMode.HALF_UP);
+        BigDecimal average = GradeCalculator.averagePercentage(totalScore, studentsWithGrades);
 
         return String.format("Class Statistics:\nTotal Students: %d\nStudents with Grades: %d\nClass Average: %.2f%%",
                 totalStudents, studentsWithGrades, average);
@@ -0,0 +1,132 @@
+package edu.univ.erp.service;
+
+import edu.univ.erp.data.EnrollmentDAO;
+import edu.univ.erp.data.ReservationResult;
+import edu.univ.erp.util.DatabaseManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RegistrationEngine {
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationEngine.class);
+    static final int DROP_WINDOW_DAYS = 30;
+    private static RegistrationEngine instance;
+
+    private final EnrollmentDAO enrollmentDAO;
+    private final ExecutorService workers;
+    private final ConcurrentHashMap<Integer, SectionQueue> queues = new ConcurrentHashMap<>();
+    private final int maxBatchSize;
+    private final boolean rejectClashes;
+
+    private RegistrationEngine() {
+        DatabaseManager db = DatabaseManager.getInstance();
+        int poolSize = db.getIntProperty("db.pool.maximumPoolSize", 10);
+        int workerCount = db.getIntProperty("registration.workers", Math.max(1, poolSize / 2));
+        this.maxBatchSize = db.getIntProperty("registration.maxBatchSize", 50);
+        this.rejectClashes = StudentService.ClashPolicy.configured() == StudentService.ClashPolicy.REJECT;
+        this.enrollmentDAO = new EnrollmentDAO();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread t = new Thread(r, "registration-worker-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        logger.info("Registration engine started with {} workers, batch size {}", workerCount, maxBatchSize);
+    }
+
+    public static synchronized RegistrationEngine getInstance() {
+        if (instance == null) {
+            instance = new RegistrationEngine();
+        }
+        return instance;
+    }
+
+    public CompletableFuture<ReservationResult> submit(int studentId, int sectionId) {
+        SectionQueue queue = queues.computeIfAbsent(sectionId, SectionQueue::new);
+        PendingRegistration request = new PendingRegistration(studentId);
+        queue.pending.add(request);
+        schedule(queue);
+        return request.future;
+    }
+
+    private void schedule(SectionQueue queue) {
+        if (queue.scheduled.compareAndSet(false, true)) {
+            workers.execute(() -> drain(queue));
+        }
+    }
+
+    private void drain(SectionQueue queue) {
+        try {
+            List<PendingRegistration> batch = new ArrayList<>();
+            PendingRegistration next;
+            while (batch.size() < maxBatchSize && (next = queue.pending.poll()) != null) {
+                batch.add(next);
+            }
+            if (!batch.isEmpty()) {
+                process(queue.sectionId, batch);
+            }
+        } finally {
+            queue.scheduled.set(false);
+            if (!queue.pending.isEmpty()) {
+                schedule(queue);
+            }
+        }
+    }
+
+    private void process(int sectionId, List<PendingRegistration> batch) {
+        List<Integer> studentIds = new ArrayList<>(batch.size());
+        for (PendingRegistration request : batch) {
+            studentIds.add(request.studentId);
+        }
+
+        try {
+            LocalDateTime dropDeadline = LocalDateTime.now().plusDays(DROP_WINDOW_DAYS);
+            List<ReservationResult> results = enrollmentDAO.reserveSeats(sectionId, studentIds, dropDeadline,
+                    rejectClashes);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(results.get(i));
+            }
+            logger.debug("Processed {} registrations for section {}", batch.size(), sectionId);
+        } catch (RuntimeException e) {
+            logger.error("Registration batch failed for section {}", sectionId, e);
+            for (PendingRegistration request : batch) {
+                request.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private static class SectionQueue {
+        private final int sectionId;
+        private final Queue<PendingRegistration> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private SectionQueue(int sectionId) {
+            this.sectionId = sectionId;
+        }
+    }
+
+    private static class PendingRegistration {
+        private final int studentId;
+        private final CompletableFuture<ReservationResult> future = new CompletableFuture<>();
+
+        private PendingRegistration(int studentId) {
+            this.studentId = studentId;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package edu.univ.erp.service;
+
+import edu.univ.erp.data.SectionDAO;
+import edu.univ.erp.domain.Section;
+import edu.univ.erp.util.DatabaseManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SeatLedger {
+    private static final Logger logger = LoggerFactory.getLogger(SeatLedger.class);
+    private static SeatLedger instance;
+
+    private final SectionDAO sectionDAO;
+    private final ConcurrentHashMap<Integer, SeatCounter> counters = new ConcurrentHashMap<>();
+    private final long refreshIntervalMillis;
+    private volatile long lastRefreshMillis;
+
+    private SeatLedger() {
+        DatabaseManager db = DatabaseManager.getInstance();
+        this.sectionDAO = new SectionDAO();
+        this.refreshIntervalMillis = db.getIntProperty("seatLedger.refreshSeconds", 30) * 1000L;
+        reload();
+        if (Boolean.parseBoolean(db.getProperty("seatLedger.reconcileOnStartup", "true").trim())) {
+            Thread reconciler = new Thread(this::reconcile, "seat-ledger-reconcile");
+            reconciler.setDaemon(true);
+            reconciler.start();
+        }
+    }
+
+    public static synchronized SeatLedger getInstance() {
+        if (instance == null) {
+            instance = new SeatLedger();
+        }
+        return instance;
+    }
+
+    public boolean tryReserve(int sectionId) {
+        refreshIfStale();
+        SeatCounter counter = counters.get(sectionId);
+        if (counter != null && counter.tryHold()) {
+            return true;
+        }
+        counter = refresh(sectionId);
+        return counter == null || counter.tryHold();
+    }
+
+    public void confirm(int sectionId) {
+        SeatCounter counter = counters.get(sectionId);
+        if (counter != null) {
+            counter.settle(1);
+        }
+    }
+
+    public void cancel(int sectionId) {
+        SeatCounter counter = counters.get(sectionId);
+        if (counter != null) {
+            counter.settle(0);
+        }
+    }
+
+    public void release(int sectionId) {
+        SeatCounter counter = counters.get(sectionId);
+        if (counter != null) {
+            counter.release();
+        }
+    }
+
+    public void markFull(int sectionId) {
+        SeatCounter counter = counters.get(sectionId);
+        if (counter != null) {
+            counter.markFull();
+        }
+    }
+
+    public int getAvailableSeats(int sectionId) {
+        refreshIfStale();
+        SeatCounter counter = counters.get(sectionId);
+        return counter != null ? counter.available() : -1;
+    }
+
+    public void observe(List<Section> sections) {
+        for (Section section : sections) {
+            update(section.getSectionId(), section.getCapacity(), section.getEnrolledCount());
+        }
+    }
+
+    public int reconcile() {
+        int corrected = sectionDAO.reconcileEnrolledCounts();
+        if (corrected > 0) {
+            logger.warn("Corrected enrolled_count on {} section(s) from enrollments", corrected);
+        }
+        reload();
+        return corrected;
+    }
+
+    private void refreshIfStale() {
+        if (System.currentTimeMillis() - lastRefreshMillis < refreshIntervalMillis) {
+            return;
+        }
+        synchronized (this) {
+            if (System.currentTimeMillis() - lastRefreshMillis >= refreshIntervalMillis) {
+                reload();
+            }
+        }
+    }
+
+    private synchronized void reload() {
+        List<Section> sections = sectionDAO.getSeatCounts();
+        observe(sections);
+        lastRefreshMillis = System.currentTimeMillis();
+        logger.debug("Seat ledger loaded {} sections", sections.size());
+    }
+
+    private SeatCounter refresh(int sectionId) {
+        Section section = sectionDAO.getSeatCount(sectionId);
+        if (section == null) {
+            return null;
+        }
+        update(sectionId, section.getCapacity(), section.getEnrolledCount());
+        return counters.get(sectionId);
+    }
+
+    private void update(int sectionId, int capacity, int enrolled) {
+        counters.computeIfAbsent(sectionId, id -> new SeatCounter()).observe(capacity, enrolled);
+    }
+
+    static class SeatCounter {
+        private int capacity;
+        private int enrolled;
+        private int pending;
+
+        synchronized boolean tryHold() {
+            if (enrolled + pending >= capacity) {
+                return false;
+            }
+            pending++;
+            return true;
+        }
+
+        synchronized void settle(int enrolledDelta) {
+            if (pending > 0) {
+                pending--;
+            }
+            enrolled += enrolledDelta;
+        }
+
+        synchronized void release() {
+            enrolled = Math.max(0, enrolled - 1);
+        }
+
+        synchronized void markFull() {
+            if (pending > 0) {
+                pending--;
+            }
+            enrolled = Math.max(enrolled, capacity);
+        }
+
+        synchronized void observe(int capacity, int enrolled) {
+            this.capacity = capacity;
+            this.enrolled = enrolled;
+        }
+
+        synchronized int available() {
+            return Math.max(0, capacity - enrolled - pending);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package edu.univ.erp.service;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SqlDumpWriter implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final Writer out;
+    private final int batchSize;
+
+    public SqlDumpWriter(OutputStream out, int batchSize) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public void println(String line) throws IOException {
+        out.write(line);
+        out.write('\n');
+    }
+
+    public void println() throws IOException {
+        out.write('\n');
+    }
+
+    public void writeStructure(Connection conn, String tableName) throws SQLException, IOException {
+        String sql = "SHOW CREATE TABLE " + escapeIdentifier(tableName);
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            if (rs.next()) {
+                println("DROP TABLE IF EXISTS " + escapeIdentifier(tableName) + ";");
+                println(rs.getString(2) + ";");
+                println();
+            }
+        }
+    }
+
+    public void writeTriggers(Connection conn, String tableName) throws SQLException, IOException {
+        List<String> triggers = new ArrayList<>();
+        String sql = "SELECT TRIGGER_NAME FROM information_schema.TRIGGERS " +
+                     "WHERE EVENT_OBJECT_SCHEMA = DATABASE() AND EVENT_OBJECT_TABLE = ? ORDER BY ACTION_ORDER";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, tableName);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    triggers.add(rs.getString(1));
+                }
+            }
+        }
+
+        for (String trigger : triggers) {
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SHOW CREATE TRIGGER " + escapeIdentifier(trigger))) {
+                if (rs.next()) {
+                    println(rs.getString("SQL Original Statement") + ";");
+                }
+            }
+        }
+        if (!triggers.isEmpty()) {
+            println();
+        }
+    }
+
+    public long writeData(Connection conn, String tableName, BackupProgressListener listener)
+            throws SQLException, IOException {
+        return writeRows(conn, tableName, "SELECT * FROM " + escapeIdentifier(tableName), listener);
+    }
+
+    public long writeRows(Connection conn, String tableName, String selectSql, BackupProgressListener listener)
+            throws SQLException, IOException {
+        return writeRows(conn, tableName, selectSql, false, listener);
+    }
+
+    public long writeUpserts(Connection conn, String tableName, String selectSql, BackupProgressListener listener)
+            throws SQLException, IOException {
+        return writeRows(conn, tableName, selectSql, true, listener);
+    }
+
+    public long writeDeletes(Connection conn, String tableName, String keyColumn, String selectKeysSql)
+            throws SQLException, IOException {
+        long keys = 0;
+        try (Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet rs = stmt.executeQuery(selectKeysSql)) {
+                String deletePrefix = "DELETE FROM " + escapeIdentifier(tableName)
+                        + " WHERE " + escapeIdentifier(keyColumn) + " IN (";
+                int inBatch = 0;
+
+                while (rs.next()) {
+                    if (inBatch == 0) {
+                        out.write(deletePrefix);
+                    } else {
+                        out.write(", ");
+                    }
+                    writeValue(rs.getObject(1));
+                    keys++;
+                    inBatch++;
+
+                    if (inBatch == batchSize) {
+                        out.write(");\n");
+                        inBatch = 0;
+                    }
+                }
+                if (inBatch > 0) {
+                    out.write(");\n");
+                }
+            }
+        }
+        return keys;
+    }
+
+    private long writeRows(Connection conn, String tableName, String selectSql, boolean upsert,
+                           BackupProgressListener listener) throws SQLException, IOException {
+        long started = System.currentTimeMillis();
+        long rows = 0;
+
+        try (Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet rs = stmt.executeQuery(selectSql)) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                int columnCount = metaData.getColumnCount();
+                String insertPrefix = "INSERT INTO " + escapeIdentifier(tableName) + " VALUES";
+                String insertSuffix = upsert ? upsertClause(metaData) + ";\n" : ";\n";
+                int inBatch = 0;
+
+                while (rs.next()) {
+                    if (inBatch == 0) {
+                        out.write(insertPrefix);
+                        out.write('\n');
+                    } else {
+                        out.write(",\n");
+                    }
+                    writeRow(rs, columnCount);
+                    rows++;
+                    inBatch++;
+
+                    if (inBatch == batchSize) {
+                        out.write(insertSuffix);
+                        inBatch = 0;
+                        if (listener != null) {
+                            listener.onTableProgress(tableName, rows);
+                        }
+                    }
+                }
+                if (inBatch > 0) {
+                    out.write(insertSuffix);
+                }
+            }
+        }
+
+        if (listener != null) {
+            listener.onTableComplete(tableName, rows, System.currentTimeMillis() - started);
+        }
+        return rows;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private String upsertClause(ResultSetMetaData metaData) throws SQLException {
+        StringBuilder clause = new StringBuilder("\nON DUPLICATE KEY UPDATE ");
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (i > 1) {
+                clause.append(", ");
+            }
+            String column = escapeIdentifier(metaData.getColumnName(i));
+            clause.append(column).append(" = VALUES(").append(column).append(')');
+        }
+        return clause.toString();
+    }
+
+    private void writeRow(ResultSet rs, int columnCount) throws SQLException, IOException {
+        out.write('(');
+        for (int i = 1; i <= columnCount; i++) {
+            if (i > 1) {
+                out.write(", ");
+            }
+            writeValue(rs.getObject(i));
+        }
+        out.write(')');
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            out.write("NULL");
+        } else if (value instanceof BigDecimal) {
+            out.write(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Number) {
+            out.write(value.toString());
+        } else if (value instanceof Boolean) {
+            out.write((Boolean) value ? '1' : '0');
+        } else if (value instanceof byte[]) {
+            writeHex((byte[]) value);
+        } else {
+            writeString(value.toString());
+        }
+    }
+
+    private void writeHex(byte[] bytes) throws IOException {
+        if (bytes.length == 0) {
+            out.write("''");
+            return;
+        }
+        out.write("X'");
+        for (byte b : bytes) {
+            out.write(HEX[(b >> 4) & 0x0F]);
+            out.write(HEX[b & 0x0F]);
+        }
+        out.write('\'');
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write('\'');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\'': out.write("''"); break;
+                case '\\': out.write("\\\\"); break;
+                case '\n': out.write("\\n"); break;
+                case '\r': out.write("\\r"); break;
+                case '\0': out.write("\\0"); break;
+                case '\u001A': out.write("\\Z"); break;
+                default: out.write(c);
+            }
+        }
+        out.write('\'');
+    }
+
+    static String escapeIdentifier(String identifier) {
+        return "`" + identifier.replace("`", "``") + "`";
+    }
+}
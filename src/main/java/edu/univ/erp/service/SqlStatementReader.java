@@ -0,0 +1,155 @@
+package edu.univ.erp.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+public class SqlStatementReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private final StringBuilder statement = new StringBuilder();
+
+    public SqlStatementReader(Reader in) {
+        this.in = in;
+    }
+
+    public String next() throws IOException {
+        statement.setLength(0);
+        int c;
+        while ((c = read()) != -1) {
+            switch (c) {
+                case '\'':
+                case '"':
+                case '`':
+                    statement.append((char) c);
+                    readQuoted((char) c);
+                    break;
+                case '-':
+                    if (peek(0) == '-' && isCommentSpace(peek(1))) {
+                        skipLine();
+                    } else {
+                        statement.append('-');
+                    }
+                    break;
+                case '#':
+                    skipLine();
+                    break;
+                case '/':
+                    if (peek(0) == '*') {
+                        read();
+                        if (peek(0) == '!') {
+                            statement.append("/*");
+                            readComment(true);
+                        } else {
+                            readComment(false);
+                        }
+                    } else {
+                        statement.append('/');
+                    }
+                    break;
+                case ';':
+                    String sql = statement.toString().trim();
+                    statement.setLength(0);
+                    if (!sql.isEmpty()) {
+                        return sql;
+                    }
+                    break;
+                default:
+                    statement.append((char) c);
+            }
+        }
+
+        String sql = statement.toString().trim();
+        statement.setLength(0);
+        return sql.isEmpty() ? null : sql;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void readQuoted(char quote) throws IOException {
+        int c;
+        while ((c = read()) != -1) {
+            statement.append((char) c);
+            if (c == '\\' && quote != '`') {
+                int escaped = read();
+                if (escaped == -1) {
+                    return;
+                }
+                statement.append((char) escaped);
+            } else if (c == quote) {
+                if (peek(0) == quote) {
+                    statement.append((char) read());
+                } else {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void readComment(boolean keep) throws IOException {
+        int c;
+        while ((c = read()) != -1) {
+            if (c == '*' && peek(0) == '/') {
+                read();
+                if (keep) {
+                    statement.append("*/");
+                }
+                return;
+            }
+            if (keep) {
+                statement.append((char) c);
+            }
+        }
+    }
+
+    private void skipLine() throws IOException {
+        int c;
+        while ((c = read()) != -1) {
+            if (c == '\n') {
+                statement.append('\n');
+                return;
+            }
+        }
+    }
+
+    private static boolean isCommentSpace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == -1;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill(1)) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek(int offset) throws IOException {
+        if (position + offset >= limit && !fill(offset + 1)) {
+            return -1;
+        }
+        return buffer[position + offset];
+    }
+
+    private boolean fill(int needed) throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        while (limit < needed) {
+            int n = in.read(buffer, limit, buffer.length - limit);
+            if (n == -1) {
+                return false;
+            }
+            limit += n;
+        }
+        return true;
+    }
+}
@@ -4,77 +4,163 @@ import edu.univ.erp.access.AccessControl;
 import edu.univ.erp.auth.SessionManager;
 import edu.univ.erp.data.*;
 import edu.univ.erp.domain.*;
+import edu.univ.erp.util.DatabaseManager;
+import edu.univ.erp.util.GradeCalculator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class StudentService {
     private static final Logger logger = LoggerFactory.getLogger(StudentService.class);
+    public static final String SECTION_FULL_MESSAGE = "Section is full. No seats available.";
     private final StudentDAO studentDAO;
     private final SectionDAO sectionDAO;
     private final EnrollmentDAO enrollmentDAO;
     private final GradeDAO gradeDAO;
+    private final WaitlistDAO waitlistDAO;
     private final AccessControl accessControl;
+    private final RegistrationEngine registrationEngine;
+    private final SeatLedger seatLedger;
+    private final CourseSearchIndex searchIndex;
+    private final ClashPolicy clashPolicy;
+
+    public enum ClashPolicy {
+        REJECT, WARN, ALLOW;
+
+        public static ClashPolicy configured() {
+            String value = DatabaseManager.getInstance().getProperty("registration.clashPolicy", "REJECT");
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.warn("Unknown registration.clashPolicy '{}', using REJECT", value);
+                return REJECT;
+            }
+        }
+    }
 
     public StudentService() {
         this.studentDAO = new StudentDAO();
         this.sectionDAO = new SectionDAO();
         this.enrollmentDAO = new EnrollmentDAO();
         this.gradeDAO = new GradeDAO();
+        this.waitlistDAO = new WaitlistDAO();
         this.accessControl = AccessControl.getInstance();
+        this.registrationEngine = RegistrationEngine.getInstance();
+        this.seatLedger = SeatLedger.getInstance();
+        this.searchIndex = CourseSearchIndex.getInstance();
+        this.clashPolicy = ClashPolicy.configured();
     }
 
-    public String registerForSection(int studentId, int sectionId) {
+    public String registerForSection(int studentId, Section section) {
+        return registerForSectionAsync(studentId, section).join();
+    }
+
+    public CompletableFuture<String> registerForSectionAsync(int studentId, Section section) {
+        int sectionId = section.getSectionId();
+
+        if (!accessControl.canActForStudent(studentId)) {
+            return CompletableFuture.completedFuture(accessControl.getPermissionDeniedMessage());
+        }
 
         if (!accessControl.canStudentAddDropCourses()) {
             if (!accessControl.isAddDropEnabled()) {
-                return accessControl.getAddDropClosedMessage();
+                return CompletableFuture.completedFuture(accessControl.getAddDropClosedMessage());
             }
-            return accessControl.getMaintenanceModeMessage();
+            return CompletableFuture.completedFuture(accessControl.getMaintenanceModeMessage());
         }
 
-        if (enrollmentDAO.exists(studentId, sectionId)) {
-            return "You are already enrolled in this section. Duplicate registration is not allowed.";
+        if (!seatLedger.tryReserve(sectionId)) {
+            return CompletableFuture.completedFuture(SECTION_FULL_MESSAGE);
         }
 
-        Section section = sectionDAO.getById(sectionId);
-        if (section == null) {
-            return "Section not found.";
+        return registrationEngine.submit(studentId, sectionId)
+                .exceptionally(e -> ReservationResult.failed())
+                .thenApply(result -> {
+                    if (result.isSuccess()) {
+                        seatLedger.confirm(sectionId);
+                    } else if (result.getOutcome() == ReservationResult.Outcome.FULL) {
+                        seatLedger.markFull(sectionId);
+                    } else {
+                        seatLedger.cancel(sectionId);
+                    }
+                    return toRegistrationMessage(studentId, sectionId, result);
+                });
+    }
+
+    private String toRegistrationMessage(int studentId, int sectionId, ReservationResult result) {
+        switch (result.getOutcome()) {
+            case OK:
+                logger.info("Student {} registered for section {}", studentId, sectionId);
+                return null;
+            case DUPLICATE:
+                return "You are already enrolled in this section. Duplicate registration is not allowed.";
+            case SAME_COURSE:
+                String courseCode = result.getCourseCode() != null ? result.getCourseCode() : "this course";
+                String existingSection = result.getExistingSectionCode();
+                return String.format(
+                    "You are already enrolled in %s Section %s.\n" +
+                    "Students cannot enroll in multiple sections of the same course.\n" +
+                    "Please drop the existing section first if you wish to change sections.",
+                    courseCode, existingSection != null ? existingSection : "");
+            case CLASH:
+                return String.format("%s clashes with your timetable:\n  %s\nPlease drop the conflicting section first.",
+                        result.getCourseCode(), result.getClashes());
+            case NOT_FOUND:
+                return "Section not found.";
+            case FULL:
+                return SECTION_FULL_MESSAGE;
+            default:
+                return "Failed to register for section. Please try again.";
         }
+    }
+
+    public String dropSection(int enrollmentId) {
 
-        if (enrollmentDAO.existsForCourse(studentId, section.getCourseId())) {
-            String existingSection = enrollmentDAO.getExistingSectionCode(studentId, section.getCourseId());
-            String courseCode = section.getCourseCode() != null ? section.getCourseCode() : "this course";
-            String errorMsg = String.format(
-                "You are already enrolled in %s Section %s.\n" +
-                "Students cannot enroll in multiple sections of the same course.\n" +
-                "Please drop the existing section first if you wish to change sections.",
-                courseCode, existingSection != null ? existingSection : "");
-            return errorMsg;
+        if (!accessControl.canStudentAddDropCourses()) {
+            if (!accessControl.isAddDropEnabled()) {
+                return accessControl.getAddDropClosedMessage();
+            }
+            return accessControl.getMaintenanceModeMessage();
         }
 
-        if (section.isFull()) {
-            return "Section is full. No seats available.";
+        Enrollment enrollment = enrollmentDAO.getById(enrollmentId);
+        if (enrollment == null) {
+            return "Enrollment not found.";
         }
 
-        Enrollment enrollment = new Enrollment(studentId, sectionId);
-        enrollment.setDropDeadline(LocalDateTime.now().plusDays(30));
+        if (!accessControl.canActForStudent(enrollment.getStudentId())) {
+            return accessControl.getPermissionDeniedMessage();
+        }
 
-        if (enrollmentDAO.create(enrollment)) {
+        if (!enrollment.canDrop()) {
+            return "Drop deadline has passed for this section.";
+        }
 
-            sectionDAO.updateEnrolledCount(sectionId, 1);
-            logger.info("Student {} registered for section {}", studentId, sectionId);
+        LocalDateTime promotedDropDeadline = LocalDateTime.now().plusDays(RegistrationEngine.DROP_WINDOW_DAYS);
+        int promotedStudentId = enrollmentDAO.dropAndPromote(enrollmentId, promotedDropDeadline,
+                clashPolicy == ClashPolicy.REJECT);
+        if (promotedStudentId >= 0) {
+            if (promotedStudentId == 0) {
+                seatLedger.release(enrollment.getSectionId());
+            }
+            logger.info("Dropped enrollment {}", enrollmentId);
             return null;
         }
 
-        return "Failed to register for section. Please try again.";
+        return "Failed to drop section. Please try again.";
     }
 
-    public String dropSection(int enrollmentId) {
+    public String joinWaitlist(int studentId, int sectionId) {
+        if (!accessControl.canActForStudent(studentId)) {
+            return accessControl.getPermissionDeniedMessage();
+        }
 
         if (!accessControl.canStudentAddDropCourses()) {
             if (!accessControl.isAddDropEnabled()) {
@@ -83,23 +169,50 @@ public class StudentService {
             return accessControl.getMaintenanceModeMessage();
         }
 
-        Enrollment enrollment = enrollmentDAO.getById(enrollmentId);
-        if (enrollment == null) {
-            return "Enrollment not found.";
+        Section section = sectionDAO.getById(sectionId);
+        if (section == null) {
+            return "Section not found.";
         }
 
-        if (!enrollment.canDrop()) {
-            return "Drop deadline has passed for this section.";
+        String existingSection = enrollmentDAO.getExistingSectionCode(studentId, section.getCourseId());
+        if (existingSection != null) {
+            if (existingSection.equals(section.getSectionCode())) {
+                return "You are already enrolled in this section.";
+            }
+            return String.format("You are already enrolled in %s Section %s.",
+                    section.getCourseCode(), existingSection);
         }
 
-        if (enrollmentDAO.drop(enrollmentId)) {
+        if (!section.isFull()) {
+            return "This section still has open seats. Please register for it directly.";
+        }
 
-            sectionDAO.updateEnrolledCount(enrollment.getSectionId(), -1);
-            logger.info("Dropped enrollment {}", enrollmentId);
+        int created = waitlistDAO.create(new WaitlistEntry(studentId, sectionId));
+        if (created > 0) {
+            logger.info("Student {} joined waitlist for section {}", studentId, sectionId);
             return null;
         }
+        if (created == 0) {
+            return "You are already on the waitlist for this section.";
+        }
 
-        return "Failed to drop section. Please try again.";
+        return "Failed to join waitlist. Please try again.";
+    }
+
+    public String leaveWaitlist(int studentId, int waitlistId) {
+        if (!accessControl.canActForStudent(studentId)) {
+            return accessControl.getPermissionDeniedMessage();
+        }
+
+        if (waitlistDAO.delete(waitlistId, studentId)) {
+            logger.info("Student {} left waitlist entry {}", studentId, waitlistId);
+            return null;
+        }
+        return "Failed to leave waitlist. Please try again.";
+    }
+
+    public List<WaitlistEntry> getWaitlist(int studentId) {
+        return waitlistDAO.getByStudent(studentId);
     }
 
     public List<Enrollment> getEnrollments(int studentId) {
@@ -117,135 +230,142 @@ public class StudentService {
         return active;
     }
 
-    public List<Grade> getGrades(int enrollmentId) {
-        return gradeDAO.getByEnrollment(enrollmentId);
+    public TimetableIndex getTimetable(int studentId) {
+        return TimetableIndex.of(getActiveEnrollments(studentId));
     }
 
-    public List<Section> getAvailableSections() {
-        return sectionDAO.getAll();
+    public boolean warnsOnClash() {
+        return clashPolicy == ClashPolicy.WARN;
     }
 
-    public String calculateFinalGrade(int enrollmentId) {
-        BigDecimal percentage = calculateFinalPercentage(enrollmentId);
-        if (percentage == null) {
-            return "N/A";
+    public String describeClashes(int studentId, int sectionId) {
+        if (clashPolicy == ClashPolicy.ALLOW) {
+            return null;
         }
-        return convertToLetterGrade(percentage);
-    }
-
-    public BigDecimal calculateFinalPercentage(int enrollmentId) {
-        List<Grade> grades = gradeDAO.getByEnrollment(enrollmentId);
-        if (grades.isEmpty()) {
+        Section section = sectionDAO.getById(sectionId);
+        if (section == null || section.getSchedule().isEmpty()) {
             return null;
         }
+        List<TimetableIndex.Meeting> clashes = getTimetable(studentId).findClashes(section);
+        if (clashes.isEmpty()) {
+            return null;
+        }
+        StringBuilder message = new StringBuilder(String.format("%s Section %s clashes with your timetable:",
+                section.getCourseCode(), section.getSectionCode()));
+        for (TimetableIndex.Meeting clash : clashes) {
+            message.append("\n  ").append(clash);
+        }
+        return message.toString();
+    }
 
-        BigDecimal totalWeightedScore = BigDecimal.ZERO;
-        BigDecimal totalWeightage = BigDecimal.ZERO;
-
-        for (Grade grade : grades) {
-            if (grade.getScore() != null && grade.getMaxScore() != null && grade.getWeightage() != null
-                && grade.getMaxScore().compareTo(BigDecimal.ZERO) > 0) {
-                BigDecimal percentage = grade.getScore()
-                        .divide(grade.getMaxScore(), 4, RoundingMode.HALF_UP)
-                        .multiply(new BigDecimal("100"));
+    public List<Grade> getGrades(int enrollmentId) {
+        return gradeDAO.getByEnrollment(enrollmentId);
+    }
 
-                BigDecimal weightedScore = percentage.multiply(grade.getWeightage())
-                        .divide(new BigDecimal("100"), 4, RoundingMode.HALF_UP);
+    public List<Section> getCatalogPage(CatalogFilter filter, Section after, int pageSize) {
+        List<Section> sections = sectionDAO.getCatalogPage(filter, after, pageSize);
+        seatLedger.observe(sections);
+        return sections;
+    }
 
-                totalWeightedScore = totalWeightedScore.add(weightedScore);
-                totalWeightage = totalWeightage.add(grade.getWeightage());
+    public List<Section> searchCatalog(String query, int limit) {
+        List<Section> sections = searchIndex.search(query, limit);
+        for (Section section : sections) {
+            int available = seatLedger.getAvailableSeats(section.getSectionId());
+            if (available >= 0) {
+                section.setEnrolledCount(section.getCapacity() - available);
             }
         }
+        return sections;
+    }
 
-        if (totalWeightage.compareTo(BigDecimal.ZERO) == 0) {
-            return null;
+    public String calculateFinalGrade(int enrollmentId) {
+        FinalGrade finalGrade = getFinalGrade(enrollmentId);
+        if (finalGrade == null || !finalGrade.isGraded()) {
+            return "N/A";
         }
+        return finalGrade.getLetterGrade();
+    }
 
-        return totalWeightedScore.setScale(2, RoundingMode.HALF_UP);
+    public BigDecimal calculateFinalPercentage(int enrollmentId) {
+        FinalGrade finalGrade = getFinalGrade(enrollmentId);
+        return finalGrade != null ? finalGrade.getFinalPercentage() : null;
     }
 
     public String getFormattedFinalGrade(int enrollmentId) {
-        BigDecimal percentage = calculateFinalPercentage(enrollmentId);
-        if (percentage == null) {
-            return "N/A";
-        }
-        String letterGrade = convertToLetterGrade(percentage);
-        return String.format("%s (%.2f%%)", letterGrade, percentage);
+        return formatFinalGrade(getFinalGrade(enrollmentId));
     }
 
-    private String convertToLetterGrade(BigDecimal score) {
-        if (score.compareTo(new BigDecimal("95")) >= 0) return "A+";
-        if (score.compareTo(new BigDecimal("90")) >= 0) return "A";
-        if (score.compareTo(new BigDecimal("85")) >= 0) return "A-";
-        if (score.compareTo(new BigDecimal("80")) >= 0) return "B+";
-        if (score.compareTo(new BigDecimal("75")) >= 0) return "B";
-        if (score.compareTo(new BigDecimal("70")) >= 0) return "B-";
-        if (score.compareTo(new BigDecimal("65")) >= 0) return "C+";
-        if (score.compareTo(new BigDecimal("60")) >= 0) return "C";
-        if (score.compareTo(new BigDecimal("55")) >= 0) return "C-";
-        if (score.compareTo(new BigDecimal("50")) >= 0) return "D";
-        return "F";
+    public String formatFinalGrade(FinalGrade finalGrade) {
+        if (finalGrade == null || !finalGrade.isGraded()) {
+            return "N/A";
+        }
+        return String.format("%s (%.2f%%)", finalGrade.getLetterGrade(), finalGrade.getFinalPercentage());
     }
 
-    private BigDecimal letterGradeToGradePoints(String letterGrade) {
-        if (letterGrade == null) return BigDecimal.ZERO;
-        switch (letterGrade) {
-            case "A+": return new BigDecimal("10.0");
-            case "A":  return new BigDecimal("9.0");
-            case "A-": return new BigDecimal("8.5");
-            case "B+": return new BigDecimal("8.0");
-            case "B":  return new BigDecimal("7.0");
-            case "B-": return new BigDecimal("6.5");
-            case "C+": return new BigDecimal("6.0");
-            case "C":  return new BigDecimal("5.0");
-            case "C-": return new BigDecimal("4.5");
-            case "D":  return new BigDecimal("4.0");
-            case "F":  return BigDecimal.ZERO;
-            default:   return BigDecimal.ZERO;
-        }
+    public FinalGrade getFinalGrade(int enrollmentId) {
+        return gradeDAO.getFinalGrade(enrollmentId);
     }
 
     public BigDecimal calculateCGPA(int studentId) {
-        List<Enrollment> enrollments = enrollmentDAO.getByStudent(studentId);
-        if (enrollments.isEmpty()) {
-            return null;
-        }
+        return computeCGPAs(gradeDAO.getGradedCoursesByStudent(studentId)).get(studentId);
+    }
 
-        BigDecimal totalGradePoints = BigDecimal.ZERO;
-        BigDecimal totalCredits = BigDecimal.ZERO;
-        int coursesWithGrades = 0;
+    public Map<Integer, BigDecimal> calculateCGPAByProgram(String program, Integer year) {
+        return computeCGPAs(gradeDAO.getGradedCoursesByProgram(program, year));
+    }
 
-        for (Enrollment enrollment : enrollments) {
-            List<Grade> grades = gradeDAO.getByEnrollment(enrollment.getEnrollmentId());
-            if (grades.isEmpty()) {
-                continue;
+    private Map<Integer, BigDecimal> computeCGPAs(List<GradedCourseRow> rows) {
+        Map<Integer, BigDecimal> cgpas = new LinkedHashMap<>();
+
+        int currentStudent = -1;
+        int currentEnrollment = -1;
+        int credits = 0;
+        long weightedScore = 0;
+        long weightage = 0;
+        long totalGradePoints = 0;
+        long totalCredits = 0;
+
+        for (int i = 0; i <= rows.size(); i++) {
+            GradedCourseRow row = i < rows.size() ? rows.get(i) : null;
+
+            if (currentEnrollment != -1 && (row == null || row.getEnrollmentId() != currentEnrollment)) {
+                if (weightage != 0) {
+                    long percentage = GradeCalculator.percentageUnits(weightedScore);
+                    totalGradePoints += (long) GradeCalculator.gradePointTenths(percentage) * credits;
+                    totalCredits += credits;
+                }
+                weightedScore = 0;
+                weightage = 0;
             }
 
-            BigDecimal percentage = calculateFinalPercentage(enrollment.getEnrollmentId());
-            if (percentage == null) {
-                continue;
+            if (currentStudent != -1 && (row == null || row.getStudentId() != currentStudent)) {
+                if (totalCredits != 0) {
+                    cgpas.put(currentStudent, GradeCalculator.cgpa(totalGradePoints, totalCredits));
+                }
+                totalGradePoints = 0;
+                totalCredits = 0;
             }
 
-            String letterGrade = convertToLetterGrade(percentage);
-            BigDecimal gradePoints = letterGradeToGradePoints(letterGrade);
-
-            Section section = sectionDAO.getById(enrollment.getSectionId());
-            int credits = section != null ? section.getCourseCredits() : 3;
-
-            totalGradePoints = totalGradePoints.add(gradePoints.multiply(new BigDecimal(credits)));
-            totalCredits = totalCredits.add(new BigDecimal(credits));
-            coursesWithGrades++;
-        }
+            if (row == null) {
+                break;
+            }
 
-        if (coursesWithGrades == 0 || totalCredits.compareTo(BigDecimal.ZERO) == 0) {
-            return null;
+            currentStudent = row.getStudentId();
+            currentEnrollment = row.getEnrollmentId();
+            credits = row.getCourseCredits();
+            weightedScore += GradeCalculator.weightedScoreUnits(row.getGrade());
+            weightage += GradeCalculator.weightageUnits(row.getGrade());
         }
 
-        return totalGradePoints.divide(totalCredits, 2, RoundingMode.HALF_UP);
+        return cgpas;
     }
 
     public String getFormattedCGPA(int studentId) {
-        BigDecimal cgpa = calculateCGPA(studentId);
+        return formatCGPA(calculateCGPA(studentId));
+    }
+
+    public String formatCGPA(BigDecimal cgpa) {
         if (cgpa == null) {
             return "N/A - No graded courses";
         }
@@ -268,7 +388,10 @@ public class StudentService {
     }
 
     public BigDecimal calculateAveragePercentage(int studentId) {
-        List<Enrollment> enrollments = enrollmentDAO.getByStudent(studentId);
+        return calculateAveragePercentage(enrollmentDAO.getByStudent(studentId));
+    }
+
+    public BigDecimal calculateAveragePercentage(List<Enrollment> enrollments) {
         if (enrollments.isEmpty()) {
             return null;
         }
@@ -277,7 +400,8 @@ public class StudentService {
         int coursesWithGrades = 0;
 
         for (Enrollment enrollment : enrollments) {
-            BigDecimal percentage = calculateFinalPercentage(enrollment.getEnrollmentId());
+            FinalGrade finalGrade = enrollment.getFinalGrade();
+            BigDecimal percentage = finalGrade != null ? finalGrade.getFinalPercentage() : null;
             if (percentage != null) {
                 totalPercentage = totalPercentage.add(percentage);
                 coursesWithGrades++;
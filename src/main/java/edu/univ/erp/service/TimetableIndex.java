@@ -0,0 +1,234 @@
+package edu.univ.erp.service;
+
+import edu.univ.erp.domain.Enrollment;
+import edu.univ.erp.domain.Schedule;
+import edu.univ.erp.domain.Section;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class TimetableIndex {
+    private final Map<String, DayIndex[]> terms = new HashMap<>();
+    private final Map<Integer, Booking> bookings = new LinkedHashMap<>();
+
+    public static TimetableIndex of(Collection<Enrollment> enrollments) {
+        TimetableIndex index = new TimetableIndex();
+        for (Enrollment enrollment : enrollments) {
+            index.add(new Booking(enrollment.getSectionId(), enrollment.getCourseCode(), enrollment.getSectionCode(),
+                    enrollment.getRoom(), enrollment.getSemester(), enrollment.getYear(), enrollment.getSchedule()));
+        }
+        return index;
+    }
+
+    public synchronized void add(Section section) {
+        add(new Booking(section.getSectionId(), section.getCourseCode(), section.getSectionCode(),
+                section.getRoom(), section.getSemester(), section.getYear(), section.getSchedule()));
+    }
+
+    public synchronized void add(Booking booking) {
+        remove(booking.getSectionId());
+        bookings.put(booking.getSectionId(), booking);
+        DayIndex[] days = terms.computeIfAbsent(booking.getTerm(), t -> new DayIndex[Schedule.DAY_COUNT]);
+        for (Meeting meeting : booking.getMeetings()) {
+            if (days[meeting.getDay()] == null) {
+                days[meeting.getDay()] = new DayIndex();
+            }
+            days[meeting.getDay()].add(meeting);
+        }
+    }
+
+    public synchronized boolean remove(int sectionId) {
+        Booking booking = bookings.remove(sectionId);
+        if (booking == null) {
+            return false;
+        }
+        DayIndex[] days = terms.get(booking.getTerm());
+        for (Meeting meeting : booking.getMeetings()) {
+            days[meeting.getDay()].remove(meeting);
+        }
+        return true;
+    }
+
+    public synchronized List<Meeting> findClashes(Section section) {
+        List<Meeting> clashes = new ArrayList<>();
+        DayIndex[] days = terms.get(termOf(section.getSemester(), section.getYear()));
+        if (days == null) {
+            return clashes;
+        }
+        Schedule schedule = section.getSchedule();
+        for (int i = 0; i < schedule.size(); i++) {
+            int mask = schedule.getDayMask(i);
+            for (int day = 0; day < Schedule.DAY_COUNT; day++) {
+                if (Schedule.meetsOn(mask, day) && days[day] != null) {
+                    days[day].collectOverlapping(schedule.getStartMinute(i), schedule.getEndMinute(i),
+                            section.getSectionId(), clashes);
+                }
+            }
+        }
+        return clashes;
+    }
+
+    public synchronized List<Meeting> getMeetings() {
+        List<Meeting> meetings = new ArrayList<>();
+        for (Booking booking : bookings.values()) {
+            meetings.addAll(booking.getMeetings());
+        }
+        return meetings;
+    }
+
+    public synchronized boolean isEmpty() {
+        return bookings.isEmpty();
+    }
+
+    private static String termOf(String semester, int year) {
+        return semester + " " + year;
+    }
+
+    public static class Booking {
+        private final int sectionId;
+        private final String courseCode;
+        private final String sectionCode;
+        private final String room;
+        private final String term;
+        private final List<Meeting> meetings = new ArrayList<>();
+
+        public Booking(int sectionId, String courseCode, String sectionCode, String room,
+                       String semester, int year, Schedule schedule) {
+            this.sectionId = sectionId;
+            this.courseCode = courseCode;
+            this.sectionCode = sectionCode;
+            this.room = room;
+            this.term = termOf(semester, year);
+            for (int i = 0; i < schedule.size(); i++) {
+                int mask = schedule.getDayMask(i);
+                for (int day = 0; day < Schedule.DAY_COUNT; day++) {
+                    if (Schedule.meetsOn(mask, day)) {
+                        meetings.add(new Meeting(this, day, schedule.getStartMinute(i), schedule.getEndMinute(i)));
+                    }
+                }
+            }
+        }
+
+        public int getSectionId() {
+            return sectionId;
+        }
+
+        public String getCourseCode() {
+            return courseCode;
+        }
+
+        public String getSectionCode() {
+            return sectionCode;
+        }
+
+        public String getRoom() {
+            return room;
+        }
+
+        public String getTerm() {
+            return term;
+        }
+
+        public List<Meeting> getMeetings() {
+            return meetings;
+        }
+    }
+
+    public static class Meeting {
+        private final Booking booking;
+        private final int day;
+        private final int startMinute;
+        private final int endMinute;
+
+        private Meeting(Booking booking, int day, int startMinute, int endMinute) {
+            this.booking = booking;
+            this.day = day;
+            this.startMinute = startMinute;
+            this.endMinute = endMinute;
+        }
+
+        public Booking getBooking() {
+            return booking;
+        }
+
+        public int getDay() {
+            return day;
+        }
+
+        public int getStartMinute() {
+            return startMinute;
+        }
+
+        public int getEndMinute() {
+            return endMinute;
+        }
+
+        public boolean overlaps(int start, int end) {
+            return startMinute < end && start < endMinute;
+        }
+
+        @Override
+        public String toString() {
+            return booking.getCourseCode() + " Section " + booking.getSectionCode() + " ("
+                    + Schedule.dayName(day) + " " + Schedule.formatRange(startMinute, endMinute) + ")";
+        }
+    }
+
+    private static class DayIndex {
+        private final TreeMap<Integer, Block> blocks = new TreeMap<>();
+
+        void add(Meeting meeting) {
+            Block merged = new Block(meeting.getStartMinute(), meeting.getEndMinute());
+            merged.meetings.add(meeting);
+            Map.Entry<Integer, Block> entry = blocks.lowerEntry(meeting.getEndMinute());
+            while (entry != null && entry.getValue().end > meeting.getStartMinute()) {
+                Block block = entry.getValue();
+                blocks.remove(entry.getKey());
+                merged.start = Math.min(merged.start, block.start);
+                merged.end = Math.max(merged.end, block.end);
+                merged.meetings.addAll(block.meetings);
+                entry = blocks.lowerEntry(entry.getKey());
+            }
+            blocks.put(merged.start, merged);
+        }
+
+        void remove(Meeting meeting) {
+            Map.Entry<Integer, Block> entry = blocks.floorEntry(meeting.getStartMinute());
+            if (entry == null || !entry.getValue().meetings.remove(meeting)) {
+                return;
+            }
+            blocks.remove(entry.getKey());
+            for (Meeting remaining : entry.getValue().meetings) {
+                add(remaining);
+            }
+        }
+
+        void collectOverlapping(int start, int end, int excludeSectionId, List<Meeting> out) {
+            Map.Entry<Integer, Block> entry = blocks.lowerEntry(end);
+            while (entry != null && entry.getValue().end > start) {
+                for (Meeting meeting : entry.getValue().meetings) {
+                    if (meeting.getBooking().getSectionId() != excludeSectionId && meeting.overlaps(start, end)) {
+                        out.add(meeting);
+                    }
+                }
+                entry = blocks.lowerEntry(entry.getKey());
+            }
+        }
+    }
+
+    private static class Block {
+        private int start;
+        private int end;
+        private final List<Meeting> meetings = new ArrayList<>();
+
+        private Block(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
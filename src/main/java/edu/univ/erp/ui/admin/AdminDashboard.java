@@ -4,6 +4,7 @@ import edu.univ.erp.auth.AuthService;
 import edu.univ.erp.auth.SessionManager;
 import edu.univ.erp.domain.*;
 import edu.univ.erp.service.AdminService;
+import edu.univ.erp.ui.common.BackgroundLoader;
 import edu.univ.erp.ui.common.LoginFrame;
 import edu.univ.erp.ui.common.UITheme;
 import javax.swing.*;
@@ -14,6 +15,7 @@ import java.util.List;
 public class AdminDashboard extends JFrame {
     private final AdminService adminService;
     private final SessionManager sessionManager;
+    private final BackgroundLoader loader;
 
     private JTable usersTable;
     private DefaultTableModel usersModel;
@@ -33,6 +35,7 @@ public class AdminDashboard extends JFrame {
     public AdminDashboard() {
         this.adminService = new AdminService();
         this.sessionManager = SessionManager.getInstance();
+        this.loader = new BackgroundLoader(this);
 
         if (!sessionManager.isAdmin()) {
             dispose();
@@ -56,8 +59,9 @@ public class AdminDashboard extends JFrame {
         bannerPanel.setBackground(UITheme.BACKGROUND);
 
         maintenanceBanner = UITheme.createMaintenanceBanner();
-        maintenanceBanner.setVisible(adminService.isMaintenanceModeEnabled());
+        maintenanceBanner.setVisible(false);
         bannerPanel.add(maintenanceBanner);
+        loader.load("banner", adminService::isMaintenanceModeEnabled, maintenanceBanner::setVisible);
 
         JPanel topPanel = createTopPanel();
 
@@ -125,6 +129,7 @@ public class AdminDashboard extends JFrame {
             dispose();
         });
 
+        buttonPanel.add(loader.createProgressIndicator());
         buttonPanel.add(changePasswordButton);
         buttonPanel.add(logoutButton);
 
@@ -173,8 +178,11 @@ public class AdminDashboard extends JFrame {
     }
 
     private void refreshUsersTable() {
+        loader.load("users", adminService::getAllUsers, this::showUsers);
+    }
+
+    private void showUsers(List<User> users) {
         usersModel.setRowCount(0);
-        List<User> users = adminService.getAllUsers();
         for (User u : users) {
             usersModel.addRow(new Object[]{
                 u.getUserId(), u.getUsername(), u.getRole(), u.getStatus(), u.getLastLogin()
@@ -210,26 +218,28 @@ public class AdminDashboard extends JFrame {
         JButton saveStatusBtn = new JButton("Update Status");
         UITheme.stylePrimaryButton(saveStatusBtn);
         saveStatusBtn.addActionListener(e -> {
-            String res = adminService.updateUserStatus(userId, (User.UserStatus) statusBox.getSelectedItem());
-            if (res == null) {
-                JOptionPane.showMessageDialog(dialog, "Status updated.");
-                refreshUsersTable();
-                dialog.dispose();
-            } else {
-                JOptionPane.showMessageDialog(dialog, res);
-            }
+            User.UserStatus status = (User.UserStatus) statusBox.getSelectedItem();
+            loader.run(() -> adminService.updateUserStatus(userId, status), res -> {
+                if (res == null) {
+                    JOptionPane.showMessageDialog(dialog, "Status updated.");
+                    refreshUsersTable();
+                    dialog.dispose();
+                } else {
+                    JOptionPane.showMessageDialog(dialog, res);
+                }
+            });
         });
 
         JButton resetPwdBtn = new JButton("Reset Password (to 'Supersid05')");
         UITheme.styleSecondaryButton(resetPwdBtn);
-        resetPwdBtn.addActionListener(e -> {
-            boolean ok = AuthService.getInstance().adminResetPassword(userId, "Supersid05");
+        resetPwdBtn.addActionListener(e -> loader.run(
+                () -> AuthService.getInstance().adminResetPassword(userId, "Supersid05"), ok -> {
             if (ok) {
                 JOptionPane.showMessageDialog(dialog, "Password reset successfully to 'Supersid05'.");
             } else {
                 JOptionPane.showMessageDialog(dialog, "Failed to reset password. Please try again.", "Error", JOptionPane.ERROR_MESSAGE);
             }
-        });
+        }));
 
         JLabel statusLabel = new JLabel("   Status:");
         statusLabel.setForeground(UITheme.TEXT_PRIMARY);
@@ -275,21 +285,21 @@ public class AdminDashboard extends JFrame {
         JButton createBtn = new JButton("Create User");
         UITheme.stylePrimaryButton(createBtn);
         createBtn.addActionListener(e -> {
-            String res = adminService.createUser(
-                userField.getText(),
-                new String(passField.getPassword()),
-                (User.UserRole) roleCombo.getSelectedItem(),
-                info1Field.getText(),
-                info2Field.getText()
-            );
-            if (res == null) {
-                JOptionPane.showMessageDialog(this, "User Created!");
-                userField.setText(""); passField.setText("");
-                info1Field.setText(""); info2Field.setText("");
-                refreshUsersTable();
-            } else {
-                JOptionPane.showMessageDialog(this, res);
-            }
+            String username = userField.getText();
+            String password = new String(passField.getPassword());
+            User.UserRole role = (User.UserRole) roleCombo.getSelectedItem();
+            String info1 = info1Field.getText();
+            String info2 = info2Field.getText();
+            loader.run(() -> adminService.createUser(username, password, role, info1, info2), res -> {
+                if (res == null) {
+                    JOptionPane.showMessageDialog(this, "User Created!");
+                    userField.setText(""); passField.setText("");
+                    info1Field.setText(""); info2Field.setText("");
+                    refreshUsersTable();
+                } else {
+                    JOptionPane.showMessageDialog(this, res);
+                }
+            });
         });
 
         int y=0;
@@ -360,8 +370,11 @@ public class AdminDashboard extends JFrame {
     }
 
     private void refreshCoursesTable() {
+        loader.load("courses", adminService::getAllCourses, this::showCourses);
+    }
+
+    private void showCourses(List<Course> courses) {
         coursesModel.setRowCount(0);
-        List<Course> courses = adminService.getAllCourses();
         for (Course c : courses) {
             coursesModel.addRow(new Object[]{c.getCourseId(), c.getCode(), c.getTitle(), c.getCredits(), c.getDescription()});
         }
@@ -407,14 +420,15 @@ public class AdminDashboard extends JFrame {
             c.setCourseId(id);
             c.setDescription(dField.getText());
 
-            String res = adminService.updateCourse(c);
-            if (res == null) {
-                JOptionPane.showMessageDialog(d, "Course Updated.");
-                refreshCoursesTable();
-                d.dispose();
-            } else {
-                JOptionPane.showMessageDialog(d, res);
-            }
+            loader.run(() -> adminService.updateCourse(c), res -> {
+                if (res == null) {
+                    JOptionPane.showMessageDialog(d, "Course Updated.");
+                    refreshCoursesTable();
+                    d.dispose();
+                } else {
+                    JOptionPane.showMessageDialog(d, res);
+                }
+            });
         });
 
         JLabel codeLabel = new JLabel("Code:");
@@ -460,18 +474,20 @@ public class AdminDashboard extends JFrame {
 
         addBtn.addActionListener(e -> {
             try {
-                String res = adminService.createCourse(
-                    codeField.getText(), titleField.getText(),
-                    Integer.parseInt(credField.getText()), descField.getText()
-                );
-                if (res == null) {
-                    JOptionPane.showMessageDialog(this, "Course Added!");
-                    codeField.setText(""); titleField.setText("");
-                    credField.setText(""); descField.setText("");
-                    refreshCoursesTable();
-                } else {
-                    JOptionPane.showMessageDialog(this, res);
-                }
+                String code = codeField.getText();
+                String title = titleField.getText();
+                int credits = Integer.parseInt(credField.getText());
+                String description = descField.getText();
+                loader.run(() -> adminService.createCourse(code, title, credits, description), res -> {
+                    if (res == null) {
+                        JOptionPane.showMessageDialog(this, "Course Added!");
+                        codeField.setText(""); titleField.setText("");
+                        credField.setText(""); descField.setText("");
+                        refreshCoursesTable();
+                    } else {
+                        JOptionPane.showMessageDialog(this, res);
+                    }
+                });
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(this, "Invalid credits");
             }
@@ -537,15 +553,20 @@ public class AdminDashboard extends JFrame {
         deleteBtn.setBorderPainted(false);
         deleteBtn.setCursor(new Cursor(Cursor.HAND_CURSOR));
 
+        JButton recountBtn = new JButton("Recount Seats");
+        UITheme.styleSecondaryButton(recountBtn);
+
         refreshBtn.addActionListener(e -> refreshSectionsTable());
         editBtn.addActionListener(e -> openEditSectionDialog());
         deleteBtn.addActionListener(e -> deleteSection());
+        recountBtn.addActionListener(e -> reconcileSeatCounts());
 
         JPanel btnPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, UITheme.SPACING_SM, 0));
         btnPanel.setOpaque(false);
         btnPanel.add(refreshBtn);
         btnPanel.add(editBtn);
         btnPanel.add(deleteBtn);
+        btnPanel.add(recountBtn);
 
         panel.add(btnPanel, BorderLayout.NORTH);
         panel.add(scrollPane, BorderLayout.CENTER);
@@ -577,19 +598,34 @@ public class AdminDashboard extends JFrame {
             "Confirm Delete", JOptionPane.YES_NO_OPTION);
 
         if (confirm == JOptionPane.YES_OPTION) {
-            String result = adminService.deleteSection(sectionId);
+            loader.run(() -> adminService.deleteSection(sectionId), result -> {
+                if (result == null) {
+                    JOptionPane.showMessageDialog(this, "Section deleted successfully.");
+                    refreshSectionsTable();
+                } else {
+                    JOptionPane.showMessageDialog(this, result, "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            });
+        }
+    }
+
+    private void reconcileSeatCounts() {
+        loader.run(adminService::reconcileSeatCounts, result -> {
             if (result == null) {
-                JOptionPane.showMessageDialog(this, "Section deleted successfully.");
+                JOptionPane.showMessageDialog(this, "Enrolled seat counts recounted from enrollments.");
                 refreshSectionsTable();
             } else {
                 JOptionPane.showMessageDialog(this, result, "Error", JOptionPane.ERROR_MESSAGE);
             }
-        }
+        });
     }
 
     private void refreshSectionsTable() {
+        loader.load("sections", adminService::getAllSections, this::showSections);
+    }
+
+    private void showSections(List<Section> sections) {
         sectionsModel.setRowCount(0);
-        List<Section> sections = adminService.getAllSections();
         for (Section s : sections) {
             sectionsModel.addRow(new Object[]{
                 s.getSectionId(), s.getCourseCode(), s.getSectionCode(),
@@ -604,7 +640,17 @@ public class AdminDashboard extends JFrame {
         if (row == -1) { JOptionPane.showMessageDialog(this, "Select a section."); return; }
 
         int secId = (int) sectionsModel.getValueAt(row, 0);
+        loader.load("sectionInstructors", adminService::getAllInstructors, insts -> {
+            for (int i = 0; i < sectionsModel.getRowCount(); i++) {
+                if ((int) sectionsModel.getValueAt(i, 0) == secId) {
+                    showEditSectionDialog(i, secId, insts);
+                    return;
+                }
+            }
+        });
+    }
 
+    private void showEditSectionDialog(int row, int secId, List<Instructor> insts) {
         JDialog d = new JDialog(this, "Edit Section", true);
         d.getContentPane().setBackground(UITheme.SURFACE);
         d.setSize(600, 550);
@@ -712,7 +758,6 @@ public class AdminDashboard extends JFrame {
         UITheme.styleComboBox(statBox);
         statBox.setSelectedItem(sectionsModel.getValueAt(row, 8));
 
-        List<Instructor> insts = adminService.getAllInstructors();
         JComboBox<ComboItem> instBox = new JComboBox<>();
         UITheme.styleComboBox(instBox);
         instBox.addItem(new ComboItem("None", 0));
@@ -756,14 +801,15 @@ public class AdminDashboard extends JFrame {
             ComboItem selInst = (ComboItem) instBox.getSelectedItem();
             if (selInst != null && selInst.id != 0) s.setInstructorId(selInst.id);
 
-            String res = adminService.updateSection(s);
-            if (res == null) {
-                JOptionPane.showMessageDialog(d, "Section Updated");
-                refreshSectionsTable();
-                d.dispose();
-            } else {
-                JOptionPane.showMessageDialog(d, res);
-            }
+            loader.run(() -> adminService.updateSection(s), res -> {
+                if (res == null) {
+                    JOptionPane.showMessageDialog(d, "Section Updated");
+                    refreshSectionsTable();
+                    d.dispose();
+                } else {
+                    JOptionPane.showMessageDialog(d, res);
+                }
+            });
         });
 
         int y = 0;
@@ -947,24 +993,28 @@ public class AdminDashboard extends JFrame {
                 }
                 String dayTime = UITheme.formatMultipleDayTimes(entries);
 
-                String res = adminService.createSection(
-                    ci.id, null, codeF.getText(), dayTime, roomF.getText(),
-                    capacity, semF.getText(), Integer.parseInt(yearF.getText())
-                );
-                if(res == null) {
-                    JOptionPane.showMessageDialog(this, "Section Created");
-                    refreshSectionsTable();
-
-                    codeF.setText("");
-                    roomF.setText("");
-                    capF.setText("");
-                    dayTimeListModel.clear();
-                    startTimeField.setText("09:00");
-                    endTimeField.setText("10:30");
-                    dayComboBox.setSelectedIndex(0);
-                } else {
-                    JOptionPane.showMessageDialog(this, res);
-                }
+                String sectionCode = codeF.getText();
+                String room = roomF.getText();
+                String semester = semF.getText();
+                int year = Integer.parseInt(yearF.getText());
+                loader.run(() -> adminService.createSection(
+                    ci.id, null, sectionCode, dayTime, room, capacity, semester, year
+                ), res -> {
+                    if(res == null) {
+                        JOptionPane.showMessageDialog(this, "Section Created");
+                        refreshSectionsTable();
+
+                        codeF.setText("");
+                        roomF.setText("");
+                        capF.setText("");
+                        dayTimeListModel.clear();
+                        startTimeField.setText("09:00");
+                        endTimeField.setText("10:30");
+                        dayComboBox.setSelectedIndex(0);
+                    } else {
+                        JOptionPane.showMessageDialog(this, res);
+                    }
+                });
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(this, "Please enter valid numbers for capacity and year.");
             }
@@ -1030,11 +1080,12 @@ public class AdminDashboard extends JFrame {
 
     private void refreshSectionCourseDropdown() {
         if (sectionCourseBox != null) {
-            sectionCourseBox.removeAllItems();
-            List<Course> courses = adminService.getAllCourses();
-            for (Course c : courses) {
-                sectionCourseBox.addItem(new ComboItem(c.getCode() + " - " + c.getTitle(), c.getCourseId()));
-            }
+            loader.load("sectionCourses", adminService::getAllCourses, courses -> {
+                sectionCourseBox.removeAllItems();
+                for (Course c : courses) {
+                    sectionCourseBox.addItem(new ComboItem(c.getCode() + " - " + c.getTitle(), c.getCourseId()));
+                }
+            });
         }
     }
 
@@ -1048,21 +1099,21 @@ public class AdminDashboard extends JFrame {
         maintenancePanel.setBackground(UITheme.SURFACE);
         maintenancePanel.setBorder(UITheme.createTitledBorder("Maintenance Mode"));
 
-        JLabel maintenanceStatusLabel = new JLabel("Current Status: " +
-            (adminService.isMaintenanceModeEnabled() ? "ON (System Locked)" : "OFF (Normal)"));
+        JLabel maintenanceStatusLabel = new JLabel("Current Status: Loading...");
         maintenanceStatusLabel.setForeground(UITheme.TEXT_PRIMARY);
 
         JToggleButton maintenanceToggleBtn = new JToggleButton("Toggle Maintenance Mode");
         UITheme.stylePrimaryButton(maintenanceToggleBtn);
-        maintenanceToggleBtn.setSelected(adminService.isMaintenanceModeEnabled());
-        maintenanceToggleBtn.addActionListener(e -> {
+        maintenanceToggleBtn.addActionListener(e -> loader.run(() -> {
             boolean current = adminService.isMaintenanceModeEnabled();
             adminService.toggleMaintenanceMode(!current);
+            return !current;
+        }, enabled -> {
             maintenanceStatusLabel.setText("Current Status: " +
-                (!current ? "ON (System Locked)" : "OFF (Normal)"));
-            maintenanceToggleBtn.setSelected(!current);
-            maintenanceBanner.setVisible(!current);
-        });
+                (enabled ? "ON (System Locked)" : "OFF (Normal)"));
+            maintenanceToggleBtn.setSelected(enabled);
+            maintenanceBanner.setVisible(enabled);
+        }));
 
         maintenancePanel.add(maintenanceStatusLabel);
         maintenancePanel.add(Box.createHorizontalStrut(UITheme.SPACING_LG));
@@ -1072,16 +1123,17 @@ public class AdminDashboard extends JFrame {
         addDropPanel.setBackground(UITheme.SURFACE);
         addDropPanel.setBorder(UITheme.createTitledBorder("Course Add/Drop Period"));
 
-        JLabel addDropStatusLabel = new JLabel("Add/Drop Status: " +
-            (adminService.isAddDropEnabled() ? "OPEN (Students can register/drop)" : "CLOSED (Registration locked)"));
+        JLabel addDropStatusLabel = new JLabel("Add/Drop Status: Loading...");
         addDropStatusLabel.setForeground(UITheme.TEXT_PRIMARY);
 
         JToggleButton addDropToggleBtn = new JToggleButton("Toggle Add/Drop Period");
         UITheme.stylePrimaryButton(addDropToggleBtn);
-        addDropToggleBtn.setSelected(adminService.isAddDropEnabled());
-        addDropToggleBtn.addActionListener(e -> {
+        addDropToggleBtn.addActionListener(e -> loader.run(() -> {
             boolean current = adminService.isAddDropEnabled();
-            String result = adminService.toggleAddDropPeriod(!current);
+            return new Object[]{current, adminService.toggleAddDropPeriod(!current)};
+        }, outcome -> {
+            boolean current = (Boolean) outcome[0];
+            String result = (String) outcome[1];
             if (result == null) {
                 addDropStatusLabel.setText("Add/Drop Status: " +
                     (!current ? "OPEN (Students can register/drop)" : "CLOSED (Registration locked)"));
@@ -1093,7 +1145,18 @@ public class AdminDashboard extends JFrame {
             } else {
                 JOptionPane.showMessageDialog(this, result, "Error", JOptionPane.ERROR_MESSAGE);
             }
-        });
+        }));
+
+        loader.load("settings",
+                () -> new boolean[]{adminService.isMaintenanceModeEnabled(), adminService.isAddDropEnabled()},
+                flags -> {
+                    maintenanceStatusLabel.setText("Current Status: " +
+                        (flags[0] ? "ON (System Locked)" : "OFF (Normal)"));
+                    maintenanceToggleBtn.setSelected(flags[0]);
+                    addDropStatusLabel.setText("Add/Drop Status: " +
+                        (flags[1] ? "OPEN (Students can register/drop)" : "CLOSED (Registration locked)"));
+                    addDropToggleBtn.setSelected(flags[1]);
+                });
 
         JLabel addDropNote = new JLabel("<html><i>Note: When closed, students will see a message that the add/drop period has ended.</i></html>");
         addDropNote.setFont(UITheme.FONT_SMALL);
@@ -1105,6 +1168,33 @@ public class AdminDashboard extends JFrame {
         addDropPanel.add(Box.createHorizontalStrut(UITheme.SPACING_SM));
         addDropPanel.add(addDropNote);
 
+        JPanel hashCostPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        hashCostPanel.setBackground(UITheme.SURFACE);
+        hashCostPanel.setBorder(UITheme.createTitledBorder("Password Hashing"));
+
+        JLabel hashCostLabel = new JLabel("BCrypt Cost: Loading...");
+        hashCostLabel.setForeground(UITheme.TEXT_PRIMARY);
+
+        JButton calibrateBtn = new JButton("Calibrate on This Machine");
+        UITheme.styleSecondaryButton(calibrateBtn);
+        calibrateBtn.addActionListener(e -> loader.run(adminService::calibratePasswordHashCost, result -> {
+            if (result == null) {
+                loader.load("hashCost", adminService::getPasswordHashCost,
+                        cost -> hashCostLabel.setText("BCrypt Cost: " + cost));
+                JOptionPane.showMessageDialog(this,
+                    "Password hash cost calibrated. Existing passwords are rehashed as users sign in.",
+                    "Password Hashing Updated", JOptionPane.INFORMATION_MESSAGE);
+            } else {
+                JOptionPane.showMessageDialog(this, result, "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }));
+        loader.load("hashCost", adminService::getPasswordHashCost,
+                cost -> hashCostLabel.setText("BCrypt Cost: " + cost));
+
+        hashCostPanel.add(hashCostLabel);
+        hashCostPanel.add(Box.createHorizontalStrut(UITheme.SPACING_LG));
+        hashCostPanel.add(calibrateBtn);
+
         JPanel backupPanel = new JPanel();
         backupPanel.setLayout(new BoxLayout(backupPanel, BoxLayout.Y_AXIS));
         backupPanel.setBackground(UITheme.SURFACE);
@@ -1128,12 +1218,12 @@ public class AdminDashboard extends JFrame {
         backupScrollPane.setAlignmentX(Component.LEFT_ALIGNMENT);
         UITheme.styleScrollPane(backupScrollPane);
 
-        Runnable refreshBackupList = () -> {
+        Runnable refreshBackupList = () -> loader.load("backups", backupService::getAvailableBackups, backups -> {
             backupListModel.clear();
-            for (edu.univ.erp.service.BackupService.BackupInfo info : backupService.getAvailableBackups()) {
+            for (edu.univ.erp.service.BackupService.BackupInfo info : backups) {
                 backupListModel.addElement(info);
             }
-        };
+        });
         refreshBackupList.run();
 
         JPanel backupButtonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, UITheme.SPACING_SM, 0));
@@ -1149,18 +1239,44 @@ public class AdminDashboard extends JFrame {
                 "Confirm Backup", JOptionPane.YES_NO_OPTION);
 
             if (confirm == JOptionPane.YES_OPTION) {
-                edu.univ.erp.service.BackupService.BackupResult result = backupService.createBackup();
-                if (result.isSuccess()) {
-                    JOptionPane.showMessageDialog(this,
-                        "Backup created successfully!\n" +
-                        "File: " + result.getFilePath(),
-                        "Backup Success", JOptionPane.INFORMATION_MESSAGE);
-                    refreshBackupList.run();
-                } else {
-                    JOptionPane.showMessageDialog(this,
-                        "Backup failed: " + result.getMessage(),
-                        "Backup Error", JOptionPane.ERROR_MESSAGE);
-                }
+                loader.run(backupService::createBackup, result -> {
+                    if (result.isSuccess()) {
+                        JOptionPane.showMessageDialog(this,
+                            "Backup created successfully!\n" +
+                            "File: " + result.getFilePath(),
+                            "Backup Success", JOptionPane.INFORMATION_MESSAGE);
+                        refreshBackupList.run();
+                    } else {
+                        JOptionPane.showMessageDialog(this,
+                            "Backup failed: " + result.getMessage(),
+                            "Backup Error", JOptionPane.ERROR_MESSAGE);
+                    }
+                });
+            }
+        });
+
+        JButton incrementalBackupBtn = new JButton("Incremental Backup");
+        UITheme.styleSecondaryButton(incrementalBackupBtn);
+        incrementalBackupBtn.addActionListener(e -> {
+            int confirm = JOptionPane.showConfirmDialog(this,
+                "Create an incremental backup?\n" +
+                "Only rows changed since the latest backup will be saved.",
+                "Confirm Backup", JOptionPane.YES_NO_OPTION);
+
+            if (confirm == JOptionPane.YES_OPTION) {
+                loader.run(backupService::createIncrementalBackup, result -> {
+                    if (result.isSuccess()) {
+                        JOptionPane.showMessageDialog(this,
+                            "Backup created successfully!\n" +
+                            "File: " + result.getFilePath(),
+                            "Backup Success", JOptionPane.INFORMATION_MESSAGE);
+                        refreshBackupList.run();
+                    } else {
+                        JOptionPane.showMessageDialog(this,
+                            "Backup failed: " + result.getMessage(),
+                            "Backup Error", JOptionPane.ERROR_MESSAGE);
+                    }
+                });
             }
         });
 
@@ -1181,22 +1297,43 @@ public class AdminDashboard extends JFrame {
                 "Confirm Restore", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
 
             if (confirm == JOptionPane.YES_OPTION) {
-                edu.univ.erp.service.BackupService.BackupResult result = backupService.restoreBackup(selected.getFullPath());
-                if (result.isSuccess()) {
-                    JOptionPane.showMessageDialog(this,
-                        "Database restored successfully!\n" +
-                        "Please restart the application to see all changes.",
-                        "Restore Success", JOptionPane.INFORMATION_MESSAGE);
+                loader.run(() -> backupService.restoreBackup(selected.getFullPath()), result -> {
+                    if (result.isSuccess()) {
+                        JOptionPane.showMessageDialog(this,
+                            "Database restored successfully!\n" +
+                            "Please restart the application to see all changes.",
+                            "Restore Success", JOptionPane.INFORMATION_MESSAGE);
+
+                        refreshUsersTable();
+                        refreshCoursesTable();
+                        refreshSectionsTable();
+                    } else {
+                        JOptionPane.showMessageDialog(this,
+                            "Restore failed: " + result.getMessage(),
+                            "Restore Error", JOptionPane.ERROR_MESSAGE);
+                    }
+                });
+            }
+        });
 
-                    refreshUsersTable();
-                    refreshCoursesTable();
-                    refreshSectionsTable();
+        JButton verifyBackupBtn = new JButton("Verify Selected");
+        UITheme.styleSecondaryButton(verifyBackupBtn);
+        verifyBackupBtn.addActionListener(e -> {
+            edu.univ.erp.service.BackupService.BackupInfo selected = backupList.getSelectedValue();
+            if (selected == null) {
+                JOptionPane.showMessageDialog(this, "Please select a backup to verify.");
+                return;
+            }
+
+            loader.run(() -> backupService.verifyBackup(selected.getFullPath()), result -> {
+                if (result.isSuccess()) {
+                    JOptionPane.showMessageDialog(this, result.getMessage(),
+                        "Backup Verified", JOptionPane.INFORMATION_MESSAGE);
                 } else {
-                    JOptionPane.showMessageDialog(this,
-                        "Restore failed: " + result.getMessage(),
-                        "Restore Error", JOptionPane.ERROR_MESSAGE);
+                    JOptionPane.showMessageDialog(this, result.getMessage(),
+                        "Verification Failed", JOptionPane.ERROR_MESSAGE);
                 }
-            }
+            });
         });
 
         JButton refreshListBtn = new JButton("↻ Refresh");
@@ -1223,17 +1360,23 @@ public class AdminDashboard extends JFrame {
                 "Confirm Delete", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
 
             if (confirm == JOptionPane.YES_OPTION) {
-                if (backupService.deleteBackup(selected.getFullPath())) {
-                    JOptionPane.showMessageDialog(this, "Backup deleted.");
-                    refreshBackupList.run();
-                } else {
-                    JOptionPane.showMessageDialog(this, "Failed to delete backup.", "Error", JOptionPane.ERROR_MESSAGE);
-                }
+                loader.run(() -> backupService.deleteBackup(selected.getFullPath()), deleted -> {
+                    if (deleted) {
+                        JOptionPane.showMessageDialog(this, "Backup deleted.");
+                        refreshBackupList.run();
+                    } else {
+                        JOptionPane.showMessageDialog(this,
+                            "Failed to delete backup. It may be the base of an incremental backup.",
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                    }
+                });
             }
         });
 
         backupButtonPanel.add(createBackupBtn);
+        backupButtonPanel.add(incrementalBackupBtn);
         backupButtonPanel.add(restoreBackupBtn);
+        backupButtonPanel.add(verifyBackupBtn);
         backupButtonPanel.add(refreshListBtn);
         backupButtonPanel.add(deleteBackupBtn);
 
@@ -1254,6 +1397,8 @@ public class AdminDashboard extends JFrame {
         panel.add(Box.createVerticalStrut(UITheme.SPACING_LG));
         panel.add(addDropPanel);
         panel.add(Box.createVerticalStrut(UITheme.SPACING_LG));
+        panel.add(hashCostPanel);
+        panel.add(Box.createVerticalStrut(UITheme.SPACING_LG));
         panel.add(backupPanel);
 
         return panel;
@@ -1263,6 +1408,12 @@ public class AdminDashboard extends JFrame {
         new edu.univ.erp.ui.common.ChangePasswordDialog(this).setVisible(true);
     }
 
+    @Override
+    public void dispose() {
+        loader.cancelAll();
+        super.dispose();
+    }
+
     static class ComboItem {
         String label;
         int id;
@@ -0,0 +1,168 @@
+package edu.univ.erp.ui.common;
+
+import edu.univ.erp.util.DatabaseManager;
+import edu.univ.erp.util.MessageUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class BackgroundLoader {
+    private static final Logger logger = LoggerFactory.getLogger(BackgroundLoader.class);
+    private static final AtomicInteger threadIndex = new AtomicInteger();
+    private static final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(1, DatabaseManager.getInstance().getIntProperty("ui.loaderThreads", 4)), r -> {
+                Thread t = new Thread(r, "ui-loader-" + threadIndex.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+
+    private final Component owner;
+    private final Map<String, LoadTask<?>> active = new HashMap<>();
+    private final Set<LoadTask<?>> running = new LinkedHashSet<>();
+    private final List<JProgressBar> indicators = new ArrayList<>();
+
+    public BackgroundLoader(Component owner) {
+        this.owner = owner;
+    }
+
+    public <T> Future<T> load(String key, Callable<T> work, Consumer<? super T> onSuccess) {
+        return load(key, work, onSuccess, null);
+    }
+
+    public <T> Future<T> load(String key, Callable<T> work, Consumer<? super T> onSuccess,
+                              Consumer<? super Throwable> onFailure) {
+        cancel(key);
+        LoadTask<T> task = new LoadTask<>(key, work, onSuccess, onFailure);
+        active.put(key, task);
+        start(task);
+        return task;
+    }
+
+    public <T> Future<T> run(Callable<T> work, Consumer<? super T> onSuccess) {
+        return run(work, onSuccess, null);
+    }
+
+    public <T> Future<T> run(Callable<T> work, Consumer<? super T> onSuccess, Consumer<? super Throwable> onFailure) {
+        LoadTask<T> task = new LoadTask<>(null, work, onSuccess, onFailure);
+        start(task);
+        return task;
+    }
+
+    public boolean isLoading(String key) {
+        return active.containsKey(key);
+    }
+
+    public void cancel(String key) {
+        LoadTask<?> task = active.remove(key);
+        if (task != null) {
+            task.cancel(true);
+        }
+    }
+
+    public void cancelAll() {
+        active.clear();
+        for (LoadTask<?> task : new ArrayList<>(running)) {
+            task.cancel(true);
+        }
+    }
+
+    public JProgressBar createProgressIndicator() {
+        JProgressBar indicator = new JProgressBar();
+        indicator.setIndeterminate(true);
+        indicator.setStringPainted(true);
+        indicator.setString("Loading...");
+        indicator.setFont(UITheme.FONT_SMALL);
+        indicator.setForeground(UITheme.ACCENT);
+        indicator.setPreferredSize(new Dimension(120, 18));
+        indicator.setVisible(!running.isEmpty());
+        indicators.add(indicator);
+        return indicator;
+    }
+
+    private void start(LoadTask<?> task) {
+        running.add(task);
+        updateIndicators();
+        executor.execute(task);
+    }
+
+    private void finish(LoadTask<?> task) {
+        running.remove(task);
+        updateIndicators();
+    }
+
+    private void updateIndicators() {
+        boolean busy = !running.isEmpty();
+        for (JProgressBar indicator : indicators) {
+            indicator.setVisible(busy);
+        }
+    }
+
+    private void fail(Throwable cause, Consumer<? super Throwable> onFailure) {
+        logger.error("Background task failed", cause);
+        if (onFailure != null) {
+            onFailure.accept(cause);
+        } else {
+            MessageUtil.showError(owner, "Failed to load data: " + cause.getMessage());
+        }
+    }
+
+    private final class LoadTask<T> extends FutureTask<T> {
+        private final String key;
+        private final Consumer<? super T> onSuccess;
+        private final Consumer<? super Throwable> onFailure;
+
+        private LoadTask(String key, Callable<T> work, Consumer<? super T> onSuccess,
+                         Consumer<? super Throwable> onFailure) {
+            super(work);
+            this.key = key;
+            this.onSuccess = onSuccess;
+            this.onFailure = onFailure;
+        }
+
+        @Override
+        protected void done() {
+            SwingUtilities.invokeLater(this::deliver);
+        }
+
+        private void deliver() {
+            boolean current = key == null || active.get(key) == this;
+            if (key != null && current) {
+                active.remove(key);
+            }
+            finish(this);
+            if (!current || isCancelled()) {
+                return;
+            }
+
+            T value;
+            try {
+                value = get();
+            } catch (ExecutionException e) {
+                fail(e.getCause() != null ? e.getCause() : e, onFailure);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (onSuccess != null) {
+                onSuccess.accept(value);
+            }
+        }
+    }
+}
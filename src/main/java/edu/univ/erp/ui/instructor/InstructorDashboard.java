@@ -4,6 +4,7 @@ import edu.univ.erp.access.AccessControl;
 import edu.univ.erp.auth.SessionManager;
 import edu.univ.erp.domain.*;
 import edu.univ.erp.service.InstructorService;
+import edu.univ.erp.ui.common.BackgroundLoader;
 import edu.univ.erp.ui.common.LoginFrame;
 import edu.univ.erp.ui.common.UITheme;
 import edu.univ.erp.util.MessageUtil;
@@ -20,21 +21,25 @@ public class InstructorDashboard extends JFrame {
     private final Instructor instructor;
     private final InstructorService instructorService;
     private final AccessControl accessControl;
+    private final BackgroundLoader loader;
 
     private JTable sectionsTable;
     private JTable studentsTable;
     private JTable gradesSummaryTable;
     private JLabel maintenanceBanner;
     private Section selectedSection;
-    private List<Enrollment> currentEnrollments;
+    private List<Section> currentSections;
+    private SectionDetail currentDetail;
 
     public InstructorDashboard(Instructor instructor) {
         this.instructor = instructor;
         this.instructorService = new InstructorService();
         this.accessControl = AccessControl.getInstance();
+        this.loader = new BackgroundLoader(this);
 
         initComponents();
         setupLayout();
+        loadBanner();
         loadSections();
     }
 
@@ -45,7 +50,7 @@ public class InstructorDashboard extends JFrame {
         setLocationRelativeTo(null);
 
         maintenanceBanner = UITheme.createMaintenanceBanner();
-        maintenanceBanner.setVisible(accessControl.isMaintenanceModeEnabled());
+        maintenanceBanner.setVisible(false);
     }
 
     private void setupLayout() {
@@ -81,6 +86,7 @@ public class InstructorDashboard extends JFrame {
         UITheme.stylePrimaryButton(logoutButton);
         logoutButton.addActionListener(e -> logout());
 
+        buttonPanel.add(loader.createProgressIndicator());
         buttonPanel.add(changePasswordButton);
         buttonPanel.add(logoutButton);
 
@@ -210,7 +216,7 @@ public class InstructorDashboard extends JFrame {
 
         JButton refreshButton = new JButton("↻ Refresh");
         UITheme.styleSecondaryButton(refreshButton);
-        refreshButton.addActionListener(e -> loadGrades());
+        refreshButton.addActionListener(e -> loadSectionDetail());
 
         JButton exportButton = new JButton("Export CSV");
         UITheme.styleSecondaryButton(exportButton);
@@ -260,9 +266,10 @@ public class InstructorDashboard extends JFrame {
         JButton showStatsButton = new JButton("Show Statistics");
         UITheme.stylePrimaryButton(showStatsButton);
         showStatsButton.addActionListener(e -> {
-            if (selectedSection != null) {
-                String stats = instructorService.getClassStatistics(selectedSection.getSectionId());
-                statsArea.setText(stats);
+            if (currentDetail != null) {
+                statsArea.setText(instructorService.getClassStatistics(currentDetail));
+            } else if (selectedSection != null) {
+                MessageUtil.showInfo(this, "Section details are still loading.");
             } else {
                 MessageUtil.showWarning(this, "Please select a section first.");
             }
@@ -281,11 +288,20 @@ public class InstructorDashboard extends JFrame {
         return panel;
     }
 
+    private void loadBanner() {
+        loader.load("banner", accessControl::isMaintenanceModeEnabled, maintenanceBanner::setVisible);
+    }
+
     private void loadSections() {
+        loader.load("sections", () -> instructorService.getMySections(instructor.getInstructorId()),
+                this::showSections);
+    }
+
+    private void showSections(List<Section> sections) {
         DefaultTableModel model = (DefaultTableModel) sectionsTable.getModel();
         model.setRowCount(0);
 
-        List<Section> sections = instructorService.getMySections(instructor.getInstructorId());
+        currentSections = sections;
         for (Section section : sections) {
             model.addRow(new Object[]{
                 section.getCourseCode() + " - " + section.getCourseTitle(),
@@ -300,62 +316,59 @@ public class InstructorDashboard extends JFrame {
         int selectedRow = sectionsTable.getSelectedRow();
         if (selectedRow < 0) {
             selectedSection = null;
+            loadSectionDetail();
             return;
         }
 
-        List<Section> sections = instructorService.getMySections(instructor.getInstructorId());
-        if (selectedRow < sections.size()) {
-            selectedSection = sections.get(selectedRow);
-            loadStudents();
-            loadGrades();
+        if (currentSections != null && selectedRow < currentSections.size()) {
+            selectedSection = currentSections.get(selectedRow);
+            loadSectionDetail();
         }
     }
 
-    private void loadStudents() {
-        DefaultTableModel model = (DefaultTableModel) studentsTable.getModel();
-        model.setRowCount(0);
-
-        if (selectedSection == null) return;
+    private void loadSectionDetail() {
+        ((DefaultTableModel) studentsTable.getModel()).setRowCount(0);
+        ((DefaultTableModel) gradesSummaryTable.getModel()).setRowCount(0);
+        currentDetail = null;
 
-        List<Enrollment> enrollments = instructorService.getSectionEnrollments(selectedSection.getSectionId());
-        for (Enrollment enrollment : enrollments) {
-            String rollNo = enrollment.getStudentRollNo() != null ? enrollment.getStudentRollNo() : "N/A";
-            String program = enrollment.getStudentProgram() != null ? enrollment.getStudentProgram() : "N/A";
-            model.addRow(new Object[]{
-                enrollment.getStudentId(),
-                rollNo,
-                program
-            });
+        if (selectedSection == null) {
+            loader.cancel("detail");
+            return;
         }
-    }
 
-    private void loadGrades() {
-        DefaultTableModel model = (DefaultTableModel) gradesSummaryTable.getModel();
-        model.setRowCount(0);
-
-        if (selectedSection == null) return;
+        Section section = selectedSection;
+        loader.load("detail", () -> instructorService.getSectionDetail(section), this::showSectionDetail);
+    }
 
-        currentEnrollments = instructorService.getSectionEnrollments(selectedSection.getSectionId());
+    private void showSectionDetail(SectionDetail detail) {
+        DefaultTableModel studentsModel = (DefaultTableModel) studentsTable.getModel();
+        DefaultTableModel gradesModel = (DefaultTableModel) gradesSummaryTable.getModel();
+        studentsModel.setRowCount(0);
+        gradesModel.setRowCount(0);
 
-        for (Enrollment enrollment : currentEnrollments) {
+        currentDetail = detail;
+        for (Enrollment enrollment : detail.getEnrollments()) {
             String rollNo = enrollment.getStudentRollNo() != null ? enrollment.getStudentRollNo() : "N/A";
             String program = enrollment.getStudentProgram() != null ? enrollment.getStudentProgram() : "N/A";
-            List<Grade> grades = instructorService.getGrades(enrollment.getEnrollmentId());
+            FinalGrade stored = enrollment.getFinalGrade();
 
             String finalGrade;
             String percentage;
 
-            if (grades.isEmpty()) {
+            if (stored == null || !stored.isGraded()) {
                 finalGrade = "No grades";
                 percentage = "-";
             } else {
-                String calculated = calculateStudentFinalGrade(grades);
-                String[] parsed = parseGradeString(calculated);
-                finalGrade = parsed[0];
-                percentage = parsed[1];
+                finalGrade = stored.getLetterGrade();
+                percentage = String.format("%.2f%%", stored.getFinalPercentage());
             }
 
-            model.addRow(new Object[]{
+            studentsModel.addRow(new Object[]{
+                enrollment.getStudentId(),
+                rollNo,
+                program
+            });
+            gradesModel.addRow(new Object[]{
                 enrollment.getStudentId(),
                 rollNo,
                 program,
@@ -365,68 +378,11 @@ public class InstructorDashboard extends JFrame {
         }
     }
 
-    private String[] parseGradeString(String gradeStr) {
-        if (gradeStr == null || gradeStr.equals("N/A") || !gradeStr.contains(" ") || !gradeStr.contains("(")) {
-            return new String[]{"N/A", "-"};
-        }
-        try {
-            String letterGrade = gradeStr.split(" ")[0];
-            int openParen = gradeStr.indexOf("(");
-            int closeParen = gradeStr.indexOf(")");
-            if (openParen >= 0 && closeParen > openParen) {
-                String percentage = gradeStr.substring(openParen + 1, closeParen);
-                return new String[]{letterGrade, percentage};
-            }
-        } catch (Exception e) {
-
-        }
-        return new String[]{"N/A", "-"};
-    }
-
-    private String calculateStudentFinalGrade(List<Grade> grades) {
-        if (grades.isEmpty()) {
-            return "N/A";
-        }
-
-        BigDecimal totalWeightedScore = BigDecimal.ZERO;
-        BigDecimal totalWeightage = BigDecimal.ZERO;
-
-        for (Grade grade : grades) {
-            if (grade.getScore() != null && grade.getMaxScore() != null && grade.getWeightage() != null
-                && grade.getMaxScore().compareTo(BigDecimal.ZERO) > 0) {
-                BigDecimal percentage = grade.getScore()
-                        .divide(grade.getMaxScore(), 4, RoundingMode.HALF_UP)
-                        .multiply(new BigDecimal("100"));
-
-                BigDecimal weightedScore = percentage.multiply(grade.getWeightage())
-                        .divide(new BigDecimal("100"), 4, RoundingMode.HALF_UP);
-
-                totalWeightedScore = totalWeightedScore.add(weightedScore);
-                totalWeightage = totalWeightage.add(grade.getWeightage());
-            }
-        }
-
-        if (totalWeightage.compareTo(BigDecimal.ZERO) == 0) {
+    private String formatFinalGrade(FinalGrade finalGrade) {
+        if (finalGrade == null || !finalGrade.isGraded()) {
             return "N/A";
         }
-
-        BigDecimal finalPercent = totalWeightedScore.setScale(2, RoundingMode.HALF_UP);
-        String letterGrade = convertToLetterGrade(finalPercent);
-        return String.format("%s (%.2f%%)", letterGrade, finalPercent);
-    }
-
-    private String convertToLetterGrade(BigDecimal score) {
-        if (score.compareTo(new BigDecimal("95")) >= 0) return "A+";
-        if (score.compareTo(new BigDecimal("90")) >= 0) return "A";
-        if (score.compareTo(new BigDecimal("85")) >= 0) return "A-";
-        if (score.compareTo(new BigDecimal("80")) >= 0) return "B+";
-        if (score.compareTo(new BigDecimal("75")) >= 0) return "B";
-        if (score.compareTo(new BigDecimal("70")) >= 0) return "B-";
-        if (score.compareTo(new BigDecimal("65")) >= 0) return "C+";
-        if (score.compareTo(new BigDecimal("60")) >= 0) return "C";
-        if (score.compareTo(new BigDecimal("55")) >= 0) return "C-";
-        if (score.compareTo(new BigDecimal("50")) >= 0) return "D";
-        return "F";
+        return String.format("%s (%.2f%%)", finalGrade.getLetterGrade(), finalGrade.getFinalPercentage());
     }
 
     private void showStudentGradeDetails() {
@@ -436,22 +392,21 @@ public class InstructorDashboard extends JFrame {
             return;
         }
 
-        if (currentEnrollments == null) {
+        if (currentDetail == null) {
             MessageUtil.showWarning(this, "Please select a section first.");
             return;
         }
 
-        if (selectedRow >= currentEnrollments.size()) {
+        Enrollment enrollment = currentDetail.getEnrollment(selectedRow);
+        if (enrollment == null) {
             MessageUtil.showWarning(this, "Invalid student selection. Please refresh and try again.");
             return;
         }
 
-        Enrollment enrollment = currentEnrollments.get(selectedRow);
+        List<Grade> grades = currentDetail.getGrades(enrollment.getEnrollmentId());
         String rollNo = enrollment.getStudentRollNo() != null ? enrollment.getStudentRollNo() : "N/A";
         String program = enrollment.getStudentProgram() != null ? enrollment.getStudentProgram() : "N/A";
 
-        List<Grade> grades = instructorService.getGrades(enrollment.getEnrollmentId());
-
         JDialog dialog = new JDialog(this, "Grade Details - " + rollNo, true);
         dialog.setSize(650, 400);
         dialog.setLocationRelativeTo(this);
@@ -468,7 +423,7 @@ public class InstructorDashboard extends JFrame {
         infoPanel.add(new JLabel("Program:"));
         infoPanel.add(new JLabel(program));
 
-        String finalGradeStr = calculateStudentFinalGrade(grades);
+        String finalGradeStr = formatFinalGrade(enrollment.getFinalGrade());
         JLabel finalGradeLabel = new JLabel(finalGradeStr);
         finalGradeLabel.setFont(new Font("Arial", Font.BOLD, 14));
         finalGradeLabel.setForeground(new Color(0, 100, 0));
@@ -549,15 +504,7 @@ public class InstructorDashboard extends JFrame {
     }
 
     private void showEditGradeDialogForGrade(int gradeId, Enrollment enrollment) {
-
-        List<Grade> grades = instructorService.getGrades(enrollment.getEnrollmentId());
-        Grade targetGrade = null;
-        for (Grade g : grades) {
-            if (g.getGradeId() == gradeId) {
-                targetGrade = g;
-                break;
-            }
-        }
+        Grade targetGrade = currentDetail != null ? currentDetail.getGrade(enrollment.getEnrollmentId(), gradeId) : null;
 
         if (targetGrade == null) {
             MessageUtil.showError(this, "Grade not found.");
@@ -600,14 +547,14 @@ public class InstructorDashboard extends JFrame {
                 grade.setMaxScore(maxScore);
                 grade.setWeightage(weightage);
 
-                String message = instructorService.updateGrade(grade);
-
-                if (message == null) {
-                    MessageUtil.showSuccess(this, "Grade updated successfully.");
-                    loadGrades();
-                } else {
-                    MessageUtil.showError(this, message);
-                }
+                loader.run(() -> instructorService.updateGrade(grade), message -> {
+                    if (message == null) {
+                        MessageUtil.showSuccess(this, "Grade updated successfully.");
+                        loadSectionDetail();
+                    } else {
+                        MessageUtil.showError(this, message);
+                    }
+                });
             } catch (Exception e) {
                 MessageUtil.showError(this, "Invalid input: " + e.getMessage());
             }
@@ -615,12 +562,13 @@ public class InstructorDashboard extends JFrame {
     }
 
     private void showEnterGradeDialog() {
-        if (selectedSection == null) {
+        if (currentDetail == null) {
             MessageUtil.showWarning(this, "Please select a section first.");
             return;
         }
 
-        List<Enrollment> enrollments = instructorService.getSectionEnrollments(selectedSection.getSectionId());
+        SectionDetail detail = currentDetail;
+        List<Enrollment> enrollments = detail.getEnrollments();
         if (enrollments.isEmpty()) {
             MessageUtil.showInfo(this, "No students enrolled in this section.");
             return;
@@ -641,7 +589,7 @@ public class InstructorDashboard extends JFrame {
             int idx = studentCombo.getSelectedIndex();
             if (idx >= 0 && idx < enrollments.size()) {
                 Enrollment selected = enrollments.get(idx);
-                BigDecimal total = instructorService.getTotalWeightage(selected.getEnrollmentId());
+                BigDecimal total = detail.getTotalWeightage(selected.getEnrollmentId());
                 BigDecimal remaining = new BigDecimal("100").subtract(total);
                 String colorHtml = remaining.compareTo(BigDecimal.ZERO) <= 0 ? "red" :
                                    remaining.compareTo(new BigDecimal("20")) <= 0 ? "orange" : "green";
@@ -757,15 +705,15 @@ public class InstructorDashboard extends JFrame {
                 BigDecimal maxScore = new BigDecimal(maxScoreField.getText().trim());
                 BigDecimal weightage = new BigDecimal(weightageField.getText().trim());
 
-                String message = instructorService.enterGrade(enrollment.getEnrollmentId(),
-                        component, score, maxScore, weightage);
-
-                if (message == null) {
-                    MessageUtil.showSuccess(this, "Grade entered successfully.");
-                    loadGrades();
-                } else {
-                    MessageUtil.showError(this, message);
-                }
+                loader.run(() -> instructorService.enterGrade(enrollment.getEnrollmentId(),
+                        component, score, maxScore, weightage), message -> {
+                    if (message == null) {
+                        MessageUtil.showSuccess(this, "Grade entered successfully.");
+                        loadSectionDetail();
+                    } else {
+                        MessageUtil.showError(this, message);
+                    }
+                });
             } catch (NumberFormatException ex) {
                 MessageUtil.showError(this, "Please enter valid numbers for score, max score, and weightage.");
             } catch (Exception e) {
@@ -775,122 +723,130 @@ public class InstructorDashboard extends JFrame {
     }
 
     private void exportGradesToCSV() {
-        if (selectedSection == null) {
+        if (currentDetail == null) {
             MessageUtil.showWarning(this, "Please select a section first.");
             return;
         }
 
+        SectionDetail detail = currentDetail;
         JFileChooser fileChooser = new JFileChooser();
-        fileChooser.setSelectedFile(new java.io.File(selectedSection.getCourseCode() + "_grades.csv"));
+        fileChooser.setSelectedFile(new java.io.File(detail.getSection().getCourseCode() + "_grades.csv"));
 
         if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
-            try (java.io.PrintWriter writer = new java.io.PrintWriter(fileChooser.getSelectedFile())) {
+            java.io.File file = fileChooser.getSelectedFile();
+            loader.run(() -> {
+                writeGradesCSV(file, detail);
+                return file;
+            }, written -> MessageUtil.showSuccess(this, "Grades exported successfully to: " + written.getAbsolutePath()),
+               e -> MessageUtil.showError(this, "Failed to export grades: " + e.getMessage()));
+        }
+    }
+
+    private void writeGradesCSV(java.io.File file, SectionDetail detail) throws java.io.IOException {
+        try (java.io.PrintWriter writer = new java.io.PrintWriter(file)) {
 
-                writer.println("Roll No,Student,Component,Score,Max Score,Weightage (%),Final Grade,Final Percentage");
+            writer.println("Roll No,Student,Component,Score,Max Score,Weightage (%),Final Grade,Final Percentage");
 
-                List<Enrollment> enrollments = instructorService.getSectionEnrollments(selectedSection.getSectionId());
-                for (Enrollment enrollment : enrollments) {
-                    String rollNo = enrollment.getStudentRollNo() != null ? enrollment.getStudentRollNo() : "N/A";
-                    List<Grade> grades = instructorService.getGrades(enrollment.getEnrollmentId());
+            for (Enrollment enrollment : detail.getEnrollments()) {
+                String rollNo = enrollment.getStudentRollNo() != null ? enrollment.getStudentRollNo() : "N/A";
+                List<Grade> grades = detail.getGrades(enrollment.getEnrollmentId());
 
-                    String finalGradeStr = calculateStudentFinalGrade(grades);
-                    String[] parsed = parseGradeString(finalGradeStr);
-                    String letterGrade = parsed[0];
-                    String percentage = parsed[1];
+                FinalGrade finalGrade = enrollment.getFinalGrade();
+                boolean graded = finalGrade != null && finalGrade.isGraded();
+                String letterGrade = graded ? finalGrade.getLetterGrade() : "N/A";
+                String percentage = graded ? String.format("%.2f%%", finalGrade.getFinalPercentage()) : "-";
 
-                    if (grades.isEmpty()) {
-                        writer.printf("%s,Student %d,No grades yet,-,-,-,%s,%s%n",
+                if (grades.isEmpty()) {
+                    writer.printf("%s,Student %d,No grades yet,-,-,-,%s,%s%n",
+                        rollNo,
+                        enrollment.getStudentId(),
+                        "N/A",
+                        "N/A");
+                } else {
+                    for (Grade grade : grades) {
+                        writer.printf("%s,Student %d,%s,%s,%s,%s,%s,%s%n",
                             rollNo,
                             enrollment.getStudentId(),
-                            "N/A",
-                            "N/A");
-                    } else {
-                        for (Grade grade : grades) {
-                            writer.printf("%s,Student %d,%s,%s,%s,%s,%s,%s%n",
-                                rollNo,
-                                enrollment.getStudentId(),
-                                grade.getComponent(),
-                                grade.getScore() != null ? grade.getScore() : "",
-                                grade.getMaxScore() != null ? grade.getMaxScore() : "",
-                                grade.getWeightage() != null ? grade.getWeightage() : "",
-                                letterGrade,
-                                percentage);
-                        }
+                            grade.getComponent(),
+                            grade.getScore() != null ? grade.getScore() : "",
+                            grade.getMaxScore() != null ? grade.getMaxScore() : "",
+                            grade.getWeightage() != null ? grade.getWeightage() : "",
+                            letterGrade,
+                            percentage);
                     }
                 }
-
-                MessageUtil.showSuccess(this, "Grades exported successfully to: " + fileChooser.getSelectedFile().getAbsolutePath());
-            } catch (Exception e) {
-                MessageUtil.showError(this, "Failed to export grades: " + e.getMessage());
             }
         }
     }
 
     private void exportGradesToPDF() {
-        if (selectedSection == null) {
+        if (currentDetail == null) {
             MessageUtil.showWarning(this, "Please select a section first.");
             return;
         }
 
+        SectionDetail detail = currentDetail;
         JFileChooser fileChooser = new JFileChooser();
-        fileChooser.setSelectedFile(new java.io.File(selectedSection.getCourseCode() + "_grades.pdf"));
+        fileChooser.setSelectedFile(new java.io.File(detail.getSection().getCourseCode() + "_grades.pdf"));
 
         if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
-            try {
-                com.lowagie.text.Document document = new com.lowagie.text.Document();
-                com.lowagie.text.pdf.PdfWriter.getInstance(document, new java.io.FileOutputStream(fileChooser.getSelectedFile()));
-                document.open();
-
-                com.lowagie.text.Font titleFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 18, com.lowagie.text.Font.BOLD);
-                com.lowagie.text.Font headerFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 12, com.lowagie.text.Font.BOLD);
-                com.lowagie.text.Font normalFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 10, com.lowagie.text.Font.NORMAL);
-
-                document.add(new com.lowagie.text.Paragraph("GRADE REPORT", titleFont));
-                document.add(new com.lowagie.text.Paragraph(" "));
-                document.add(new com.lowagie.text.Paragraph("Course: " + selectedSection.getCourseCode() + " - " + selectedSection.getCourseTitle(), headerFont));
-                document.add(new com.lowagie.text.Paragraph("Section: " + selectedSection.getSectionCode(), normalFont));
-                document.add(new com.lowagie.text.Paragraph("Semester: " + selectedSection.getSemester() + " " + selectedSection.getYear(), normalFont));
-                document.add(new com.lowagie.text.Paragraph("Instructor: " + instructor.getEmployeeId(), normalFont));
-                document.add(new com.lowagie.text.Paragraph(" "));
-
-                com.lowagie.text.pdf.PdfPTable summaryTable = new com.lowagie.text.pdf.PdfPTable(4);
-                summaryTable.setWidthPercentage(100);
-
-                summaryTable.addCell(new com.lowagie.text.Phrase("Roll No", headerFont));
-                summaryTable.addCell(new com.lowagie.text.Phrase("Student", headerFont));
-                summaryTable.addCell(new com.lowagie.text.Phrase("Final Grade", headerFont));
-                summaryTable.addCell(new com.lowagie.text.Phrase("Percentage", headerFont));
-
-                List<Enrollment> enrollments = instructorService.getSectionEnrollments(selectedSection.getSectionId());
-                for (Enrollment enrollment : enrollments) {
-                    String rollNo = enrollment.getStudentRollNo() != null ? enrollment.getStudentRollNo() : "N/A";
-                    List<Grade> grades = instructorService.getGrades(enrollment.getEnrollmentId());
-                    String finalGrade = calculateStudentFinalGrade(grades);
-
-                    summaryTable.addCell(new com.lowagie.text.Phrase(rollNo, normalFont));
-                    summaryTable.addCell(new com.lowagie.text.Phrase("Student " + enrollment.getStudentId(), normalFont));
-
-                    String letterGrade = finalGrade.split(" ")[0];
-                    String percentage = finalGrade.contains("(") ? finalGrade.substring(finalGrade.indexOf("(") + 1, finalGrade.indexOf(")")) : "N/A";
-
-                    summaryTable.addCell(new com.lowagie.text.Phrase(letterGrade, normalFont));
-                    summaryTable.addCell(new com.lowagie.text.Phrase(percentage, normalFont));
-                }
+            java.io.File file = fileChooser.getSelectedFile();
+            loader.run(() -> {
+                writeGradesPDF(file, detail);
+                return file;
+            }, written -> MessageUtil.showSuccess(this, "Grades exported successfully to: " + written.getAbsolutePath()),
+               e -> MessageUtil.showError(this, "Failed to export grades: " + e.getMessage()));
+        }
+    }
 
-                document.add(summaryTable);
+    private void writeGradesPDF(java.io.File file, SectionDetail detail) throws Exception {
+        Section section = detail.getSection();
+        com.lowagie.text.Document document = new com.lowagie.text.Document();
+        com.lowagie.text.pdf.PdfWriter.getInstance(document, new java.io.FileOutputStream(file));
+        document.open();
+
+        com.lowagie.text.Font titleFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 18, com.lowagie.text.Font.BOLD);
+        com.lowagie.text.Font headerFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 12, com.lowagie.text.Font.BOLD);
+        com.lowagie.text.Font normalFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 10, com.lowagie.text.Font.NORMAL);
+
+        document.add(new com.lowagie.text.Paragraph("GRADE REPORT", titleFont));
+        document.add(new com.lowagie.text.Paragraph(" "));
+        document.add(new com.lowagie.text.Paragraph("Course: " + section.getCourseCode() + " - " + section.getCourseTitle(), headerFont));
+        document.add(new com.lowagie.text.Paragraph("Section: " + section.getSectionCode(), normalFont));
+        document.add(new com.lowagie.text.Paragraph("Semester: " + section.getSemester() + " " + section.getYear(), normalFont));
+        document.add(new com.lowagie.text.Paragraph("Instructor: " + instructor.getEmployeeId(), normalFont));
+        document.add(new com.lowagie.text.Paragraph(" "));
+
+        com.lowagie.text.pdf.PdfPTable summaryTable = new com.lowagie.text.pdf.PdfPTable(4);
+        summaryTable.setWidthPercentage(100);
+
+        summaryTable.addCell(new com.lowagie.text.Phrase("Roll No", headerFont));
+        summaryTable.addCell(new com.lowagie.text.Phrase("Student", headerFont));
+        summaryTable.addCell(new com.lowagie.text.Phrase("Final Grade", headerFont));
+        summaryTable.addCell(new com.lowagie.text.Phrase("Percentage", headerFont));
+
+        for (Enrollment enrollment : detail.getEnrollments()) {
+            String rollNo = enrollment.getStudentRollNo() != null ? enrollment.getStudentRollNo() : "N/A";
+            String finalGrade = formatFinalGrade(enrollment.getFinalGrade());
 
-                document.add(new com.lowagie.text.Paragraph(" "));
-                document.add(new com.lowagie.text.Paragraph("Grade Scale:", headerFont));
-                document.add(new com.lowagie.text.Paragraph("A+ (95-100%) | A (90-94.99%) | A- (85-89.99%) | B+ (80-84.99%) | B (75-79.99%)", normalFont));
-                document.add(new com.lowagie.text.Paragraph("B- (70-74.99%) | C+ (65-69.99%) | C (60-64.99%) | C- (55-59.99%) | D (50-54.99%) | F (<50%)", normalFont));
+            summaryTable.addCell(new com.lowagie.text.Phrase(rollNo, normalFont));
+            summaryTable.addCell(new com.lowagie.text.Phrase("Student " + enrollment.getStudentId(), normalFont));
 
-                document.close();
+            String letterGrade = finalGrade.split(" ")[0];
+            String percentage = finalGrade.contains("(") ? finalGrade.substring(finalGrade.indexOf("(") + 1, finalGrade.indexOf(")")) : "N/A";
 
-                MessageUtil.showSuccess(this, "Grades exported successfully to: " + fileChooser.getSelectedFile().getAbsolutePath());
-            } catch (Exception e) {
-                MessageUtil.showError(this, "Failed to export grades: " + e.getMessage());
-            }
+            summaryTable.addCell(new com.lowagie.text.Phrase(letterGrade, normalFont));
+            summaryTable.addCell(new com.lowagie.text.Phrase(percentage, normalFont));
         }
+
+        document.add(summaryTable);
+
+        document.add(new com.lowagie.text.Paragraph(" "));
+        document.add(new com.lowagie.text.Paragraph("Grade Scale:", headerFont));
+        document.add(new com.lowagie.text.Paragraph("A+ (95-100%) | A (90-94.99%) | A- (85-89.99%) | B+ (80-84.99%) | B (75-79.99%)", normalFont));
+        document.add(new com.lowagie.text.Paragraph("B- (70-74.99%) | C+ (65-69.99%) | C (60-64.99%) | C- (55-59.99%) | D (50-54.99%) | F (<50%)", normalFont));
+
+        document.close();
     }
 
     private void logout() {
@@ -900,4 +856,10 @@ public class InstructorDashboard extends JFrame {
             dispose();
         }
     }
+
+    @Override
+    public void dispose() {
+        loader.cancelAll();
+        super.dispose();
+    }
 }
@@ -0,0 +1,81 @@
+package edu.univ.erp.ui.student;
+
+import edu.univ.erp.domain.Section;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CatalogTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {"Code", "Title", "Credits", "Section", "Instructor", "Day/Time", "Room", "Seats"};
+
+    private final List<Section> sections = new ArrayList<>();
+    private boolean hasMore;
+
+    public void clear() {
+        sections.clear();
+        hasMore = false;
+        fireTableDataChanged();
+    }
+
+    public void append(List<Section> page, boolean more) {
+        int first = sections.size();
+        sections.addAll(page);
+        hasMore = more;
+        if (!page.isEmpty()) {
+            fireTableRowsInserted(first, sections.size() - 1);
+        }
+    }
+
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    public Section getSection(int row) {
+        return row >= 0 && row < sections.size() ? sections.get(row) : null;
+    }
+
+    public Section getLastSection() {
+        return sections.isEmpty() ? null : sections.get(sections.size() - 1);
+    }
+
+    @Override
+    public int getRowCount() {
+        return sections.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Section section = sections.get(row);
+        switch (column) {
+            case 0:
+                return section.getCourseCode();
+            case 1:
+                return section.getCourseTitle();
+            case 2:
+                return section.getCourseCredits();
+            case 3:
+                return section.getSectionCode();
+            case 4:
+                return section.getInstructorName();
+            case 5:
+                return section.getDayTime();
+            case 6:
+                return section.getRoom();
+            case 7:
+                return section.getAvailableSeats() + " / " + section.getCapacity();
+            default:
+                return null;
+        }
+    }
+}
@@ -4,12 +4,17 @@ import edu.univ.erp.access.AccessControl;
 import edu.univ.erp.auth.SessionManager;
 import edu.univ.erp.domain.*;
 import edu.univ.erp.service.StudentService;
+import edu.univ.erp.service.TimetableIndex;
+import edu.univ.erp.ui.common.BackgroundLoader;
 import edu.univ.erp.ui.common.LoginFrame;
 import edu.univ.erp.ui.common.UITheme;
+import edu.univ.erp.util.DatabaseManager;
 import edu.univ.erp.util.MessageUtil;
 import net.miginfocom.swing.MigLayout;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
@@ -19,24 +24,45 @@ import java.util.*;
 import java.util.List;
 
 public class StudentDashboard extends JFrame {
+    private static final int TAB_CATALOG = 0;
+    private static final int TAB_REGISTRATIONS = 1;
+    private static final int TAB_TIMETABLE = 2;
+    private static final int TAB_GRADES = 3;
+
     private final Student student;
     private final StudentService studentService;
     private final AccessControl accessControl;
+    private final BackgroundLoader loader;
+    private final long staleMillis;
+    private final int catalogPageSize;
+    private final int searchMaxResults;
+    private final long[] loadedAt = new long[4];
 
     private JTabbedPane tabbedPane;
     private JTable catalogTable;
+    private CatalogTableModel catalogModel;
+    private JLabel catalogStatusLabel;
+    private CatalogFilter catalogFilter = new CatalogFilter();
+    private JTextField catalogSearchField;
     private JTable enrollmentsTable;
     private JTable gradesTable;
     private JTable timetableTable;
+    private JTable waitlistTable;
     private JLabel maintenanceBanner;
     private JLabel addDropBanner;
     private JLabel cgpaLabel;
+    private List<Enrollment> currentRegistrations;
     private List<Enrollment> currentEnrollments;
+    private List<WaitlistEntry> currentWaitlist;
 
     public StudentDashboard(Student student) {
         this.student = student;
         this.studentService = new StudentService();
         this.accessControl = AccessControl.getInstance();
+        this.loader = new BackgroundLoader(this);
+        this.staleMillis = DatabaseManager.getInstance().getIntProperty("ui.student.staleSeconds", 60) * 1000L;
+        this.catalogPageSize = Math.max(1, DatabaseManager.getInstance().getIntProperty("ui.catalog.pageSize", 50));
+        this.searchMaxResults = Math.max(1, DatabaseManager.getInstance().getIntProperty("search.maxResults", 100));
 
         initComponents();
         setupLayout();
@@ -56,12 +82,13 @@ public class StudentDashboard extends JFrame {
         tabbedPane.addTab("📋 My Registrations", createRegistrationsPanel());
         tabbedPane.addTab("📅 Timetable", createTimetablePanel());
         tabbedPane.addTab("📊 Grades", createGradesPanel());
+        tabbedPane.addChangeListener(e -> refreshTabIfStale(tabbedPane.getSelectedIndex()));
 
         maintenanceBanner = UITheme.createMaintenanceBanner();
-        maintenanceBanner.setVisible(accessControl.isMaintenanceModeEnabled());
+        maintenanceBanner.setVisible(false);
 
         addDropBanner = UITheme.createAddDropClosedBanner();
-        addDropBanner.setVisible(!accessControl.isAddDropEnabled());
+        addDropBanner.setVisible(false);
     }
 
     private void setupLayout() {
@@ -94,6 +121,7 @@ public class StudentDashboard extends JFrame {
         UITheme.stylePrimaryButton(logoutButton);
         logoutButton.addActionListener(e -> logout());
 
+        buttonPanel.add(loader.createProgressIndicator());
         buttonPanel.add(changePasswordButton);
         buttonPanel.add(logoutButton);
 
@@ -157,15 +185,8 @@ public class StudentDashboard extends JFrame {
         panel.setBackground(UITheme.SURFACE);
         panel.setBorder(BorderFactory.createEmptyBorder(UITheme.SPACING_MD, UITheme.SPACING_MD, UITheme.SPACING_MD, UITheme.SPACING_MD));
 
-        String[] columns = {"Code", "Title", "Credits", "Section", "Instructor", "Day/Time", "Room", "Seats"};
-        DefaultTableModel model = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-
-        catalogTable = new JTable(model);
+        catalogModel = new CatalogTableModel();
+        catalogTable = new JTable(catalogModel);
         UITheme.styleTable(catalogTable);
         catalogTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
 
@@ -175,17 +196,153 @@ public class StudentDashboard extends JFrame {
 
         JScrollPane scrollPane = new JScrollPane(catalogTable);
         UITheme.styleScrollPane(scrollPane);
+        JScrollBar scrollBar = scrollPane.getVerticalScrollBar();
+        scrollBar.addAdjustmentListener(e -> {
+            if (!e.getValueIsAdjusting() && isNearEnd(scrollBar)) {
+                loadMoreCatalog();
+            }
+        });
+
+        catalogStatusLabel = new JLabel(" ");
+        catalogStatusLabel.setFont(UITheme.FONT_SMALL);
+        catalogStatusLabel.setForeground(UITheme.TEXT_SECONDARY);
 
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
         buttonPanel.setOpaque(false);
+        buttonPanel.add(catalogStatusLabel);
         buttonPanel.add(registerButton);
 
+        JPanel northPanel = new JPanel(new BorderLayout(0, UITheme.SPACING_SM));
+        northPanel.setOpaque(false);
+        northPanel.add(createCatalogSearchPanel(), BorderLayout.NORTH);
+        northPanel.add(createCatalogFilterPanel(), BorderLayout.CENTER);
+
+        panel.add(northPanel, BorderLayout.NORTH);
         panel.add(scrollPane, BorderLayout.CENTER);
         panel.add(buttonPanel, BorderLayout.SOUTH);
 
         return panel;
     }
 
+    private JPanel createCatalogSearchPanel() {
+        JPanel searchPanel = new JPanel(new BorderLayout(UITheme.SPACING_SM, 0));
+        searchPanel.setOpaque(false);
+
+        catalogSearchField = new JTextField();
+        UITheme.styleTextField(catalogSearchField);
+        catalogSearchField.setToolTipText("Search by course code, title, description, instructor or room");
+        catalogSearchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                searchCatalog();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                searchCatalog();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                searchCatalog();
+            }
+        });
+
+        searchPanel.add(createFilterLabel("Search:"), BorderLayout.WEST);
+        searchPanel.add(catalogSearchField, BorderLayout.CENTER);
+
+        return searchPanel;
+    }
+
+    private JPanel createCatalogFilterPanel() {
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, UITheme.SPACING_SM, 0));
+        filterPanel.setOpaque(false);
+
+        JComboBox<String> semesterBox = new JComboBox<>(new String[]{"Any", "Fall", "Spring", "Summer", "Winter"});
+        UITheme.styleComboBox(semesterBox);
+        JTextField yearField = new JTextField(5);
+        UITheme.styleTextField(yearField);
+        JTextField codeField = new JTextField(7);
+        UITheme.styleTextField(codeField);
+        JTextField instructorField = new JTextField(9);
+        UITheme.styleTextField(instructorField);
+
+        String[] days = new String[UITheme.DAYS_SHORT.length + 1];
+        days[0] = "Any";
+        System.arraycopy(UITheme.DAYS_SHORT, 0, days, 1, UITheme.DAYS_SHORT.length);
+        JComboBox<String> dayBox = new JComboBox<>(days);
+        UITheme.styleComboBox(dayBox);
+
+        JCheckBox openSeatsBox = new JCheckBox("Open seats only");
+        openSeatsBox.setOpaque(false);
+        openSeatsBox.setForeground(UITheme.TEXT_PRIMARY);
+
+        JButton applyButton = new JButton("Apply");
+        UITheme.stylePrimaryButton(applyButton);
+        applyButton.addActionListener(e -> {
+            CatalogFilter filter = new CatalogFilter();
+            filter.setSemester(semesterBox.getSelectedIndex() > 0 ? (String) semesterBox.getSelectedItem() : null);
+            String year = yearField.getText().trim();
+            if (!year.isEmpty()) {
+                try {
+                    filter.setYear(Integer.parseInt(year));
+                } catch (NumberFormatException ex) {
+                    MessageUtil.showError(this, "Year must be a number.");
+                    return;
+                }
+            }
+            filter.setCourseCodePrefix(codeField.getText());
+            filter.setInstructor(instructorField.getText());
+            filter.setDay(dayBox.getSelectedIndex() > 0 ? (String) dayBox.getSelectedItem() : null);
+            filter.setOpenSeatsOnly(openSeatsBox.isSelected());
+            catalogFilter = filter;
+            catalogSearchField.setText("");
+            loadCatalog();
+        });
+
+        JButton clearButton = new JButton("Clear");
+        UITheme.styleSecondaryButton(clearButton);
+        clearButton.addActionListener(e -> {
+            semesterBox.setSelectedIndex(0);
+            yearField.setText("");
+            codeField.setText("");
+            instructorField.setText("");
+            dayBox.setSelectedIndex(0);
+            openSeatsBox.setSelected(false);
+            catalogFilter = new CatalogFilter();
+            catalogSearchField.setText("");
+            loadCatalog();
+        });
+
+        filterPanel.add(createFilterLabel("Semester:"));
+        filterPanel.add(semesterBox);
+        filterPanel.add(createFilterLabel("Year:"));
+        filterPanel.add(yearField);
+        filterPanel.add(createFilterLabel("Code:"));
+        filterPanel.add(codeField);
+        filterPanel.add(createFilterLabel("Instructor:"));
+        filterPanel.add(instructorField);
+        filterPanel.add(createFilterLabel("Day:"));
+        filterPanel.add(dayBox);
+        filterPanel.add(openSeatsBox);
+        filterPanel.add(applyButton);
+        filterPanel.add(clearButton);
+
+        return filterPanel;
+    }
+
+    private JLabel createFilterLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setFont(UITheme.FONT_CAPTION);
+        label.setForeground(UITheme.TEXT_SECONDARY);
+        return label;
+    }
+
+    private boolean isNearEnd(JScrollBar scrollBar) {
+        BoundedRangeModel range = scrollBar.getModel();
+        return range.getValue() + range.getExtent() >= range.getMaximum() - catalogTable.getRowHeight() * 5;
+    }
+
     private JPanel createRegistrationsPanel() {
         JPanel panel = new JPanel(new BorderLayout(UITheme.SPACING_MD, UITheme.SPACING_MD));
         panel.setBackground(UITheme.SURFACE);
@@ -214,7 +371,7 @@ public class StudentDashboard extends JFrame {
 
         JButton refreshButton = new JButton("↻ Refresh");
         UITheme.styleSecondaryButton(refreshButton);
-        refreshButton.addActionListener(e -> loadEnrollments());
+        refreshButton.addActionListener(e -> loadTab(TAB_REGISTRATIONS));
 
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, UITheme.SPACING_SM, 0));
         buttonPanel.setOpaque(false);
@@ -224,6 +381,46 @@ public class StudentDashboard extends JFrame {
         JScrollPane scrollPane = new JScrollPane(enrollmentsTable);
         UITheme.styleScrollPane(scrollPane);
 
+        JPanel bottomPanel = new JPanel(new BorderLayout(UITheme.SPACING_SM, UITheme.SPACING_SM));
+        bottomPanel.setOpaque(false);
+        bottomPanel.add(buttonPanel, BorderLayout.NORTH);
+        bottomPanel.add(createWaitlistPanel(), BorderLayout.CENTER);
+
+        panel.add(scrollPane, BorderLayout.CENTER);
+        panel.add(bottomPanel, BorderLayout.SOUTH);
+
+        return panel;
+    }
+
+    private JPanel createWaitlistPanel() {
+        JPanel panel = new JPanel(new BorderLayout(UITheme.SPACING_SM, UITheme.SPACING_SM));
+        panel.setOpaque(false);
+        panel.setBorder(UITheme.createTitledBorder("My Waitlists"));
+
+        String[] columns = {"Code", "Title", "Section", "Semester", "Position"};
+        DefaultTableModel model = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+
+        waitlistTable = new JTable(model);
+        UITheme.styleTable(waitlistTable);
+        waitlistTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+
+        JScrollPane scrollPane = new JScrollPane(waitlistTable);
+        UITheme.styleScrollPane(scrollPane);
+        scrollPane.setPreferredSize(new Dimension(0, 140));
+
+        JButton leaveButton = new JButton("Leave Waitlist");
+        UITheme.styleSecondaryButton(leaveButton);
+        leaveButton.addActionListener(e -> leaveWaitlist());
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        buttonPanel.setOpaque(false);
+        buttonPanel.add(leaveButton);
+
         panel.add(scrollPane, BorderLayout.CENTER);
         panel.add(buttonPanel, BorderLayout.SOUTH);
 
@@ -273,7 +470,7 @@ public class StudentDashboard extends JFrame {
 
         JButton refreshButton = new JButton("↻ Refresh Timetable");
         UITheme.stylePrimaryButton(refreshButton);
-        refreshButton.addActionListener(e -> loadTimetable());
+        refreshButton.addActionListener(e -> loadTab(TAB_TIMETABLE));
 
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
         buttonPanel.setOpaque(false);
@@ -329,7 +526,7 @@ public class StudentDashboard extends JFrame {
 
         JButton refreshButton = new JButton("↻ Refresh");
         UITheme.styleSecondaryButton(refreshButton);
-        refreshButton.addActionListener(e -> loadGrades());
+        refreshButton.addActionListener(e -> loadTab(TAB_GRADES));
 
         JButton exportCSVButton = new JButton("Export CSV");
         UITheme.stylePrimaryButton(exportCSVButton);
@@ -393,292 +590,293 @@ public class StudentDashboard extends JFrame {
     }
 
     private void loadData() {
-        loadCatalog();
-        loadEnrollments();
-        loadTimetable();
-        loadGrades();
+        loadBanners();
+        refreshTabIfStale(tabbedPane.getSelectedIndex());
     }
 
-    private void loadCatalog() {
-        DefaultTableModel model = (DefaultTableModel) catalogTable.getModel();
-        model.setRowCount(0);
-
-        List<Section> sections = studentService.getAvailableSections();
-        for (Section section : sections) {
-            String seats = section.getAvailableSeats() + " / " + section.getCapacity();
-            model.addRow(new Object[]{
-                section.getCourseCode(),
-                section.getCourseTitle(),
-                section.getCourseCredits(),
-                section.getSectionCode(),
-                section.getInstructorName(),
-                section.getDayTime(),
-                section.getRoom(),
-                seats
-            });
+    private void refreshTabIfStale(int tab) {
+        if (tab < 0 || tab >= loadedAt.length || isTabLoading(tab)) {
+            return;
         }
-    }
-
-    private void loadEnrollments() {
-        DefaultTableModel model = (DefaultTableModel) enrollmentsTable.getModel();
-        model.setRowCount(0);
-
-        List<Enrollment> enrollments = studentService.getEnrollments(student.getStudentId());
-        for (Enrollment enrollment : enrollments) {
-            model.addRow(new Object[]{
-                enrollment.getCourseCode(),
-                enrollment.getCourseTitle(),
-                enrollment.getSectionCode(),
-                enrollment.getSemester() + " " + enrollment.getYear(),
-                enrollment.getDayTime(),
-                enrollment.getRoom(),
-                enrollment.getStatus()
-            });
+        if (loadedAt[tab] == 0 || System.currentTimeMillis() - loadedAt[tab] > staleMillis) {
+            loadTab(tab);
         }
     }
 
-    private void loadTimetable() {
-        DefaultTableModel model = (DefaultTableModel) timetableTable.getModel();
-        model.setRowCount(0);
-
-        List<Enrollment> enrollments = studentService.getActiveEnrollments(student.getStudentId());
-
-        Set<String> uniqueTimeSlots = new TreeSet<>((a, b) -> {
-
-            try {
-                int aStart = UITheme.parseTimeToMinutes(a.split(" - ")[0].trim());
-                int bStart = UITheme.parseTimeToMinutes(b.split(" - ")[0].trim());
-                return Integer.compare(aStart, bStart);
-            } catch (Exception e) {
-                return a.compareTo(b);
-            }
-        });
-
-        for (Enrollment enrollment : enrollments) {
-            String dayTime = enrollment.getDayTime();
-            if (dayTime == null || dayTime.isEmpty()) continue;
-
-            java.util.List<String> entries = UITheme.parseMultipleDayTimes(dayTime);
-            for (String entry : entries) {
-                String timePart = extractTimePart(entry);
-                if (timePart != null && !timePart.isEmpty()) {
-
-                    String formatted = formatTimeSlotForDisplay(timePart);
-                    if (formatted != null) {
-                        uniqueTimeSlots.add(formatted);
-                    }
-                }
-            }
+    private boolean isTabLoading(int tab) {
+        switch (tab) {
+            case TAB_CATALOG:
+                return loader.isLoading("catalog");
+            case TAB_REGISTRATIONS:
+                return loader.isLoading("enrollments") || loader.isLoading("waitlist");
+            case TAB_TIMETABLE:
+                return loader.isLoading("timetable");
+            case TAB_GRADES:
+                return loader.isLoading("grades");
+            default:
+                return false;
         }
+    }
 
-        if (uniqueTimeSlots.isEmpty()) {
-            String[] defaultSlots = {
-                "08:00 - 09:00", "09:00 - 10:00", "10:00 - 11:00", "11:00 - 12:00",
-                "12:00 - 13:00", "13:00 - 14:00", "14:00 - 15:00", "15:00 - 16:00",
-                "16:00 - 17:00", "17:00 - 18:00"
-            };
-            for (String slot : defaultSlots) {
-                uniqueTimeSlots.add(slot);
-            }
+    private void loadTab(int tab) {
+        switch (tab) {
+            case TAB_CATALOG:
+                loadCatalog();
+                break;
+            case TAB_REGISTRATIONS:
+                loadEnrollments();
+                loadWaitlist();
+                break;
+            case TAB_TIMETABLE:
+                loadTimetable();
+                break;
+            case TAB_GRADES:
+                loadGrades();
+                break;
         }
+    }
 
-        String[] days = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday"};
-        Map<String, Integer> dayIndex = new HashMap<>();
-        for (int i = 0; i < days.length; i++) {
-            dayIndex.put(days[i].toLowerCase(), i + 1);
-            dayIndex.put(days[i].substring(0, 3).toLowerCase(), i + 1);
-        }
+    private void markLoaded(int tab) {
+        loadedAt[tab] = System.currentTimeMillis();
+    }
 
-        Map<String, String[]> timetableGrid = new LinkedHashMap<>();
-        for (String slot : uniqueTimeSlots) {
-            timetableGrid.put(slot, new String[]{"", "", "", "", "", ""});
+    private void invalidate(int... tabs) {
+        for (int tab : tabs) {
+            loadedAt[tab] = 0;
         }
+        refreshTabIfStale(tabbedPane.getSelectedIndex());
+    }
 
-        for (Enrollment enrollment : enrollments) {
-            String dayTime = enrollment.getDayTime();
-            if (dayTime == null || dayTime.isEmpty()) {
-                continue;
-            }
-
-            String courseCode = escapeHtml(enrollment.getCourseCode());
-            String sectionCode = escapeHtml(enrollment.getSectionCode());
-            String room = enrollment.getRoom() != null ? escapeHtml(enrollment.getRoom()) : "";
-            String courseInfo = String.format("<html><b>%s</b><br>%s<br>%s</html>",
-                    courseCode, sectionCode, room);
+    private void loadBanners() {
+        loader.load("banners",
+                () -> new boolean[]{accessControl.isMaintenanceModeEnabled(), accessControl.isAddDropEnabled()},
+                flags -> {
+                    maintenanceBanner.setVisible(flags[0]);
+                    addDropBanner.setVisible(!flags[1]);
+                });
+    }
 
-            java.util.List<String> entries = UITheme.parseMultipleDayTimes(dayTime);
-            for (String entry : entries) {
-                parseSingleDayTimeEntry(entry.trim(), courseInfo, dayIndex, timetableGrid);
-            }
+    private void loadCatalog() {
+        String query = catalogSearchField.getText().trim();
+        if (!query.isEmpty()) {
+            searchCatalog();
+            return;
         }
+        CatalogFilter filter = catalogFilter;
+        catalogModel.clear();
+        catalogStatusLabel.setText("Loading...");
+        loader.load("catalog", () -> studentService.getCatalogPage(filter, null, catalogPageSize + 1), page -> {
+            markLoaded(TAB_CATALOG);
+            showCatalogPage(page);
+        });
+    }
 
-        for (Map.Entry<String, String[]> entry : timetableGrid.entrySet()) {
-            String[] row = new String[7];
-            row[0] = entry.getKey();
-            String[] daySlots = entry.getValue();
-            System.arraycopy(daySlots, 0, row, 1, daySlots.length);
-            model.addRow(row);
+    private void searchCatalog() {
+        String query = catalogSearchField.getText().trim();
+        if (query.isEmpty()) {
+            loadCatalog();
+            return;
         }
+        loader.load("catalog", () -> studentService.searchCatalog(query, searchMaxResults), results -> {
+            markLoaded(TAB_CATALOG);
+            catalogModel.clear();
+            catalogModel.append(results, false);
+            catalogStatusLabel.setText(results.size() + " match(es)");
+        });
     }
 
-    private String extractTimePart(String entry) {
-        if (entry == null || entry.isEmpty()) return null;
-
-        int timeStart = -1;
-        for (int i = 0; i < entry.length(); i++) {
-            if (Character.isDigit(entry.charAt(i))) {
-                timeStart = i;
-                break;
-            }
+    private void loadMoreCatalog() {
+        if (!catalogModel.hasMore() || loader.isLoading("catalog")) {
+            return;
         }
+        CatalogFilter filter = catalogFilter;
+        Section after = catalogModel.getLastSection();
+        loader.load("catalog", () -> studentService.getCatalogPage(filter, after, catalogPageSize + 1),
+                this::showCatalogPage);
+    }
 
-        if (timeStart > 0) {
-            return entry.substring(timeStart).trim();
+    private void showCatalogPage(List<Section> page) {
+        boolean more = page.size() > catalogPageSize;
+        catalogModel.append(more ? page.subList(0, catalogPageSize) : page, more);
+        catalogStatusLabel.setText(catalogModel.getRowCount() + " section(s)" + (more ? ", scroll for more" : ""));
+        if (more) {
+            SwingUtilities.invokeLater(() -> {
+                JScrollBar scrollBar = ((JScrollPane) SwingUtilities.getAncestorOfClass(
+                        JScrollPane.class, catalogTable)).getVerticalScrollBar();
+                if (!scrollBar.isVisible() || isNearEnd(scrollBar)) {
+                    loadMoreCatalog();
+                }
+            });
         }
-        return null;
     }
 
-    private String formatTimeSlotForDisplay(String timeRange) {
-        if (timeRange == null || !timeRange.contains("-")) return null;
-        String[] parts = timeRange.split("-");
-        if (parts.length != 2) return null;
-        return parts[0].trim() + " - " + parts[1].trim();
+    private void loadEnrollments() {
+        loader.load("enrollments", () -> studentService.getEnrollments(student.getStudentId()),
+                this::showEnrollments);
     }
 
-    private void parseSingleDayTimeEntry(String entry, String courseInfo,
-            Map<String, Integer> dayIndex, Map<String, String[]> timetableGrid) {
-        if (entry == null || entry.isEmpty()) return;
-
-        String dayPart = "";
-        String timePart = "";
-
-        int timeStart = -1;
-        for (int i = 0; i < entry.length(); i++) {
-            if (Character.isDigit(entry.charAt(i))) {
-                timeStart = i;
-                break;
-            }
-        }
+    private void showEnrollments(List<Enrollment> enrollments) {
+        DefaultTableModel model = (DefaultTableModel) enrollmentsTable.getModel();
+        model.setRowCount(0);
 
-        if (timeStart > 0) {
-            dayPart = entry.substring(0, timeStart).trim();
-            timePart = entry.substring(timeStart).trim();
-        } else {
-            dayPart = entry;
+        currentRegistrations = enrollments;
+        markLoaded(TAB_REGISTRATIONS);
+        for (Enrollment enrollment : enrollments) {
+            model.addRow(new Object[]{
+                enrollment.getCourseCode(),
+                enrollment.getCourseTitle(),
+                enrollment.getSectionCode(),
+                enrollment.getSemester() + " " + enrollment.getYear(),
+                enrollment.getDayTime(),
+                enrollment.getRoom(),
+                enrollment.getStatus()
+            });
         }
+    }
 
-        Integer dayIdx = null;
-        String dayPartLower = dayPart.toLowerCase().replaceAll("[,\\s]+", "");
+    private void loadWaitlist() {
+        loader.load("waitlist", () -> studentService.getWaitlist(student.getStudentId()), this::showWaitlist);
+    }
 
-        if (dayPartLower.contains("mwf") || dayPartLower.equals("monwedfri")) {
+    private void showWaitlist(List<WaitlistEntry> waitlist) {
+        DefaultTableModel model = (DefaultTableModel) waitlistTable.getModel();
+        model.setRowCount(0);
 
-            parseSingleDayTimeEntry("Mon " + timePart, courseInfo, dayIndex, timetableGrid);
-            parseSingleDayTimeEntry("Wed " + timePart, courseInfo, dayIndex, timetableGrid);
-            parseSingleDayTimeEntry("Fri " + timePart, courseInfo, dayIndex, timetableGrid);
-            return;
-        } else if (dayPartLower.contains("tth") || dayPartLower.equals("tuethu")) {
-            parseSingleDayTimeEntry("Tue " + timePart, courseInfo, dayIndex, timetableGrid);
-            parseSingleDayTimeEntry("Thu " + timePart, courseInfo, dayIndex, timetableGrid);
-            return;
+        currentWaitlist = waitlist;
+        for (WaitlistEntry entry : currentWaitlist) {
+            model.addRow(new Object[]{
+                entry.getCourseCode(),
+                entry.getCourseTitle(),
+                entry.getSectionCode(),
+                entry.getSemester() + " " + entry.getYear(),
+                "#" + entry.getPosition()
+            });
         }
+    }
 
-        dayIdx = dayIndex.get(dayPartLower);
-        if (dayIdx == null) {
+    private void loadTimetable() {
+        loader.load("timetable", () -> studentService.getTimetable(student.getStudentId()),
+                this::showTimetable);
+    }
 
-            for (Map.Entry<String, Integer> e : dayIndex.entrySet()) {
-                if (e.getKey().startsWith(dayPartLower) || dayPartLower.startsWith(e.getKey())) {
-                    dayIdx = e.getValue();
-                    break;
-                }
+    private void showTimetable(TimetableIndex timetable) {
+        DefaultTableModel model = (DefaultTableModel) timetableTable.getModel();
+        model.setRowCount(0);
+        markLoaded(TAB_TIMETABLE);
+
+        int dayColumns = timetableTable.getColumnCount() - 1;
+        List<TimetableIndex.Meeting> meetings = timetable.getMeetings();
+        meetings.sort(Comparator.comparingInt(TimetableIndex.Meeting::getDay)
+                .thenComparingInt(TimetableIndex.Meeting::getStartMinute));
+
+        Set<TimetableIndex.Meeting> clashing = new HashSet<>();
+        TimetableIndex.Meeting latest = null;
+        for (TimetableIndex.Meeting meeting : meetings) {
+            if (latest != null && latest.getDay() == meeting.getDay()
+                    && latest.getEndMinute() > meeting.getStartMinute()) {
+                clashing.add(latest);
+                clashing.add(meeting);
+            }
+            if (latest == null || latest.getDay() != meeting.getDay()
+                    || meeting.getEndMinute() > latest.getEndMinute()) {
+                latest = meeting;
             }
         }
 
-        if (dayIdx == null || timePart.isEmpty()) return;
-
-        String formattedTime = formatTimeSlotForDisplay(timePart);
-        if (formattedTime == null) return;
-
-        String[] slots = timetableGrid.get(formattedTime);
-        if (slots != null && dayIdx >= 1 && dayIdx <= 6) {
-            if (slots[dayIdx - 1].isEmpty()) {
-                slots[dayIdx - 1] = courseInfo;
+        Map<Integer, StringBuilder[]> grid = new TreeMap<>();
+        for (TimetableIndex.Meeting meeting : meetings) {
+            if (meeting.getDay() >= dayColumns) {
+                continue;
+            }
+            StringBuilder[] cells = grid.computeIfAbsent(
+                    (meeting.getStartMinute() << 11) | meeting.getEndMinute(), k -> new StringBuilder[dayColumns]);
+            StringBuilder cell = cells[meeting.getDay()];
+            if (cell == null) {
+                cells[meeting.getDay()] = cell = new StringBuilder();
             } else {
-                slots[dayIdx - 1] += "<br>" + courseInfo;
+                cell.append("<br>");
             }
+            TimetableIndex.Booking booking = meeting.getBooking();
+            if (clashing.contains(meeting)) {
+                cell.append("<font color='#F44336'>⚠ Clash</font><br>");
+            }
+            cell.append("<b>").append(escapeHtml(booking.getCourseCode())).append("</b><br>")
+                .append(escapeHtml(booking.getSectionCode())).append("<br>")
+                .append(booking.getRoom() != null ? escapeHtml(booking.getRoom()) : "");
         }
-    }
 
-    private String findMatchingTimeSlot(String timePart, Set<String> availableSlots) {
-        if (timePart == null || timePart.isEmpty()) {
-            return null;
+        if (grid.isEmpty()) {
+            for (String slot : UITheme.TIME_SLOTS) {
+                String[] times = slot.split("-");
+                grid.put((UITheme.parseTimeToMinutes(times[0]) << 11) | UITheme.parseTimeToMinutes(times[1]),
+                        new StringBuilder[dayColumns]);
+            }
         }
 
-        String[] timeParts = timePart.split("-");
-        String startTime = timeParts.length > 0 ? timeParts[0].trim() : timePart.trim();
-
-        for (String slot : availableSlots) {
-            String[] slotParts = slot.split("-");
-            String slotStart = slotParts.length > 0 ? slotParts[0].trim() : slot.trim();
-            if (slotStart.equals(startTime) ||
-                normalizeTime(slotStart).equals(normalizeTime(startTime))) {
-                return slot;
+        for (Map.Entry<Integer, StringBuilder[]> entry : grid.entrySet()) {
+            Object[] row = new Object[dayColumns + 1];
+            row[0] = Schedule.formatRange(entry.getKey() >>> 11, entry.getKey() & 0x7FF);
+            StringBuilder[] cells = entry.getValue();
+            for (int day = 0; day < dayColumns; day++) {
+                row[day + 1] = cells[day] != null ? "<html>" + cells[day] + "</html>" : "";
             }
+            model.addRow(row);
         }
-
-        return null;
     }
 
-    private String normalizeTime(String time) {
-        if (time == null) return "";
+    private void loadGrades() {
+        int studentId = student.getStudentId();
+        loader.load("grades", () -> {
+            List<Enrollment> enrollments = studentService.getEnrollments(studentId);
+            List<Object[]> rows = new ArrayList<>();
+            for (Enrollment enrollment : enrollments) {
+                FinalGrade grade = enrollment.getFinalGrade();
+
+                String finalGrade;
+                String percentage;
+
+                if (grade == null) {
+                    finalGrade = "No grades";
+                    percentage = "-";
+                } else if (!grade.isGraded()) {
+                    finalGrade = "N/A";
+                    percentage = "-";
+                } else {
+                    finalGrade = grade.getLetterGrade();
+                    percentage = String.format("%.2f%%", grade.getFinalPercentage());
+                }
 
-        time = time.trim().replaceAll("\\s+", "");
-        if (time.length() == 4 && time.charAt(1) == ':') {
-            time = "0" + time;
-        }
-        return time;
+                rows.add(new Object[]{
+                    enrollment.getCourseCode(),
+                    enrollment.getCourseTitle(),
+                    enrollment.getSectionCode(),
+                    enrollment.getSemester() + " " + enrollment.getYear(),
+                    finalGrade,
+                    percentage
+                });
+            }
+            BigDecimal cgpa = studentService.calculateCGPA(studentId);
+            return new GradesSnapshot(enrollments, rows, studentService.formatCGPA(cgpa), cgpa);
+        }, this::showGrades);
     }
 
-    private void loadGrades() {
+    private void showGrades(GradesSnapshot snapshot) {
         DefaultTableModel model = (DefaultTableModel) gradesTable.getModel();
         model.setRowCount(0);
 
-        currentEnrollments = studentService.getEnrollments(student.getStudentId());
-
-        for (Enrollment enrollment : currentEnrollments) {
-            List<Grade> grades = studentService.getGrades(enrollment.getEnrollmentId());
-
-            String finalGrade;
-            String percentage;
-
-            if (grades.isEmpty()) {
-                finalGrade = "No grades";
-                percentage = "-";
-            } else {
-                String formatted = studentService.getFormattedFinalGrade(enrollment.getEnrollmentId());
-                String[] parsed = parseGradeString(formatted);
-                finalGrade = parsed[0];
-                percentage = parsed[1];
-            }
-
-            model.addRow(new Object[]{
-                enrollment.getCourseCode(),
-                enrollment.getCourseTitle(),
-                enrollment.getSectionCode(),
-                enrollment.getSemester() + " " + enrollment.getYear(),
-                finalGrade,
-                percentage
-            });
+        currentEnrollments = snapshot.enrollments;
+        markLoaded(TAB_GRADES);
+        for (Object[] row : snapshot.rows) {
+            model.addRow(row);
         }
 
-        updateCGPADisplay();
+        updateCGPADisplay(snapshot.formattedCGPA, snapshot.cgpa);
     }
 
-    private void updateCGPADisplay() {
+    private void updateCGPADisplay(String formattedCGPA, BigDecimal cgpa) {
         if (cgpaLabel != null) {
-            String formattedCGPA = studentService.getFormattedCGPA(student.getStudentId());
             cgpaLabel.setText(formattedCGPA);
 
-            BigDecimal cgpa = studentService.calculateCGPA(student.getStudentId());
             if (cgpa != null) {
                 if (cgpa.compareTo(new BigDecimal("8.0")) >= 0) {
                     cgpaLabel.setForeground(UITheme.SUCCESS);
@@ -695,28 +893,6 @@ public class StudentDashboard extends JFrame {
         }
     }
 
-    private String[] parseGradeString(String gradeStr) {
-        if (gradeStr == null || gradeStr.equals("N/A") || !gradeStr.contains(" ") || !gradeStr.contains("(")) {
-            return new String[]{"N/A", "-"};
-        }
-        try {
-            String[] parts = gradeStr.split(" ");
-            if (parts.length == 0) {
-                return new String[]{"N/A", "-"};
-            }
-            String letterGrade = parts[0];
-            int openParen = gradeStr.indexOf("(");
-            int closeParen = gradeStr.indexOf(")");
-            if (openParen >= 0 && closeParen > openParen) {
-                String percentage = gradeStr.substring(openParen + 1, closeParen);
-                return new String[]{letterGrade, percentage};
-            }
-        } catch (StringIndexOutOfBoundsException | ArrayIndexOutOfBoundsException e) {
-
-        }
-        return new String[]{"N/A", "-"};
-    }
-
     private void showCourseGradeDetails() {
         int selectedRow = gradesTable.getSelectedRow();
         if (selectedRow < 0) {
@@ -730,8 +906,13 @@ public class StudentDashboard extends JFrame {
         }
 
         Enrollment enrollment = currentEnrollments.get(selectedRow);
-        List<Grade> grades = studentService.getGrades(enrollment.getEnrollmentId());
+        loader.load("gradeDetails", () -> new GradeDetails(
+                studentService.getGrades(enrollment.getEnrollmentId()),
+                studentService.formatFinalGrade(enrollment.getFinalGrade())),
+                details -> showCourseGradeDetails(enrollment, details.grades, details.formattedFinalGrade));
+    }
 
+    private void showCourseGradeDetails(Enrollment enrollment, List<Grade> grades, String finalGradeStr) {
         JDialog dialog = new JDialog(this, "Grade Details - " + enrollment.getCourseCode(), true);
         dialog.setSize(600, 400);
         dialog.setLocationRelativeTo(this);
@@ -750,7 +931,6 @@ public class StudentDashboard extends JFrame {
         infoPanel.add(new JLabel("Semester:"));
         infoPanel.add(new JLabel(enrollment.getSemester() + " " + enrollment.getYear()));
 
-        String finalGradeStr = studentService.getFormattedFinalGrade(enrollment.getEnrollmentId());
         JLabel finalGradeLabel = new JLabel(finalGradeStr);
         finalGradeLabel.setFont(new Font("Arial", Font.BOLD, 14));
         finalGradeLabel.setForeground(new Color(0, 100, 0));
@@ -813,22 +993,75 @@ public class StudentDashboard extends JFrame {
             return;
         }
 
-        List<Section> sections = studentService.getAvailableSections();
-        if (selectedRow >= sections.size()) {
+        Section section = catalogModel.getSection(selectedRow);
+        if (section == null) {
             MessageUtil.showError(this, "Invalid selection.");
             return;
         }
 
-        Section section = sections.get(selectedRow);
-        String message = studentService.registerForSection(student.getStudentId(), section.getSectionId());
+        if (!studentService.warnsOnClash()) {
+            submitRegistration(section);
+            return;
+        }
+        loader.run(() -> studentService.describeClashes(student.getStudentId(), section.getSectionId()), clash -> {
+            if (clash == null || MessageUtil.showConfirmation(this, clash + "\nRegister anyway?")) {
+                submitRegistration(section);
+            }
+        });
+    }
+
+    private void submitRegistration(Section section) {
+        loader.run(() -> studentService.registerForSection(student.getStudentId(), section), message -> {
+            if (message == null) {
+                MessageUtil.showSuccess(this, "Successfully registered for " + section.getCourseCode());
+                invalidate(TAB_CATALOG, TAB_REGISTRATIONS, TAB_TIMETABLE, TAB_GRADES);
+            } else if (StudentService.SECTION_FULL_MESSAGE.equals(message)) {
+                if (MessageUtil.showConfirmation(this, message + "\nWould you like to join the waitlist for " +
+                        section.getCourseCode() + " Section " + section.getSectionCode() + "?")) {
+                    joinWaitlist(section);
+                }
+            } else {
+                MessageUtil.showError(this, message);
+            }
+        });
+    }
+
+    private void joinWaitlist(Section section) {
+        loader.run(() -> studentService.joinWaitlist(student.getStudentId(), section.getSectionId()), message -> {
+            if (message == null) {
+                invalidate(TAB_REGISTRATIONS);
+                MessageUtil.showSuccess(this, "Added to the waitlist for " + section.getCourseCode() +
+                        ". You will be enrolled automatically when a seat opens.");
+            } else {
+                MessageUtil.showError(this, message);
+            }
+        });
+    }
+
+    private void leaveWaitlist() {
+        int selectedRow = waitlistTable.getSelectedRow();
+        if (selectedRow < 0) {
+            MessageUtil.showWarning(this, "Please select a waitlist entry to leave.");
+            return;
+        }
+
+        if (currentWaitlist == null || selectedRow >= currentWaitlist.size()) {
+            MessageUtil.showError(this, "Invalid selection.");
+            return;
+        }
 
-        if (message == null) {
-            MessageUtil.showSuccess(this, "Successfully registered for " + section.getCourseCode());
-            loadCatalog();
-            loadEnrollments();
-        } else {
-            MessageUtil.showError(this, message);
+        if (!MessageUtil.showConfirmation(this, "Are you sure you want to leave this waitlist?")) {
+            return;
         }
+
+        WaitlistEntry entry = currentWaitlist.get(selectedRow);
+        loader.run(() -> studentService.leaveWaitlist(student.getStudentId(), entry.getWaitlistId()), message -> {
+            if (message == null) {
+                invalidate(TAB_REGISTRATIONS);
+            } else {
+                MessageUtil.showError(this, message);
+            }
+        });
     }
 
     private void dropSection() {
@@ -842,154 +1075,162 @@ public class StudentDashboard extends JFrame {
             return;
         }
 
-        List<Enrollment> enrollments = studentService.getEnrollments(student.getStudentId());
-        if (selectedRow >= enrollments.size()) {
+        if (currentRegistrations == null || selectedRow >= currentRegistrations.size()) {
             MessageUtil.showError(this, "Invalid selection.");
             return;
         }
 
-        Enrollment enrollment = enrollments.get(selectedRow);
-        String message = studentService.dropSection(enrollment.getEnrollmentId());
-
-        if (message == null) {
-            MessageUtil.showSuccess(this, "Successfully dropped section.");
-            loadCatalog();
-            loadEnrollments();
-        } else {
-            MessageUtil.showError(this, message);
-        }
+        Enrollment enrollment = currentRegistrations.get(selectedRow);
+        loader.run(() -> studentService.dropSection(enrollment.getEnrollmentId()), message -> {
+            if (message == null) {
+                MessageUtil.showSuccess(this, "Successfully dropped section.");
+                invalidate(TAB_CATALOG, TAB_REGISTRATIONS, TAB_TIMETABLE, TAB_GRADES);
+            } else {
+                MessageUtil.showError(this, message);
+            }
+        });
     }
 
     private void exportTranscriptCSV() {
-        List<Enrollment> enrollments = studentService.getEnrollments(student.getStudentId());
-        if (enrollments.isEmpty()) {
-            MessageUtil.showInfo(this, "No enrollments to export.");
-            return;
-        }
+        loader.load("export", () -> studentService.getEnrollments(student.getStudentId()), enrollments -> {
+            if (enrollments.isEmpty()) {
+                MessageUtil.showInfo(this, "No enrollments to export.");
+                return;
+            }
 
-        javax.swing.JFileChooser fileChooser = new javax.swing.JFileChooser();
-        fileChooser.setSelectedFile(new java.io.File(student.getRollNo() + "_transcript.csv"));
-
-        if (fileChooser.showSaveDialog(this) == javax.swing.JFileChooser.APPROVE_OPTION) {
-            try (java.io.PrintWriter writer = new java.io.PrintWriter(fileChooser.getSelectedFile())) {
-
-                writer.println("STUDENT TRANSCRIPT");
-                writer.println("Student: " + student.getRollNo());
-                writer.println("Program: " + student.getProgram());
-                writer.println("Year: " + student.getYear());
-                writer.println();
-                writer.println("Course Code,Course Title,Section,Semester,Final Grade,Percentage");
-
-                for (Enrollment enrollment : enrollments) {
-                    String finalGrade = studentService.calculateFinalGrade(enrollment.getEnrollmentId());
-                    java.math.BigDecimal finalPercent = studentService.calculateFinalPercentage(enrollment.getEnrollmentId());
-                    String percentStr = finalPercent != null ? String.format("%.2f%%", finalPercent) : "N/A";
-
-                    writer.printf("%s,%s,%s,%s %d,%s,%s%n",
-                        enrollment.getCourseCode(),
-                        enrollment.getCourseTitle(),
-                        enrollment.getSectionCode(),
-                        enrollment.getSemester(),
-                        enrollment.getYear(),
-                        finalGrade,
-                        percentStr);
-                }
+            javax.swing.JFileChooser fileChooser = new javax.swing.JFileChooser();
+            fileChooser.setSelectedFile(new java.io.File(student.getRollNo() + "_transcript.csv"));
 
-                writer.println();
-                writer.println("OVERALL ACADEMIC PERFORMANCE");
-                String cgpaStr = studentService.getFormattedCGPA(student.getStudentId());
-                writer.println("CGPA: " + cgpaStr);
+            if (fileChooser.showSaveDialog(this) == javax.swing.JFileChooser.APPROVE_OPTION) {
+                java.io.File file = fileChooser.getSelectedFile();
+                loader.run(() -> {
+                    writeTranscriptCSV(file, enrollments);
+                    return file;
+                }, written -> MessageUtil.showSuccess(this, "Transcript exported successfully to: " + written.getAbsolutePath()),
+                   e -> MessageUtil.showError(this, "Failed to export transcript: " + e.getMessage()));
+            }
+        });
+    }
 
-                java.math.BigDecimal avgPercent = studentService.calculateAveragePercentage(student.getStudentId());
-                if (avgPercent != null) {
-                    writer.println("Average Percentage: " + String.format("%.2f%%", avgPercent));
-                }
+    private void writeTranscriptCSV(java.io.File file, List<Enrollment> enrollments) throws java.io.IOException {
+        try (java.io.PrintWriter writer = new java.io.PrintWriter(file)) {
+
+            writer.println("STUDENT TRANSCRIPT");
+            writer.println("Student: " + student.getRollNo());
+            writer.println("Program: " + student.getProgram());
+            writer.println("Year: " + student.getYear());
+            writer.println();
+            writer.println("Course Code,Course Title,Section,Semester,Final Grade,Percentage");
+
+            for (Enrollment enrollment : enrollments) {
+                FinalGrade grade = enrollment.getFinalGrade();
+                String finalGrade = grade != null && grade.isGraded() ? grade.getLetterGrade() : "N/A";
+                String percentStr = grade != null && grade.isGraded() ? String.format("%.2f%%", grade.getFinalPercentage()) : "N/A";
+
+                writer.printf("%s,%s,%s,%s %d,%s,%s%n",
+                    enrollment.getCourseCode(),
+                    enrollment.getCourseTitle(),
+                    enrollment.getSectionCode(),
+                    enrollment.getSemester(),
+                    enrollment.getYear(),
+                    finalGrade,
+                    percentStr);
+            }
 
-                MessageUtil.showSuccess(this, "Transcript exported successfully to: " + fileChooser.getSelectedFile().getAbsolutePath());
-            } catch (Exception e) {
-                MessageUtil.showError(this, "Failed to export transcript: " + e.getMessage());
+            writer.println();
+            writer.println("OVERALL ACADEMIC PERFORMANCE");
+            String cgpaStr = studentService.formatCGPA(studentService.calculateCGPA(student.getStudentId()));
+            writer.println("CGPA: " + cgpaStr);
+
+            java.math.BigDecimal avgPercent = studentService.calculateAveragePercentage(enrollments);
+            if (avgPercent != null) {
+                writer.println("Average Percentage: " + String.format("%.2f%%", avgPercent));
             }
         }
     }
 
     private void exportTranscriptPDF() {
-        List<Enrollment> enrollments = studentService.getEnrollments(student.getStudentId());
-        if (enrollments.isEmpty()) {
-            MessageUtil.showInfo(this, "No enrollments to export.");
-            return;
-        }
+        loader.load("export", () -> studentService.getEnrollments(student.getStudentId()), enrollments -> {
+            if (enrollments.isEmpty()) {
+                MessageUtil.showInfo(this, "No enrollments to export.");
+                return;
+            }
 
-        javax.swing.JFileChooser fileChooser = new javax.swing.JFileChooser();
-        fileChooser.setSelectedFile(new java.io.File(student.getRollNo() + "_transcript.pdf"));
-
-        if (fileChooser.showSaveDialog(this) == javax.swing.JFileChooser.APPROVE_OPTION) {
-            try {
-                com.lowagie.text.Document document = new com.lowagie.text.Document();
-                com.lowagie.text.pdf.PdfWriter.getInstance(document, new java.io.FileOutputStream(fileChooser.getSelectedFile()));
-                document.open();
-
-                com.lowagie.text.Font titleFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 18, com.lowagie.text.Font.BOLD);
-                com.lowagie.text.Font headerFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 12, com.lowagie.text.Font.BOLD);
-                com.lowagie.text.Font normalFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 10, com.lowagie.text.Font.NORMAL);
-                com.lowagie.text.Font cgpaFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 14, com.lowagie.text.Font.BOLD);
-
-                document.add(new com.lowagie.text.Paragraph("STUDENT TRANSCRIPT", titleFont));
-                document.add(new com.lowagie.text.Paragraph(" "));
-                document.add(new com.lowagie.text.Paragraph("Student: " + student.getRollNo(), headerFont));
-                document.add(new com.lowagie.text.Paragraph("Program: " + student.getProgram(), normalFont));
-                document.add(new com.lowagie.text.Paragraph("Year: " + student.getYear(), normalFont));
-                document.add(new com.lowagie.text.Paragraph(" "));
-
-                com.lowagie.text.pdf.PdfPTable table = new com.lowagie.text.pdf.PdfPTable(5);
-                table.setWidthPercentage(100);
-
-                table.addCell(new com.lowagie.text.Phrase("Course", headerFont));
-                table.addCell(new com.lowagie.text.Phrase("Section", headerFont));
-                table.addCell(new com.lowagie.text.Phrase("Semester", headerFont));
-                table.addCell(new com.lowagie.text.Phrase("Grade", headerFont));
-                table.addCell(new com.lowagie.text.Phrase("Percentage", headerFont));
-
-                for (Enrollment enrollment : enrollments) {
-                    String finalGrade = studentService.calculateFinalGrade(enrollment.getEnrollmentId());
-                    java.math.BigDecimal finalPercent = studentService.calculateFinalPercentage(enrollment.getEnrollmentId());
-                    String percentStr = finalPercent != null ? String.format("%.2f%%", finalPercent) : "N/A";
-
-                    table.addCell(new com.lowagie.text.Phrase(enrollment.getCourseCode() + " - " + enrollment.getCourseTitle(), normalFont));
-                    table.addCell(new com.lowagie.text.Phrase(enrollment.getSectionCode(), normalFont));
-                    table.addCell(new com.lowagie.text.Phrase(enrollment.getSemester() + " " + enrollment.getYear(), normalFont));
-                    table.addCell(new com.lowagie.text.Phrase(finalGrade, normalFont));
-                    table.addCell(new com.lowagie.text.Phrase(percentStr, normalFont));
-                }
+            javax.swing.JFileChooser fileChooser = new javax.swing.JFileChooser();
+            fileChooser.setSelectedFile(new java.io.File(student.getRollNo() + "_transcript.pdf"));
 
-                document.add(table);
+            if (fileChooser.showSaveDialog(this) == javax.swing.JFileChooser.APPROVE_OPTION) {
+                java.io.File file = fileChooser.getSelectedFile();
+                loader.run(() -> {
+                    writeTranscriptPDF(file, enrollments);
+                    return file;
+                }, written -> MessageUtil.showSuccess(this, "Transcript exported successfully to: " + written.getAbsolutePath()),
+                   e -> MessageUtil.showError(this, "Failed to export transcript: " + e.getMessage()));
+            }
+        });
+    }
 
-                document.add(new com.lowagie.text.Paragraph(" "));
-                document.add(new com.lowagie.text.Paragraph("OVERALL ACADEMIC PERFORMANCE", headerFont));
-                String cgpaStr = studentService.getFormattedCGPA(student.getStudentId());
-                document.add(new com.lowagie.text.Paragraph("CGPA: " + cgpaStr, cgpaFont));
+    private void writeTranscriptPDF(java.io.File file, List<Enrollment> enrollments) throws Exception {
+        com.lowagie.text.Document document = new com.lowagie.text.Document();
+        com.lowagie.text.pdf.PdfWriter.getInstance(document, new java.io.FileOutputStream(file));
+        document.open();
 
-                java.math.BigDecimal avgPercent = studentService.calculateAveragePercentage(student.getStudentId());
-                if (avgPercent != null) {
-                    document.add(new com.lowagie.text.Paragraph("Average Percentage: " + String.format("%.2f%%", avgPercent), normalFont));
-                }
+        com.lowagie.text.Font titleFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 18, com.lowagie.text.Font.BOLD);
+        com.lowagie.text.Font headerFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 12, com.lowagie.text.Font.BOLD);
+        com.lowagie.text.Font normalFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 10, com.lowagie.text.Font.NORMAL);
+        com.lowagie.text.Font cgpaFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 14, com.lowagie.text.Font.BOLD);
 
-                document.add(new com.lowagie.text.Paragraph(" "));
-                document.add(new com.lowagie.text.Paragraph("Grade Scale:", headerFont));
-                document.add(new com.lowagie.text.Paragraph("A+ (95-100%) | A (90-94.99%) | A- (85-89.99%) | B+ (80-84.99%) | B (75-79.99%)", normalFont));
-                document.add(new com.lowagie.text.Paragraph("B- (70-74.99%) | C+ (65-69.99%) | C (60-64.99%) | C- (55-59.99%) | D (50-54.99%) | F (<50%)", normalFont));
+        document.add(new com.lowagie.text.Paragraph("STUDENT TRANSCRIPT", titleFont));
+        document.add(new com.lowagie.text.Paragraph(" "));
+        document.add(new com.lowagie.text.Paragraph("Student: " + student.getRollNo(), headerFont));
+        document.add(new com.lowagie.text.Paragraph("Program: " + student.getProgram(), normalFont));
+        document.add(new com.lowagie.text.Paragraph("Year: " + student.getYear(), normalFont));
+        document.add(new com.lowagie.text.Paragraph(" "));
 
-                document.add(new com.lowagie.text.Paragraph(" "));
-                document.add(new com.lowagie.text.Paragraph("CGPA Scale (10-point):", headerFont));
-                document.add(new com.lowagie.text.Paragraph("A+ = 10.0 | A = 9.0 | A- = 8.5 | B+ = 8.0 | B = 7.0 | B- = 6.5", normalFont));
-                document.add(new com.lowagie.text.Paragraph("C+ = 6.0 | C = 5.0 | C- = 4.5 | D = 4.0 | F = 0.0", normalFont));
+        com.lowagie.text.pdf.PdfPTable table = new com.lowagie.text.pdf.PdfPTable(5);
+        table.setWidthPercentage(100);
 
-                document.close();
+        table.addCell(new com.lowagie.text.Phrase("Course", headerFont));
+        table.addCell(new com.lowagie.text.Phrase("Section", headerFont));
+        table.addCell(new com.lowagie.text.Phrase("Semester", headerFont));
+        table.addCell(new com.lowagie.text.Phrase("Grade", headerFont));
+        table.addCell(new com.lowagie.text.Phrase("Percentage", headerFont));
 
-                MessageUtil.showSuccess(this, "Transcript exported successfully to: " + fileChooser.getSelectedFile().getAbsolutePath());
-            } catch (Exception e) {
-                MessageUtil.showError(this, "Failed to export transcript: " + e.getMessage());
-            }
+        for (Enrollment enrollment : enrollments) {
+            FinalGrade grade = enrollment.getFinalGrade();
+            String finalGrade = grade != null && grade.isGraded() ? grade.getLetterGrade() : "N/A";
+            String percentStr = grade != null && grade.isGraded() ? String.format("%.2f%%", grade.getFinalPercentage()) : "N/A";
+
+            table.addCell(new com.lowagie.text.Phrase(enrollment.getCourseCode() + " - " + enrollment.getCourseTitle(), normalFont));
+            table.addCell(new com.lowagie.text.Phrase(enrollment.getSectionCode(), normalFont));
+            table.addCell(new com.lowagie.text.Phrase(enrollment.getSemester() + " " + enrollment.getYear(), normalFont));
+            table.addCell(new com.lowagie.text.Phrase(finalGrade, normalFont));
+            table.addCell(new com.lowagie.text.Phrase(percentStr, normalFont));
+        }
+
+        document.add(table);
+
+        document.add(new com.lowagie.text.Paragraph(" "));
+        document.add(new com.lowagie.text.Paragraph("OVERALL ACADEMIC PERFORMANCE", headerFont));
+        String cgpaStr = studentService.formatCGPA(studentService.calculateCGPA(student.getStudentId()));
+        document.add(new com.lowagie.text.Paragraph("CGPA: " + cgpaStr, cgpaFont));
+
+        java.math.BigDecimal avgPercent = studentService.calculateAveragePercentage(enrollments);
+        if (avgPercent != null) {
+            document.add(new com.lowagie.text.Paragraph("Average Percentage: " + String.format("%.2f%%", avgPercent), normalFont));
         }
+
+        document.add(new com.lowagie.text.Paragraph(" "));
+        document.add(new com.lowagie.text.Paragraph("Grade Scale:", headerFont));
+        document.add(new com.lowagie.text.Paragraph("A+ (95-100%) | A (90-94.99%) | A- (85-89.99%) | B+ (80-84.99%) | B (75-79.99%)", normalFont));
+        document.add(new com.lowagie.text.Paragraph("B- (70-74.99%) | C+ (65-69.99%) | C (60-64.99%) | C- (55-59.99%) | D (50-54.99%) | F (<50%)", normalFont));
+
+        document.add(new com.lowagie.text.Paragraph(" "));
+        document.add(new com.lowagie.text.Paragraph("CGPA Scale (10-point):", headerFont));
+        document.add(new com.lowagie.text.Paragraph("A+ = 10.0 | A = 9.0 | A- = 8.5 | B+ = 8.0 | B = 7.0 | B- = 6.5", normalFont));
+        document.add(new com.lowagie.text.Paragraph("C+ = 6.0 | C = 5.0 | C- = 4.5 | D = 4.0 | F = 0.0", normalFont));
+
+        document.close();
     }
 
     private void logout() {
@@ -1000,6 +1241,12 @@ public class StudentDashboard extends JFrame {
         }
     }
 
+    @Override
+    public void dispose() {
+        loader.cancelAll();
+        super.dispose();
+    }
+
     private String escapeHtml(String text) {
         if (text == null) {
             return "";
@@ -1010,4 +1257,28 @@ public class StudentDashboard extends JFrame {
                    .replace("\"", "&quot;")
                    .replace("'", "&#39;");
     }
+
+    private static class GradesSnapshot {
+        private final List<Enrollment> enrollments;
+        private final List<Object[]> rows;
+        private final String formattedCGPA;
+        private final BigDecimal cgpa;
+
+        private GradesSnapshot(List<Enrollment> enrollments, List<Object[]> rows, String formattedCGPA, BigDecimal cgpa) {
+            this.enrollments = enrollments;
+            this.rows = rows;
+            this.formattedCGPA = formattedCGPA;
+            this.cgpa = cgpa;
+        }
+    }
+
+    private static class GradeDetails {
+        private final List<Grade> grades;
+        private final String formattedFinalGrade;
+
+        private GradeDetails(List<Grade> grades, String formattedFinalGrade) {
+            this.grades = grades;
+            this.formattedFinalGrade = formattedFinalGrade;
+        }
+    }
 }
@@ -88,12 +88,31 @@ public class DatabaseManager {
         erpConfig.setMinimumIdle(Integer.parseInt(properties.getProperty("db.pool.minimumIdle", "15")));
         erpConfig.setConnectionTimeout(Long.parseLong(properties.getProperty("db.pool.connectionTimeout", "30000")));
         erpConfig.setPoolName("Erp-DB-Pool");
+        erpConfig.addDataSourceProperty("rewriteBatchedStatements",
+                properties.getProperty("erp.db.rewriteBatchedStatements", "true"));
 
         erpDataSource = new HikariDataSource(erpConfig);
 
         logger.info("Database connection pools initialized successfully");
     }
 
+    public String getProperty(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+
+    public int getIntProperty(String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value '{}' for {}, using {}", value, key, defaultValue);
+            return defaultValue;
+        }
+    }
+
     public Connection getAuthConnection() throws SQLException {
         return authDataSource.getConnection();
     }
@@ -0,0 +1,169 @@
+package edu.univ.erp.util;
+
+import edu.univ.erp.domain.FinalGrade;
+import edu.univ.erp.domain.Grade;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+public final class GradeCalculator {
+    public static final int WEIGHTED_SCALE = 4;
+    public static final int PERCENT_SCALE = 2;
+
+    private static final long NOT_EXACT = Long.MIN_VALUE;
+    private static final long MAX_INPUT_UNITS = 1_000_000L;
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L};
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+    private static final long[] LETTER_CUTOFFS = {9500, 9000, 8500, 8000, 7500, 7000, 6500, 6000, 5500, 5000};
+    private static final String[] LETTERS = {"A+", "A", "A-", "B+", "B", "B-", "C+", "C", "C-", "D"};
+    private static final int[] GRADE_POINT_TENTHS = {100, 90, 85, 80, 70, 65, 60, 50, 45, 40};
+    private static final String FAIL = "F";
+
+    private GradeCalculator() {}
+
+    public static boolean isCounted(Grade grade) {
+        return grade != null && grade.getScore() != null && grade.getMaxScore() != null
+                && grade.getWeightage() != null && grade.getMaxScore().signum() > 0;
+    }
+
+    public static long weightedScoreUnits(Grade grade) {
+        if (!isCounted(grade)) {
+            return 0;
+        }
+
+        long score = toUnits(grade.getScore(), PERCENT_SCALE);
+        long maxScore = toUnits(grade.getMaxScore(), PERCENT_SCALE);
+        long weightage = toUnits(grade.getWeightage(), PERCENT_SCALE);
+        if (!isSmall(score) || !isSmall(maxScore) || !isSmall(weightage)) {
+            return weightedScoreExact(grade);
+        }
+
+        long ratio = divideHalfUp(score * 10_000L, maxScore);
+        long percentage = ratio * 100L;
+        return divideHalfUp(percentage * weightage, 10_000L);
+    }
+
+    public static long weightageUnits(Grade grade) {
+        if (!isCounted(grade)) {
+            return 0;
+        }
+        long weightage = toUnits(grade.getWeightage(), PERCENT_SCALE);
+        return weightage != NOT_EXACT ? weightage : toUnitsRounded(grade.getWeightage(), PERCENT_SCALE);
+    }
+
+    public static long percentageUnits(long weightedScoreUnits) {
+        return divideHalfUp(weightedScoreUnits, POWERS_OF_TEN[WEIGHTED_SCALE - PERCENT_SCALE]);
+    }
+
+    public static String letterGrade(long percentageUnits) {
+        int index = cutoffIndex(percentageUnits);
+        return index < 0 ? FAIL : LETTERS[index];
+    }
+
+    public static String letterGrade(BigDecimal percentage) {
+        long units = toUnits(percentage, PERCENT_SCALE);
+        if (units == NOT_EXACT) {
+            units = toUnitsFloor(percentage, PERCENT_SCALE);
+        }
+        return letterGrade(units);
+    }
+
+    public static int gradePointTenths(long percentageUnits) {
+        int index = cutoffIndex(percentageUnits);
+        return index < 0 ? 0 : GRADE_POINT_TENTHS[index];
+    }
+
+    public static BigDecimal cgpa(long gradePointCreditTenths, long credits) {
+        if (credits == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(divideHalfUp(gradePointCreditTenths * 10L, credits), PERCENT_SCALE);
+    }
+
+    public static BigDecimal averagePercentage(long weightedScoreUnitsTotal, int count) {
+        return BigDecimal.valueOf(divideHalfUp(weightedScoreUnitsTotal,
+                POWERS_OF_TEN[WEIGHTED_SCALE - PERCENT_SCALE] * count), PERCENT_SCALE);
+    }
+
+    public static FinalGrade calculate(int enrollmentId, List<Grade> grades) {
+        long weightedScore = 0;
+        long totalWeightage = 0;
+        for (int i = 0; i < grades.size(); i++) {
+            Grade grade = grades.get(i);
+            weightedScore += weightedScoreUnits(grade);
+            totalWeightage += weightageUnits(grade);
+        }
+        return complete(new FinalGrade(enrollmentId), weightedScore, totalWeightage);
+    }
+
+    public static FinalGrade complete(FinalGrade finalGrade, long weightedScoreUnits, long weightageUnits) {
+        finalGrade.setWeightedScore(BigDecimal.valueOf(weightedScoreUnits, WEIGHTED_SCALE));
+        finalGrade.setTotalWeightage(BigDecimal.valueOf(weightageUnits, PERCENT_SCALE));
+        if (weightageUnits == 0) {
+            finalGrade.setFinalPercentage(null);
+            finalGrade.setLetterGrade(null);
+        } else {
+            long percentage = percentageUnits(weightedScoreUnits);
+            finalGrade.setFinalPercentage(BigDecimal.valueOf(percentage, PERCENT_SCALE));
+            finalGrade.setLetterGrade(letterGrade(percentage));
+        }
+        return finalGrade;
+    }
+
+    public static long weightedScoreUnits(FinalGrade finalGrade) {
+        long units = toUnits(finalGrade.getWeightedScore(), WEIGHTED_SCALE);
+        return units != NOT_EXACT ? units : toUnitsRounded(finalGrade.getWeightedScore(), WEIGHTED_SCALE);
+    }
+
+    public static long weightageUnits(FinalGrade finalGrade) {
+        long units = toUnits(finalGrade.getTotalWeightage(), PERCENT_SCALE);
+        return units != NOT_EXACT ? units : toUnitsRounded(finalGrade.getTotalWeightage(), PERCENT_SCALE);
+    }
+
+    private static int cutoffIndex(long percentageUnits) {
+        for (int i = 0; i < LETTER_CUTOFFS.length; i++) {
+            if (percentageUnits >= LETTER_CUTOFFS[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long weightedScoreExact(Grade grade) {
+        BigDecimal percentage = grade.getScore()
+                .divide(grade.getMaxScore(), WEIGHTED_SCALE, RoundingMode.HALF_UP)
+                .multiply(HUNDRED);
+        BigDecimal weighted = percentage.multiply(grade.getWeightage())
+                .divide(HUNDRED, WEIGHTED_SCALE, RoundingMode.HALF_UP);
+        return weighted.movePointRight(WEIGHTED_SCALE).longValueExact();
+    }
+
+    private static boolean isSmall(long units) {
+        return units != NOT_EXACT && units >= 0 && units < MAX_INPUT_UNITS;
+    }
+
+    private static long toUnits(BigDecimal value, int scale) {
+        int valueScale = value.scale();
+        if (valueScale < 0 || valueScale > scale || value.precision() > 15) {
+            return NOT_EXACT;
+        }
+        return value.movePointRight(scale).longValueExact();
+    }
+
+    private static long toUnitsRounded(BigDecimal value, int scale) {
+        return value.setScale(scale, RoundingMode.HALF_UP).movePointRight(scale).longValueExact();
+    }
+
+    private static long toUnitsFloor(BigDecimal value, int scale) {
+        return value.setScale(scale, RoundingMode.FLOOR).movePointRight(scale).longValueExact();
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        if (dividend < 0) {
+            return -divideHalfUp(-dividend, divisor);
+        }
+        return (2 * dividend + divisor) / (2 * divisor);
+    }
+}
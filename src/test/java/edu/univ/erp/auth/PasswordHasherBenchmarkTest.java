@@ -0,0 +1,24 @@
+package edu.univ.erp.auth;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("benchmark")
+class PasswordHasherBenchmarkTest {
+    private static final int MIN_COST = 10;
+    private static final int MAX_COST = 13;
+    private static final int SAMPLES = 3;
+
+    @Test
+    void loginLatencyPerCost() {
+        PasswordHasher.measureMillis(MIN_COST);
+
+        for (int cost = MIN_COST; cost <= MAX_COST; cost++) {
+            double best = Double.MAX_VALUE;
+            for (int i = 0; i < SAMPLES; i++) {
+                best = Math.min(best, PasswordHasher.measureMillis(cost));
+            }
+            System.out.printf("BCrypt cost %d: %.1f ms per login%n", cost, best);
+        }
+    }
+}
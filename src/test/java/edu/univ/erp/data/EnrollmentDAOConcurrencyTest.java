@@ -0,0 +1,191 @@
+package edu.univ.erp.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnrollmentDAOConcurrencyTest {
+    private static final int CAPACITY = 10;
+    private static final int STUDENTS = 60;
+    private static final int SUBMISSIONS_PER_STUDENT = 3;
+
+    private final EnrollmentDAO enrollmentDAO = new EnrollmentDAO();
+
+    @Test
+    void concurrentReservationsNeverOverfillSection() throws Exception {
+        try (ErpTestDatabase db = ErpTestDatabase.open()) {
+            int courseId = db.createCourse(4);
+            int sectionId = db.createSection(courseId, "A", "Mon 09:00-10:00", CAPACITY);
+            int otherSectionId = db.createSection(courseId, "B", "Tue 09:00-10:00", CAPACITY);
+            List<Integer> students = db.createStudents(STUDENTS);
+            LocalDateTime deadline = LocalDateTime.now().plusDays(7);
+
+            List<Callable<ReservationResult>> submissions = new ArrayList<>();
+            for (int studentId : students) {
+                for (int i = 0; i < SUBMISSIONS_PER_STUDENT; i++) {
+                    submissions.add(() -> enrollmentDAO.reserveSeat(studentId, sectionId, deadline));
+                }
+                submissions.add(() -> enrollmentDAO.reserveSeat(studentId, otherSectionId, deadline));
+            }
+
+            List<ReservationResult> results = runTogether(submissions);
+            long okA = 0;
+            for (int i = 0; i < results.size(); i++) {
+                boolean sectionA = i % (SUBMISSIONS_PER_STUDENT + 1) != SUBMISSIONS_PER_STUDENT;
+                if (sectionA && results.get(i).isSuccess()) {
+                    okA++;
+                }
+            }
+
+            int enrolledCount = db.queryInt("SELECT enrolled_count FROM sections WHERE section_id = ?", sectionId);
+            int enrolledRows = db.queryInt("SELECT COUNT(*) FROM enrollments WHERE section_id = ? AND status = 'ENROLLED'", sectionId);
+            int otherCount = db.queryInt("SELECT enrolled_count FROM sections WHERE section_id = ?", otherSectionId);
+            int otherRows = db.queryInt("SELECT COUNT(*) FROM enrollments WHERE section_id = ? AND status = 'ENROLLED'", otherSectionId);
+            int doubleEnrolled = db.queryInt("SELECT COUNT(*) FROM (SELECT e.student_id FROM enrollments e " +
+                    "JOIN sections s ON e.section_id = s.section_id WHERE s.course_id = ? AND e.status = 'ENROLLED' " +
+                    "GROUP BY e.student_id HAVING COUNT(*) > 1) t", courseId);
+
+            assertTrue(enrolledCount <= CAPACITY, "enrolled_count " + enrolledCount + " exceeds capacity " + CAPACITY);
+            assertEquals(enrolledRows, enrolledCount, "enrolled_count drifted from enrollment rows");
+            assertEquals(okA, enrolledCount, "successful reservations do not match enrolled_count");
+            assertEquals(otherRows, otherCount, "enrolled_count drifted from enrollment rows in second section");
+            assertEquals(0, doubleEnrolled, "student enrolled twice in the same course");
+        }
+    }
+
+    @Test
+    void reEnrollingAfterDropStartsWithoutOldGrades() throws Exception {
+        try (ErpTestDatabase db = ErpTestDatabase.open()) {
+            int courseId = db.createCourse(4);
+            int sectionId = db.createSection(courseId, "A", "Mon 09:00-10:00", CAPACITY);
+            int studentId = db.createStudents(1).get(0);
+
+            ReservationResult first = enrollmentDAO.reserveSeat(studentId, sectionId, null);
+            assertTrue(first.isSuccess());
+            int enrollmentId = first.getEnrollmentId();
+            db.update("INSERT INTO grades (enrollment_id, component, score, max_score, weightage) " +
+                    "VALUES (?, 'Quiz', 8, 10, 20)", enrollmentId);
+            db.update("INSERT INTO final_grades (enrollment_id, weighted_score, total_weightage, final_percentage, letter_grade) " +
+                    "VALUES (?, 16, 20, 80, 'A')", enrollmentId);
+
+            assertEquals(0, enrollmentDAO.dropAndPromote(enrollmentId, null));
+            ReservationResult second = enrollmentDAO.reserveSeat(studentId, sectionId, null);
+
+            assertTrue(second.isSuccess());
+            assertEquals(0, db.queryInt("SELECT COUNT(*) FROM grades WHERE enrollment_id = ?", second.getEnrollmentId()));
+            assertEquals(0, db.queryInt("SELECT COUNT(*) FROM final_grades WHERE enrollment_id = ?", second.getEnrollmentId()));
+            assertEquals(1, db.queryInt("SELECT enrolled_count FROM sections WHERE section_id = ?", sectionId));
+        }
+    }
+
+    @Test
+    void promotionSkipsStudentAlreadyEnrolledInCourse() throws Exception {
+        try (ErpTestDatabase db = ErpTestDatabase.open()) {
+            int courseId = db.createCourse(4);
+            int sectionId = db.createSection(courseId, "A", "Mon 09:00-10:00", 1);
+            int otherSectionId = db.createSection(courseId, "B", "Tue 09:00-10:00", CAPACITY);
+            List<Integer> students = db.createStudents(3);
+            int holder = students.get(0);
+            int skipped = students.get(1);
+            int promoted = students.get(2);
+
+            ReservationResult held = enrollmentDAO.reserveSeat(holder, sectionId, null);
+            assertTrue(held.isSuccess());
+            db.update("INSERT INTO waitlist (student_id, section_id) VALUES (?, ?)", skipped, sectionId);
+            db.update("INSERT INTO waitlist (student_id, section_id) VALUES (?, ?)", promoted, sectionId);
+            assertTrue(enrollmentDAO.reserveSeat(skipped, otherSectionId, null).isSuccess());
+
+            assertEquals(promoted, enrollmentDAO.dropAndPromote(held.getEnrollmentId(), null));
+            assertEquals(1, db.queryInt("SELECT enrolled_count FROM sections WHERE section_id = ?", sectionId));
+            assertEquals(0, db.queryInt("SELECT COUNT(*) FROM enrollments WHERE student_id = ? AND section_id = ?",
+                    skipped, sectionId));
+            assertEquals(0, db.queryInt("SELECT COUNT(*) FROM waitlist WHERE section_id = ?", sectionId));
+        }
+    }
+
+    @Test
+    void concurrentClashingRegistrationsAdmitOnlyOne() throws Exception {
+        try (ErpTestDatabase db = ErpTestDatabase.open()) {
+            List<Integer> sectionIds = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                sectionIds.add(db.createSection(db.createCourse(3), "A", "MWF 09:00-10:00", CAPACITY));
+            }
+            int freeSectionId = db.createSection(db.createCourse(3), "A", "TTh 09:00-10:00", CAPACITY);
+            int studentId = db.createStudents(1).get(0);
+
+            List<Callable<ReservationResult>> submissions = new ArrayList<>();
+            for (int sectionId : sectionIds) {
+                submissions.add(() -> enrollmentDAO.reserveSeat(studentId, sectionId, null, true));
+            }
+            submissions.add(() -> enrollmentDAO.reserveSeat(studentId, freeSectionId, null, true));
+
+            List<ReservationResult> results = runTogether(submissions);
+            int ok = 0;
+            for (int i = 0; i < sectionIds.size(); i++) {
+                if (results.get(i).isSuccess()) {
+                    ok++;
+                } else {
+                    assertEquals(ReservationResult.Outcome.CLASH, results.get(i).getOutcome());
+                }
+            }
+            assertEquals(1, ok, "clashing sections admitted together");
+            assertTrue(results.get(sectionIds.size()).isSuccess());
+        }
+    }
+
+    @Test
+    void promotionSkipsStudentWhoseTimetableClashes() throws Exception {
+        try (ErpTestDatabase db = ErpTestDatabase.open()) {
+            int sectionId = db.createSection(db.createCourse(3), "A", "MWF 09:00-10:00", 1);
+            int clashingSectionId = db.createSection(db.createCourse(3), "A", "Mon 09:30-10:30", CAPACITY);
+            List<Integer> students = db.createStudents(3);
+            int holder = students.get(0);
+            int clashing = students.get(1);
+            int promoted = students.get(2);
+
+            ReservationResult held = enrollmentDAO.reserveSeat(holder, sectionId, null);
+            assertTrue(held.isSuccess());
+            assertTrue(enrollmentDAO.reserveSeat(clashing, clashingSectionId, null).isSuccess());
+            db.update("INSERT INTO waitlist (student_id, section_id) VALUES (?, ?)", clashing, sectionId);
+            db.update("INSERT INTO waitlist (student_id, section_id) VALUES (?, ?)", promoted, sectionId);
+
+            assertEquals(promoted, enrollmentDAO.dropAndPromote(held.getEnrollmentId(), null, true));
+            assertEquals(0, db.queryInt("SELECT COUNT(*) FROM enrollments WHERE student_id = ? AND section_id = ?",
+                    clashing, sectionId));
+            assertEquals(1, db.queryInt("SELECT enrolled_count FROM sections WHERE section_id = ?", sectionId));
+        }
+    }
+
+    private static <T> List<T> runTogether(List<Callable<T>> tasks) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package edu.univ.erp.data;
+
+import edu.univ.erp.util.DatabaseManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ErpTestDatabase implements AutoCloseable {
+    private final String tag = "T" + Long.toString(System.nanoTime() % 1_000_000_000L, 36).toUpperCase();
+    private final List<Integer> courseIds = new ArrayList<>();
+    private final List<Integer> studentIds = new ArrayList<>();
+    private int nextSuffix;
+
+    static ErpTestDatabase open() {
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection()) {
+            assumeTrue(conn.isValid(2), "erp_db is not reachable");
+        } catch (SQLException | RuntimeException e) {
+            assumeTrue(false, "erp_db is not reachable: " + e.getMessage());
+        }
+        return new ErpTestDatabase();
+    }
+
+    int createCourse(int credits) throws SQLException {
+        int id = insert("INSERT INTO courses (code, title, credits) VALUES (?, ?, ?)",
+                tag + (nextSuffix++), "Test course " + tag, credits);
+        courseIds.add(id);
+        return id;
+    }
+
+    int createSection(int courseId, String sectionCode, String dayTime, int capacity) throws SQLException {
+        return insert("INSERT INTO sections (course_id, section_code, day_time, room, capacity, enrolled_count, semester, year) " +
+                "VALUES (?, ?, ?, 'TEST', ?, 0, 'Test', 2099)", courseId, sectionCode, dayTime, capacity);
+    }
+
+    List<Integer> createStudents(int count) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int userId = -ThreadLocalRandom.current().nextInt(1, Integer.MAX_VALUE);
+            int id = insert("INSERT INTO students (user_id, roll_no, program, year) VALUES (?, ?, 'Test', 1)",
+                    userId, tag + "-" + (nextSuffix++));
+            ids.add(id);
+            studentIds.add(id);
+        }
+        return ids;
+    }
+
+    int enroll(int studentId, int sectionId) throws SQLException {
+        int id = insert("INSERT INTO enrollments (student_id, section_id, status) VALUES (?, ?, 'ENROLLED')",
+                studentId, sectionId);
+        update("UPDATE sections SET enrolled_count = enrolled_count + 1 WHERE section_id = ?", sectionId);
+        return id;
+    }
+
+    long selectsDuring(Runnable work) throws SQLException {
+        long start = selectCount();
+        long overhead = selectCount() - start;
+        long before = selectCount();
+        work.run();
+        return selectCount() - before - overhead;
+    }
+
+    private long selectCount() throws SQLException {
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement pstmt = conn.prepareStatement("SHOW GLOBAL STATUS LIKE 'Com_select'");
+             ResultSet rs = pstmt.executeQuery()) {
+            return rs.next() ? rs.getLong(2) : 0;
+        }
+    }
+
+    int queryInt(String sql, Object... params) throws SQLException {
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement pstmt = prepare(conn, sql, params);
+             ResultSet rs = pstmt.executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    int update(String sql, Object... params) throws SQLException {
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement pstmt = prepare(conn, sql, params)) {
+            return pstmt.executeUpdate();
+        }
+    }
+
+    private int insert(String sql, Object... params) throws SQLException {
+        try (Connection conn = DatabaseManager.getInstance().getErpConnection();
+             PreparedStatement pstmt = prepare(conn, sql, Statement.RETURN_GENERATED_KEYS, params)) {
+            pstmt.executeUpdate();
+            try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    private static PreparedStatement prepare(Connection conn, String sql, Object... params) throws SQLException {
+        return bind(conn.prepareStatement(sql), params);
+    }
+
+    private static PreparedStatement prepare(Connection conn, String sql, int keys, Object... params) throws SQLException {
+        return bind(conn.prepareStatement(sql, keys), params);
+    }
+
+    private static PreparedStatement bind(PreparedStatement pstmt, Object... params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            pstmt.setObject(i + 1, params[i]);
+        }
+        return pstmt;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        for (int courseId : courseIds) {
+            update("DELETE FROM courses WHERE course_id = ?", courseId);
+        }
+        for (int studentId : studentIds) {
+            update("DELETE FROM students WHERE student_id = ?", studentId);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package edu.univ.erp.data;
+
+import edu.univ.erp.domain.Enrollment;
+import edu.univ.erp.domain.Grade;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradeDAOQueryCountTest {
+    private static final String[] COMPONENTS = {"Quiz", "Midterm", "Final"};
+
+    private final GradeDAO gradeDAO = new GradeDAO();
+    private final EnrollmentDAO enrollmentDAO = new EnrollmentDAO();
+
+    @Test
+    void gradebookQueriesDoNotGrowWithSectionSize() throws Exception {
+        try (ErpTestDatabase db = ErpTestDatabase.open()) {
+            int courseId = db.createCourse(4);
+            long[] bySection = new long[2];
+            long[] roster = new long[2];
+            int[] sizes = {5, 200};
+
+            for (int i = 0; i < sizes.length; i++) {
+                int sectionId = db.createSection(courseId, "S" + i, "Mon 09:00-10:00", sizes[i]);
+                List<Integer> enrollmentIds = new ArrayList<>();
+                for (int studentId : db.createStudents(sizes[i])) {
+                    int enrollmentId = db.enroll(studentId, sectionId);
+                    enrollmentIds.add(enrollmentId);
+                    for (String component : COMPONENTS) {
+                        db.update("INSERT INTO grades (enrollment_id, component, score, max_score, weightage) " +
+                                "VALUES (?, ?, 7, 10, 30)", enrollmentId, component);
+                    }
+                }
+
+                List<Map<Integer, List<Grade>>> loaded = new ArrayList<>();
+                List<List<Enrollment>> enrolled = new ArrayList<>();
+                roster[i] = db.selectsDuring(() -> enrolled.add(enrollmentDAO.getBySection(sectionId)));
+                bySection[i] = db.selectsDuring(() -> loaded.add(gradeDAO.getBySection(sectionId)));
+                Map<Integer, List<Grade>> sectionGrades = loaded.get(0);
+
+                assertEquals(sizes[i], enrolled.get(0).size());
+                assertEquals(sizes[i], sectionGrades.size());
+                assertEquals(COMPONENTS.length, sectionGrades.get(enrollmentIds.get(0)).size());
+            }
+
+            assertTrue(bySection[0] <= 1, "getBySection issued " + bySection[0] + " queries");
+            assertEquals(bySection[0], bySection[1], "getBySection query count grew with section size");
+            assertTrue(roster[0] <= 1, "EnrollmentDAO.getBySection issued " + roster[0] + " queries");
+            assertEquals(roster[0], roster[1], "EnrollmentDAO.getBySection query count grew with section size");
+        }
+    }
+}
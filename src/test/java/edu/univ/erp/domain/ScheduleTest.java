@@ -0,0 +1,53 @@
+package edu.univ.erp.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScheduleTest {
+    private static final int MON = 1;
+    private static final int TUE = 1 << 1;
+    private static final int WED = 1 << 2;
+    private static final int THU = 1 << 3;
+    private static final int FRI = 1 << 4;
+
+    @Test
+    void dayMaskCoversEveryStoredFormat() {
+        assertEquals(MON | WED | FRI, Schedule.parse("MWF 09:00-10:00").getDayMask());
+        assertEquals(TUE | THU, Schedule.parse("TTh 11:00-12:30").getDayMask());
+        assertEquals(TUE | THU, Schedule.parse("TR 11:00-12:30").getDayMask());
+        assertEquals(MON | WED, Schedule.parse("Mon/Wed 14:00-15:30").getDayMask());
+        assertEquals(MON | THU, Schedule.parse("Mon 09:00-10:00; Thu 09:00-10:00").getDayMask());
+        assertEquals(FRI, Schedule.parse("Friday 08:00-09:00").getDayMask());
+    }
+
+    @Test
+    void filterDayNamesMatchParsedSchedules() {
+        String[] days = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+        int tth = Schedule.parse("TTh 11:00-12:30").getDayMask();
+        for (int day = 0; day < days.length; day++) {
+            int filter = Schedule.parseDayMask(days[day]);
+            assertEquals(1 << day, filter, days[day]);
+            assertEquals(day == 1 || day == 3, (tth & filter) != 0, "TTh on " + days[day]);
+        }
+    }
+
+    @Test
+    void overlapsRequiresSharedDayAndTime() {
+        Schedule mwf = Schedule.parse("MWF 09:00-10:00");
+        assertTrue(mwf.overlaps(Schedule.parse("Wed 09:30-11:00")));
+        assertTrue(mwf.overlaps(Schedule.parse("Tue 09:00-10:00; Fri 08:00-09:30")));
+        assertFalse(mwf.overlaps(Schedule.parse("TTh 09:00-10:00")));
+        assertFalse(mwf.overlaps(Schedule.parse("Mon 10:00-11:00")));
+        assertFalse(mwf.overlaps(Schedule.EMPTY));
+    }
+
+    @Test
+    void unparseableScheduleHasNoDays() {
+        assertTrue(Schedule.parse("TBA").isEmpty());
+        assertEquals(0, Schedule.parse(null).getDayMask());
+        assertEquals(0, Schedule.parseDayMask(null));
+    }
+}
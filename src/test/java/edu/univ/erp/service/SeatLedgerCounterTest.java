@@ -0,0 +1,54 @@
+package edu.univ.erp.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeatLedgerCounterTest {
+
+    @Test
+    void observingTheDatabaseKeepsInFlightHolds() {
+        SeatLedger.SeatCounter counter = new SeatLedger.SeatCounter();
+        counter.observe(3, 1);
+        assertTrue(counter.tryHold());
+        assertTrue(counter.tryHold());
+        assertFalse(counter.tryHold());
+
+        counter.observe(3, 1);
+        assertEquals(0, counter.available());
+
+        counter.settle(0);
+        counter.settle(0);
+        assertEquals(2, counter.available());
+    }
+
+    @Test
+    void seatFreedElsewhereIsSeenAfterRefresh() {
+        SeatLedger.SeatCounter counter = new SeatLedger.SeatCounter();
+        counter.observe(2, 2);
+        assertFalse(counter.tryHold());
+
+        counter.observe(2, 1);
+        assertTrue(counter.tryHold());
+        counter.settle(1);
+        assertEquals(0, counter.available());
+    }
+
+    @Test
+    void markFullTrustsTheDatabaseOverLocalHolds() {
+        SeatLedger.SeatCounter counter = new SeatLedger.SeatCounter();
+        counter.observe(5, 0);
+        assertTrue(counter.tryHold());
+        assertTrue(counter.tryHold());
+
+        counter.markFull();
+        assertEquals(0, counter.available());
+        counter.settle(0);
+        assertEquals(0, counter.available());
+
+        counter.observe(5, 4);
+        assertEquals(1, counter.available());
+    }
+}
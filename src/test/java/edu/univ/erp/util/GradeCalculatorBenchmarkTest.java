@@ -0,0 +1,66 @@
+package edu.univ.erp.util;
+
+import edu.univ.erp.domain.Grade;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+class GradeCalculatorBenchmarkTest {
+    private static final int GRADES = 4096;
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 200;
+
+    @Test
+    void compareFixedPointWithBigDecimal() {
+        Random random = new Random(1L);
+        Grade[] grades = new Grade[GRADES];
+        for (int i = 0; i < GRADES; i++) {
+            grades[i] = GradeCalculatorTest.randomGrade(random);
+        }
+
+        long fixedSum = 0;
+        BigDecimal referenceSum = BigDecimal.ZERO;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            fixedSum += fixedPoint(grades);
+            referenceSum = referenceSum.add(bigDecimal(grades));
+        }
+
+        long start = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            fixedSum += fixedPoint(grades);
+        }
+        long fixedNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            referenceSum = referenceSum.add(bigDecimal(grades));
+        }
+        long referenceNanos = System.nanoTime() - start;
+
+        long operations = (long) GRADES * MEASURED_ROUNDS;
+        System.out.printf("GradeCalculator.weightedScoreUnits: %.1f ns/op, BigDecimal reference: %.1f ns/op%n",
+                (double) fixedNanos / operations, (double) referenceNanos / operations);
+        assertEquals(referenceSum, BigDecimal.valueOf(fixedSum, GradeCalculator.WEIGHTED_SCALE));
+    }
+
+    private static long fixedPoint(Grade[] grades) {
+        long sum = 0;
+        for (Grade grade : grades) {
+            sum += GradeCalculator.weightedScoreUnits(grade);
+        }
+        return sum;
+    }
+
+    private static BigDecimal bigDecimal(Grade[] grades) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (Grade grade : grades) {
+            sum = sum.add(GradeCalculatorTest.referenceWeightedScore(grade));
+        }
+        return sum;
+    }
+}
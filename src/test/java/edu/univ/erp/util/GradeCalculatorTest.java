@@ -0,0 +1,107 @@
+package edu.univ.erp.util;
+
+import edu.univ.erp.domain.FinalGrade;
+import edu.univ.erp.domain.Grade;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GradeCalculatorTest {
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+    private static final int TRIPLES = 200_000;
+
+    @Test
+    void weightedScoreMatchesBigDecimalForRandomTriples() {
+        Random random = new Random(20240611L);
+        for (int i = 0; i < TRIPLES; i++) {
+            Grade grade = randomGrade(random);
+            BigDecimal expected = referenceWeightedScore(grade);
+            BigDecimal actual = BigDecimal.valueOf(GradeCalculator.weightedScoreUnits(grade), GradeCalculator.WEIGHTED_SCALE);
+            assertEquals(expected, actual, "weighted score for " + grade);
+        }
+    }
+
+    @Test
+    void weightageMatchesBigDecimalForAnyScale() {
+        Random random = new Random(7L);
+        for (int i = 0; i < TRIPLES; i++) {
+            BigDecimal weightage = randomDecimal(random, 1_000_000, random.nextInt(6));
+            Grade grade = grade("10", "10", weightage);
+            long expected = weightage.setScale(GradeCalculator.PERCENT_SCALE, RoundingMode.HALF_UP)
+                    .movePointRight(GradeCalculator.PERCENT_SCALE).longValueExact();
+            assertEquals(expected, GradeCalculator.weightageUnits(grade), "weightage " + weightage);
+        }
+    }
+
+    @Test
+    void finalGradeMatchesBigDecimalForRandomComponents() {
+        Random random = new Random(42L);
+        for (int i = 0; i < 20_000; i++) {
+            List<Grade> grades = new ArrayList<>();
+            BigDecimal weighted = BigDecimal.ZERO;
+            BigDecimal weightage = BigDecimal.ZERO;
+            int components = 1 + random.nextInt(6);
+            for (int c = 0; c < components; c++) {
+                Grade grade = randomGrade(random);
+                grades.add(grade);
+                weighted = weighted.add(referenceWeightedScore(grade));
+                weightage = weightage.add(grade.getWeightage());
+            }
+
+            FinalGrade finalGrade = GradeCalculator.calculate(1, grades);
+            BigDecimal percentage = weighted.setScale(GradeCalculator.PERCENT_SCALE, RoundingMode.HALF_UP);
+
+            assertEquals(weighted, finalGrade.getWeightedScore());
+            assertEquals(weightage.setScale(GradeCalculator.PERCENT_SCALE), finalGrade.getTotalWeightage());
+            assertEquals(percentage, finalGrade.getFinalPercentage());
+            assertEquals(GradeCalculator.letterGrade(percentage), finalGrade.getLetterGrade());
+        }
+    }
+
+    @Test
+    void letterGradeBoundaries() {
+        assertEquals("A+", GradeCalculator.letterGrade(new BigDecimal("95.00")));
+        assertEquals("A", GradeCalculator.letterGrade(new BigDecimal("94.999")));
+        assertEquals("D", GradeCalculator.letterGrade(new BigDecimal("50")));
+        assertEquals("F", GradeCalculator.letterGrade(new BigDecimal("49.99")));
+    }
+
+    static Grade randomGrade(Random random) {
+        int scale = random.nextInt(10) == 0 ? random.nextInt(5) : GradeCalculator.PERCENT_SCALE;
+        BigDecimal maxScore = randomDecimal(random, 100_000, scale).add(BigDecimal.ONE);
+        BigDecimal score = randomDecimal(random, maxScore.movePointRight(2).intValue() + 1, scale).min(maxScore);
+        BigDecimal weightage = randomDecimal(random, 10_001, GradeCalculator.PERCENT_SCALE);
+        return grade(score, maxScore, weightage);
+    }
+
+    static BigDecimal referenceWeightedScore(Grade grade) {
+        BigDecimal percentage = grade.getScore()
+                .divide(grade.getMaxScore(), GradeCalculator.WEIGHTED_SCALE, RoundingMode.HALF_UP)
+                .multiply(HUNDRED);
+        return percentage.multiply(grade.getWeightage())
+                .divide(HUNDRED, GradeCalculator.WEIGHTED_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal randomDecimal(Random random, int boundHundredths, int scale) {
+        long bound = BigDecimal.valueOf(boundHundredths, 2).movePointRight(scale).longValue();
+        return BigDecimal.valueOf((long) (random.nextDouble() * Math.max(1, bound)), scale);
+    }
+
+    private static Grade grade(String score, String maxScore, BigDecimal weightage) {
+        return grade(new BigDecimal(score), new BigDecimal(maxScore), weightage);
+    }
+
+    private static Grade grade(BigDecimal score, BigDecimal maxScore, BigDecimal weightage) {
+        Grade grade = new Grade(1, "Component");
+        grade.setScore(score);
+        grade.setMaxScore(maxScore);
+        grade.setWeightage(weightage);
+        return grade;
+    }
+}